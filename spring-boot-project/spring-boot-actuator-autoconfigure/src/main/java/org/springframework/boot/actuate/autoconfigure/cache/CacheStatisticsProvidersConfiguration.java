@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.cache;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.spring.cache.HazelcastCache;
+import net.sf.ehcache.Ehcache;
+
+import org.springframework.boot.actuate.cache.CacheStatisticsProvider;
+import org.springframework.boot.actuate.cache.CaffeineCacheStatisticsProvider;
+import org.springframework.boot.actuate.cache.EhCache2CacheStatisticsProvider;
+import org.springframework.boot.actuate.cache.HazelcastCacheStatisticsProvider;
+import org.springframework.boot.actuate.cache.JCacheCacheStatisticsProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.ehcache.EhCacheCache;
+import org.springframework.cache.jcache.JCacheCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Configure {@link CacheStatisticsProvider} beans.
+ *
+ * @author agent
+ */
+@Configuration
+class CacheStatisticsProvidersConfiguration {
+
+	@Configuration
+	@ConditionalOnClass({ CaffeineCache.class,
+			com.github.benmanes.caffeine.cache.Cache.class })
+	static class CaffeineCacheStatisticsProviderConfiguration {
+
+		@Bean
+		public CaffeineCacheStatisticsProvider caffeineCacheStatisticsProvider() {
+			return new CaffeineCacheStatisticsProvider();
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass({ CaffeineCache.class,
+			com.github.benmanes.caffeine.cache.Cache.class,
+			RedisConnectionFactory.class })
+	static class MultiLevelCacheStatisticsProviderConfiguration {
+
+		@Bean
+		public MultiLevelCacheStatisticsProvider multiLevelCacheStatisticsProvider() {
+			return new MultiLevelCacheStatisticsProvider();
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass({ EhCacheCache.class, Ehcache.class })
+	static class EhCache2CacheStatisticsProviderConfiguration {
+
+		@Bean
+		public EhCache2CacheStatisticsProvider ehCache2CacheStatisticsProvider() {
+			return new EhCache2CacheStatisticsProvider();
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass({ HazelcastCache.class, Hazelcast.class })
+	static class HazelcastCacheStatisticsProviderConfiguration {
+
+		@Bean
+		public HazelcastCacheStatisticsProvider hazelcastCacheStatisticsProvider() {
+			return new HazelcastCacheStatisticsProvider();
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnClass({ JCacheCache.class, javax.cache.CacheManager.class })
+	static class JCacheCacheStatisticsProviderConfiguration {
+
+		@Bean
+		public JCacheCacheStatisticsProvider jCacheCacheStatisticsProvider() {
+			return new JCacheCacheStatisticsProvider();
+		}
+
+	}
+
+}
@@ -18,39 +18,53 @@ package org.springframework.boot.actuate.autoconfigure.cache;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.cache.CachesEndpointProperties.Sampling;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnEnabledEndpoint;
+import org.springframework.boot.actuate.cache.CacheStatisticsProvider;
 import org.springframework.boot.actuate.cache.CachesEndpoint;
 import org.springframework.boot.actuate.cache.CachesEndpointWebExtension;
+import org.springframework.boot.actuate.cache.SamplingCache;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.RedisCacheDecorator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.cache.RedisCacheManager;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for {@link CachesEndpoint}.
  *
  * @author Johannes Edmeier
  * @author Stephane Nicoll
+ * @author agent
  * @since 2.1.0
  */
 @Configuration
 @ConditionalOnClass(CacheManager.class)
 @AutoConfigureAfter(CacheAutoConfiguration.class)
+@Import(CacheStatisticsProvidersConfiguration.class)
+@EnableConfigurationProperties(CachesEndpointProperties.class)
 public class CachesEndpointAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
 	@ConditionalOnEnabledEndpoint
 	public CachesEndpoint cachesEndpoint(
-			ObjectProvider<Map<String, CacheManager>> cacheManagers) {
-		return new CachesEndpoint(cacheManagers.getIfAvailable(LinkedHashMap::new));
+			ObjectProvider<Map<String, CacheManager>> cacheManagers,
+			ObjectProvider<CacheStatisticsProvider<?>> statisticsProviders) {
+		return new CachesEndpoint(cacheManagers.getIfAvailable(LinkedHashMap::new),
+				statisticsProviders.orderedStream().collect(Collectors.toList()));
 	}
 
 	@Bean
@@ -62,4 +76,19 @@ public class CachesEndpointAutoConfiguration {
 		return new CachesEndpointWebExtension(cachesEndpoint);
 	}
 
+	@Configuration
+	@ConditionalOnClass(RedisCacheManager.class)
+	@ConditionalOnProperty(prefix = "management.endpoint.caches.sampling", name = "enabled")
+	static class RedisCacheSamplingConfiguration {
+
+		@Bean
+		public RedisCacheDecorator samplingRedisCacheDecorator(
+				CachesEndpointProperties properties) {
+			Sampling sampling = properties.getSampling();
+			return (cache) -> new SamplingCache(cache, sampling.getSampleRate(),
+					sampling.getHotKeys());
+		}
+
+	}
+
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.cache;
+
+import org.springframework.boot.actuate.cache.CachesEndpoint;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for {@link CachesEndpoint}.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+@ConfigurationProperties("management.endpoint.caches")
+public class CachesEndpointProperties {
+
+	private final Sampling sampling = new Sampling();
+
+	public Sampling getSampling() {
+		return this.sampling;
+	}
+
+	/**
+	 * Sampling of the operations of caches that do not record statistics.
+	 */
+	public static class Sampling {
+
+		/**
+		 * Whether to sample the operations of the caches of the auto-configured Redis
+		 * cache manager to provide their statistics.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Number of cache operations for which one is sampled.
+		 */
+		private int sampleRate = 100;
+
+		/**
+		 * Number of most frequently requested keys to report per cache. Keys are reported
+		 * verbatim and may contain sensitive data. When zero, hot keys are not tracked.
+		 */
+		private int hotKeys = 0;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getSampleRate() {
+			return this.sampleRate;
+		}
+
+		public void setSampleRate(int sampleRate) {
+			this.sampleRate = sampleRate;
+		}
+
+		public int getHotKeys() {
+			return this.hotKeys;
+		}
+
+		public void setHotKeys(int hotKeys) {
+			this.hotKeys = hotKeys;
+		}
+
+	}
+
+}
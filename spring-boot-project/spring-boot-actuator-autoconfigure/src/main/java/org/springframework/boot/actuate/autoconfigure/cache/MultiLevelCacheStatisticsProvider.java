@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.cache;
+
+import org.springframework.boot.actuate.cache.CacheStatistics;
+import org.springframework.boot.actuate.cache.CacheStatisticsProvider;
+import org.springframework.boot.autoconfigure.cache.MultiLevelCache;
+import org.springframework.boot.autoconfigure.cache.MultiLevelCache.Level;
+
+/**
+ * {@link CacheStatisticsProvider} implementation for a {@link MultiLevelCache}. A lookup
+ * is counted as a hit if it was served by either level and as a miss if neither level
+ * had an entry.
+ *
+ * @author agent
+ */
+class MultiLevelCacheStatisticsProvider
+		implements CacheStatisticsProvider<MultiLevelCache> {
+
+	@Override
+	public CacheStatistics getCacheStatistics(MultiLevelCache cache) {
+		return new CacheStatistics(null,
+				cache.getHitCount(Level.NEAR) + cache.getHitCount(Level.REMOTE),
+				cache.getMissCount(Level.REMOTE), null, null);
+	}
+
+}
@@ -16,24 +16,36 @@
 
 package org.springframework.boot.actuate.autoconfigure.metrics;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import javax.management.MBeanServer;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.kafka.KafkaConsumerMetrics;
+import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 
+import org.springframework.boot.actuate.metrics.kafka.KafkaClientMetricsReporter;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.jmx.JmxAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaClientPropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.util.StringUtils;
 
 /**
- * Auto-configuration for Kafka metrics.
+ * Auto-configuration for Kafka metrics. When Spring Kafka is available, the metrics of
+ * the consumers, producers, admin clients and streams that are auto-configured are
+ * registered directly by a {@link KafkaClientMetricsReporter}. Otherwise, consumer
+ * metrics are read through JMX.
  *
  * @author Andy Wilkinson
  * @since 2.1.0
@@ -45,10 +57,64 @@ import org.springframework.context.annotation.Configuration;
 public class KafkaMetricsAutoConfiguration {
 
 	@Bean
-	@ConditionalOnMissingBean
+	@ConditionalOnMissingBean({ KafkaConsumerMetrics.class,
+			MetricsReporterPropertiesCustomizer.class })
 	@ConditionalOnBean(MBeanServer.class)
 	public KafkaConsumerMetrics kafkaConsumerMetrics(MBeanServer mbeanServer) {
 		return new KafkaConsumerMetrics(mbeanServer, Collections.emptyList());
 	}
 
+	@Configuration
+	@ConditionalOnClass(KafkaTemplate.class)
+	static class KafkaClientMetricsReporterConfiguration {
+
+		@Bean
+		public MetricsReporterPropertiesCustomizer kafkaClientMetricsPropertiesCustomizer(
+				MeterRegistry registry) {
+			return new MetricsReporterPropertiesCustomizer(registry);
+		}
+
+	}
+
+	/**
+	 * {@link KafkaClientPropertiesCustomizer} that adds a
+	 * {@link KafkaClientMetricsReporter} and the registry that it should use to the
+	 * configuration of a client.
+	 */
+	static class MetricsReporterPropertiesCustomizer
+			implements KafkaClientPropertiesCustomizer {
+
+		private final MeterRegistry registry;
+
+		MetricsReporterPropertiesCustomizer(MeterRegistry registry) {
+			this.registry = registry;
+		}
+
+		@Override
+		public void customize(Map<String, Object> properties) {
+			properties.put(CommonClientConfigs.METRIC_REPORTER_CLASSES_CONFIG,
+					getMetricReporters(properties
+							.get(CommonClientConfigs.METRIC_REPORTER_CLASSES_CONFIG)));
+			properties.put(KafkaClientMetricsReporter.METER_REGISTRY_CONFIG,
+					this.registry);
+		}
+
+		private List<Object> getMetricReporters(Object existing) {
+			List<Object> reporters = new ArrayList<>();
+			if (existing instanceof String) {
+				reporters.addAll(StringUtils.commaDelimitedListToSet(
+						StringUtils.trimAllWhitespace((String) existing)));
+			}
+			else if (existing instanceof Collection) {
+				reporters.addAll((Collection<?>) existing);
+			}
+			else if (existing != null) {
+				reporters.add(existing);
+			}
+			reporters.add(KafkaClientMetricsReporter.class);
+			return reporters;
+		}
+
+	}
+
 }
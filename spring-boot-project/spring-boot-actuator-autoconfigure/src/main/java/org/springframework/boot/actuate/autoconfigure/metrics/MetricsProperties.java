@@ -105,6 +105,12 @@ public class MetricsProperties {
 			 */
 			private int maxUriTags = 100;
 
+			/**
+			 * Whether URI tag values beyond the maximum should be reported as 'OTHER'
+			 * rather than denied, so that the corresponding requests are still recorded.
+			 */
+			private boolean collapseExcessUriTags;
+
 			public String getRequestsMetricName() {
 				return this.requestsMetricName;
 			}
@@ -121,6 +127,14 @@ public class MetricsProperties {
 				this.maxUriTags = maxUriTags;
 			}
 
+			public boolean isCollapseExcessUriTags() {
+				return this.collapseExcessUriTags;
+			}
+
+			public void setCollapseExcessUriTags(boolean collapseExcessUriTags) {
+				this.collapseExcessUriTags = collapseExcessUriTags;
+			}
+
 		}
 
 		public static class Server {
@@ -145,6 +159,12 @@ public class MetricsProperties {
 			 */
 			private int maxUriTags = 100;
 
+			/**
+			 * Whether URI tag values beyond the maximum should be reported as 'OTHER'
+			 * rather than denied, so that the corresponding requests are still recorded.
+			 */
+			private boolean collapseExcessUriTags;
+
 			public boolean isAutoTimeRequests() {
 				return this.autoTimeRequests;
 			}
@@ -169,6 +189,14 @@ public class MetricsProperties {
 				this.maxUriTags = maxUriTags;
 			}
 
+			public boolean isCollapseExcessUriTags() {
+				return this.collapseExcessUriTags;
+			}
+
+			public void setCollapseExcessUriTags(boolean collapseExcessUriTags) {
+				this.collapseExcessUriTags = collapseExcessUriTags;
+			}
+
 		}
 
 	}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.Meter.Id;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterFilter} that places an upper bound on the number of values of a tag by
+ * replacing any value seen once the maximum has been reached with a single overflow
+ * value. Unlike a filter that denies such meters, the affected measurements are still
+ * recorded, albeit aggregated under the overflow value. A warning is logged only once,
+ * when the maximum is first reached.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public final class OverflowTagValueMeterFilter implements MeterFilter {
+
+	private static final Log logger = LogFactory
+			.getLog(OverflowTagValueMeterFilter.class);
+
+	private final String meterNamePrefix;
+
+	private final String tagKey;
+
+	private final int maximumTagValues;
+
+	private final Tag overflowTag;
+
+	private final Set<String> observedTagValues = ConcurrentHashMap.newKeySet();
+
+	private final AtomicBoolean alreadyWarned = new AtomicBoolean(false);
+
+	/**
+	 * Create a new {@link OverflowTagValueMeterFilter} instance.
+	 * @param meterNamePrefix the prefix of the names of the meters to filter
+	 * @param tagKey the key of the tag to bound
+	 * @param maximumTagValues the maximum number of distinct tag values
+	 * @param overflowTagValue the tag value to use once the maximum has been reached
+	 */
+	public OverflowTagValueMeterFilter(String meterNamePrefix, String tagKey,
+			int maximumTagValues, String overflowTagValue) {
+		Assert.notNull(meterNamePrefix, "MeterNamePrefix must not be null");
+		Assert.hasText(tagKey, "TagKey must not be empty");
+		Assert.hasText(overflowTagValue, "OverflowTagValue must not be empty");
+		this.meterNamePrefix = meterNamePrefix;
+		this.tagKey = tagKey;
+		this.maximumTagValues = maximumTagValues;
+		this.overflowTag = Tag.of(tagKey, overflowTagValue);
+	}
+
+	@Override
+	public Id map(Id id) {
+		if (!id.getName().startsWith(this.meterNamePrefix)) {
+			return id;
+		}
+		String value = id.getTag(this.tagKey);
+		if (value == null || this.observedTagValues.contains(value)
+				|| value.equals(this.overflowTag.getValue())) {
+			return id;
+		}
+		synchronized (this.observedTagValues) {
+			if (this.observedTagValues.contains(value)
+					|| this.observedTagValues.size() < this.maximumTagValues) {
+				this.observedTagValues.add(value);
+				return id;
+			}
+		}
+		if (logger.isWarnEnabled() && this.alreadyWarned.compareAndSet(false, true)) {
+			logger.warn(String.format(
+					"Reached the maximum number of '%s' tags for '%s'. Additional "
+							+ "values will be reported as '%s'.",
+					this.tagKey, this.meterNamePrefix, this.overflowTag.getValue()));
+		}
+		return id.withTag(this.overflowTag);
+	}
+
+}
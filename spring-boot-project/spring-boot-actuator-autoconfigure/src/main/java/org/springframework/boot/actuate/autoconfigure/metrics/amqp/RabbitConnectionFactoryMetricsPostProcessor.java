@@ -22,7 +22,9 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 
 import org.springframework.amqp.rabbit.connection.AbstractConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.metrics.amqp.RabbitCacheMetrics;
 import org.springframework.boot.actuate.metrics.amqp.RabbitMetrics;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.Ordered;
@@ -60,9 +62,12 @@ class RabbitConnectionFactoryMetricsPostProcessor implements BeanPostProcessor,
 			AbstractConnectionFactory connectionFactory) {
 		ConnectionFactory rabbitConnectionFactory = connectionFactory
 				.getRabbitConnectionFactory();
-		String connectionFactoryName = getConnectionFactoryName(beanName);
-		new RabbitMetrics(rabbitConnectionFactory, Tags.of("name", connectionFactoryName))
-				.bindTo(registry);
+		Tags tags = Tags.of("name", getConnectionFactoryName(beanName));
+		new RabbitMetrics(rabbitConnectionFactory, tags).bindTo(registry);
+		if (connectionFactory instanceof CachingConnectionFactory) {
+			new RabbitCacheMetrics((CachingConnectionFactory) connectionFactory, tags)
+					.bindTo(registry);
+		}
 	}
 
 	/**
@@ -32,6 +32,7 @@ import org.springframework.cache.ehcache.EhCacheCache;
 import org.springframework.cache.jcache.JCacheCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 
 /**
  * Configure {@link CacheMeterBinderProvider} beans.
@@ -54,6 +55,19 @@ class CacheMeterBinderProvidersConfiguration {
 
 	}
 
+	@Configuration
+	@ConditionalOnClass({ CaffeineCache.class,
+			com.github.benmanes.caffeine.cache.Cache.class,
+			RedisConnectionFactory.class })
+	static class MultiLevelCacheMeterBinderProviderConfiguration {
+
+		@Bean
+		public MultiLevelCacheMeterBinderProvider multiLevelCacheMeterBinderProvider() {
+			return new MultiLevelCacheMeterBinderProvider();
+		}
+
+	}
+
 	@Configuration
 	@ConditionalOnClass({ EhCacheCache.class, Ehcache.class })
 	static class EhCache2CacheMeterBinderProviderConfiguration {
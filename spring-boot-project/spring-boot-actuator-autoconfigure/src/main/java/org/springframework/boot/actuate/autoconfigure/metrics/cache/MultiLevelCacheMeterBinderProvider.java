@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.cache.MultiLevelCache;
+import org.springframework.boot.autoconfigure.cache.MultiLevelCache.Level;
+
+/**
+ * {@link CacheMeterBinderProvider} implementation for a {@link MultiLevelCache}. Each
+ * level is recorded separately, using a {@code level} tag.
+ *
+ * @author agent
+ */
+class MultiLevelCacheMeterBinderProvider
+		implements CacheMeterBinderProvider<MultiLevelCache> {
+
+	@Override
+	public MeterBinder getMeterBinder(MultiLevelCache cache, Iterable<Tag> tags) {
+		return (registry) -> {
+			for (Level level : Level.values()) {
+				new LevelMetrics(cache, level, tags).bindTo(registry);
+			}
+		};
+	}
+
+	/**
+	 * {@link CacheMeterBinder} for one level of a {@link MultiLevelCache}.
+	 */
+	private static final class LevelMetrics extends CacheMeterBinder {
+
+		private final MultiLevelCache cache;
+
+		private final Level level;
+
+		LevelMetrics(MultiLevelCache cache, Level level, Iterable<Tag> tags) {
+			super(cache, cache.getName(),
+					Tags.concat(tags, "level", level.name().toLowerCase()));
+			this.cache = cache;
+			this.level = level;
+		}
+
+		@Override
+		protected Long size() {
+			return null;
+		}
+
+		@Override
+		protected long hitCount() {
+			return this.cache.getHitCount(this.level);
+		}
+
+		@Override
+		protected Long missCount() {
+			return this.cache.getMissCount(this.level);
+		}
+
+		@Override
+		protected Long evictionCount() {
+			return null;
+		}
+
+		@Override
+		protected long putCount() {
+			return this.cache.getPutCount(this.level);
+		}
+
+		@Override
+		protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+		}
+
+	}
+
+}
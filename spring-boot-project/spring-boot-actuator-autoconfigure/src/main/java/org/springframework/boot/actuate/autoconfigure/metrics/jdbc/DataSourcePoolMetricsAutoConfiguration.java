@@ -28,6 +28,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
@@ -36,8 +38,10 @@ import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.StringUtils;
 
@@ -55,12 +59,36 @@ import org.springframework.util.StringUtils;
 @ConditionalOnBean({ DataSource.class, MeterRegistry.class })
 public class DataSourcePoolMetricsAutoConfiguration {
 
+	private static final String DATASOURCE_SUFFIX = "dataSource";
+
+	/**
+	 * Get the name of a DataSource based on its {@code beanName}.
+	 * @param beanName the name of the data source bean
+	 * @return a name for the given data source
+	 */
+	static String getDataSourceName(String beanName) {
+		if (beanName.length() > DATASOURCE_SUFFIX.length()
+				&& StringUtils.endsWithIgnoreCase(beanName, DATASOURCE_SUFFIX)) {
+			return beanName.substring(0, beanName.length() - DATASOURCE_SUFFIX.length());
+		}
+		return beanName;
+	}
+
+	/**
+	 * Return the data source that is the target of the given data source if it has been
+	 * proxied to time its statements.
+	 * @param dataSource the data source
+	 * @return the target data source, or the given one if it is not a proxy
+	 */
+	static DataSource getTargetDataSource(DataSource dataSource) {
+		Object target = AopProxyUtils.getSingletonTarget(dataSource);
+		return (target instanceof DataSource) ? (DataSource) target : dataSource;
+	}
+
 	@Configuration
 	@ConditionalOnBean(DataSourcePoolMetadataProvider.class)
 	static class DataSourcePoolMetadataMetricsConfiguration {
 
-		private static final String DATASOURCE_SUFFIX = "dataSource";
-
 		private final MeterRegistry registry;
 
 		private final Collection<DataSourcePoolMetadataProvider> metadataProviders;
@@ -78,22 +106,9 @@ public class DataSourcePoolMetricsAutoConfiguration {
 
 		private void bindDataSourceToRegistry(String beanName, DataSource dataSource) {
 			String dataSourceName = getDataSourceName(beanName);
-			new DataSourcePoolMetrics(dataSource, this.metadataProviders, dataSourceName,
-					Collections.emptyList()).bindTo(this.registry);
-		}
-
-		/**
-		 * Get the name of a DataSource based on its {@code beanName}.
-		 * @param beanName the name of the data source bean
-		 * @return a name for the given data source
-		 */
-		private String getDataSourceName(String beanName) {
-			if (beanName.length() > DATASOURCE_SUFFIX.length()
-					&& StringUtils.endsWithIgnoreCase(beanName, DATASOURCE_SUFFIX)) {
-				return beanName.substring(0,
-						beanName.length() - DATASOURCE_SUFFIX.length());
-			}
-			return beanName;
+			new DataSourcePoolMetrics(getTargetDataSource(dataSource),
+					this.metadataProviders, dataSourceName, Collections.emptyList())
+							.bindTo(this.registry);
 		}
 
 	}
@@ -114,7 +129,9 @@ public class DataSourcePoolMetricsAutoConfiguration {
 		@Autowired
 		public void bindMetricsRegistryToHikariDataSources(
 				Collection<DataSource> dataSources) {
-			dataSources.stream().filter(HikariDataSource.class::isInstance)
+			dataSources.stream()
+					.map(DataSourcePoolMetricsAutoConfiguration::getTargetDataSource)
+					.filter(HikariDataSource.class::isInstance)
 					.map(HikariDataSource.class::cast)
 					.forEach(this::bindMetricsRegistryToHikariDataSource);
 		}
@@ -134,4 +151,16 @@ public class DataSourcePoolMetricsAutoConfiguration {
 
 	}
 
+	@Configuration
+	@ConditionalOnProperty(prefix = "management.metrics.jdbc.statements", name = "enabled", havingValue = "true")
+	static class DataSourceStatementMetricsConfiguration {
+
+		@Bean
+		public static DataSourceStatementMetricsPostProcessor dataSourceStatementMetricsPostProcessor(
+				ObjectProvider<MeterRegistry> meterRegistry) {
+			return new DataSourceStatementMetricsPostProcessor(meterRegistry);
+		}
+
+	}
+
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.jdbc;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.metrics.jdbc.StatementMetricsInterceptor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link BeanPostProcessor} that proxies {@link DataSource} beans so that the execution
+ * of their statements is timed. The proxy only implements the interfaces of the original
+ * data source, such as {@link DataSource} and {@link java.io.Closeable}, rather than
+ * extending its class. The original data source can be retrieved using
+ * {@link DataSource#unwrap(Class)}. Data sources that delegate to other data sources,
+ * such as a {@link DelegatingDataSource} or an {@link AbstractRoutingDataSource}, are not
+ * proxied so that statements are not timed twice when their targets are beans as well.
+ *
+ * @author agent
+ */
+class DataSourceStatementMetricsPostProcessor implements BeanPostProcessor {
+
+	private static final String METRIC_NAME = "jdbc.statements";
+
+	private static final boolean SPRING_JDBC_PRESENT = ClassUtils.isPresent(
+			"org.springframework.jdbc.datasource.DelegatingDataSource",
+			DataSourceStatementMetricsPostProcessor.class.getClassLoader());
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	DataSourceStatementMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName)
+			throws BeansException {
+		if (bean instanceof DataSource && !isDelegating(bean)) {
+			return createProxy((DataSource) bean, beanName);
+		}
+		return bean;
+	}
+
+	private boolean isDelegating(Object dataSource) {
+		return SPRING_JDBC_PRESENT && (dataSource instanceof DelegatingDataSource
+				|| dataSource instanceof AbstractRoutingDataSource);
+	}
+
+	private Object createProxy(DataSource dataSource, String beanName) {
+		ProxyFactory factory = new ProxyFactory(dataSource);
+		factory.addAdvice(new StatementMetricsInterceptor(this.meterRegistry.getObject(),
+				METRIC_NAME, Tags.of("name", DataSourcePoolMetricsAutoConfiguration
+						.getDataSourceName(beanName))));
+		return factory.getProxy(dataSource.getClass().getClassLoader());
+	}
+
+}
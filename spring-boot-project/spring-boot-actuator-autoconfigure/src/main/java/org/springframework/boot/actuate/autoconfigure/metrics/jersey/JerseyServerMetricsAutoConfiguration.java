@@ -31,6 +31,7 @@ import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfigu
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties.Web.Server;
 import org.springframework.boot.actuate.autoconfigure.metrics.OnlyOnceLoggingDenyMeterFilter;
+import org.springframework.boot.actuate.autoconfigure.metrics.OverflowTagValueMeterFilter;
 import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -86,11 +87,16 @@ public class JerseyServerMetricsAutoConfiguration {
 	@Bean
 	@Order(0)
 	public MeterFilter jerseyMetricsUriTagFilter() {
-		String metricName = this.properties.getWeb().getServer().getRequestsMetricName();
+		Server server = this.properties.getWeb().getServer();
+		String metricName = server.getRequestsMetricName();
+		if (server.isCollapseExcessUriTags()) {
+			return new OverflowTagValueMeterFilter(metricName, "uri",
+					server.getMaxUriTags(), "OTHER");
+		}
 		MeterFilter filter = new OnlyOnceLoggingDenyMeterFilter(() -> String
 				.format("Reached the maximum number of URI tags for '%s'.", metricName));
-		return MeterFilter.maximumAllowableTags(metricName, "uri",
-				this.properties.getWeb().getServer().getMaxUriTags(), filter);
+		return MeterFilter.maximumAllowableTags(metricName, "uri", server.getMaxUriTags(),
+				filter);
 	}
 
 	/**
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.jms;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.metrics.jms.JmsListenerMetrics;
+import org.springframework.boot.actuate.metrics.jms.JmsListenerMetricsBinder;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.config.JmsListenerEndpointRegistry;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for metrics on the consumers of JMS
+ * listener containers.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+@Configuration
+@AutoConfigureAfter({ MetricsAutoConfiguration.class, JmsAutoConfiguration.class,
+		SimpleMetricsExportAutoConfiguration.class })
+@ConditionalOnClass(JmsListenerEndpointRegistry.class)
+@ConditionalOnBean({ JmsListenerEndpointRegistry.class, MeterRegistry.class })
+public class JmsListenerMetricsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean({ JmsListenerMetrics.class,
+			JmsListenerMetricsBinder.class })
+	public JmsListenerMetricsBinder jmsListenerMetricsBinder(
+			MeterRegistry meterRegistry) {
+		return new JmsListenerMetricsBinder(meterRegistry);
+	}
+
+}
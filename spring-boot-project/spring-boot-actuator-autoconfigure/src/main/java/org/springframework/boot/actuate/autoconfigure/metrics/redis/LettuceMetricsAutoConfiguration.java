@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.redis;
+
+import java.util.Collections;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.event.DefaultEventPublisherOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.metrics.redis.LettuceCommandLatencyMetrics;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for metrics on the latency of the
+ * commands executed by Lettuce.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+@Configuration
+@AutoConfigureAfter({ MetricsAutoConfiguration.class,
+		SimpleMetricsExportAutoConfiguration.class })
+@AutoConfigureBefore(RedisAutoConfiguration.class)
+@ConditionalOnClass({ RedisClient.class, ClientResourcesBuilderCustomizer.class })
+@ConditionalOnBean(MeterRegistry.class)
+public class LettuceMetricsAutoConfiguration {
+
+	@Bean
+	public LettuceCommandLatencyMetrics lettuceCommandLatencyMetrics(
+			MeterRegistry registry) {
+		return new LettuceCommandLatencyMetrics(registry, Collections.emptyList());
+	}
+
+	@Bean
+	public ClientResourcesBuilderCustomizer lettuceMetricsClientResourcesBuilderCustomizer(
+			LettuceCommandLatencyMetrics lettuceCommandLatencyMetrics) {
+		// Lettuce does not shut down a collector that it did not create so the bean's
+		// inferred shutdown method removes its meters instead
+		return (builder) -> builder.commandLatencyCollector(lettuceCommandLatencyMetrics)
+				.commandLatencyPublisherOptions(DefaultEventPublisherOptions.disabled());
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.task;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Metrics for the tasks run by a {@link ThreadPoolExecutor}: the time that tasks spend
+ * in the queue, the time taken to run them and the number of rejected tasks. They are
+ * recorded by a {@link TaskDecorator} and a {@link RejectedExecutionHandler} that are
+ * installed before the executor is initialized, and only once the metrics have been
+ * bound to a registry as the name of the executor is not known until then.
+ *
+ * @author agent
+ */
+class TaskExecutionMetrics {
+
+	private volatile Timer idleTimer;
+
+	private volatile Timer executionTimer;
+
+	private volatile Counter rejectedCounter;
+
+	/**
+	 * Register the meters of the executor with the given name.
+	 * @param registry the registry to bind to
+	 * @param name the name of the executor
+	 */
+	void bindTo(MeterRegistry registry, String name) {
+		this.idleTimer = Timer.builder("executor.idle").tag("name", name)
+				.description("Time that tasks spent waiting in the queue")
+				.register(registry);
+		this.executionTimer = Timer.builder("executor").tag("name", name)
+				.description("Time taken to run tasks").register(registry);
+		this.rejectedCounter = Counter.builder("executor.rejected").tag("name", name)
+				.description("Number of tasks that were rejected").register(registry);
+	}
+
+	/**
+	 * Return a {@link TaskDecorator} that times the tasks once they have been decorated
+	 * by the given decorator.
+	 * @param delegate the decorator to apply first or {@code null}
+	 * @return the timing decorator
+	 */
+	TaskDecorator taskDecorator(TaskDecorator delegate) {
+		return (runnable) -> {
+			Runnable decorated = (delegate != null) ? delegate.decorate(runnable)
+					: runnable;
+			long queued = System.nanoTime();
+			return () -> {
+				long started = System.nanoTime();
+				record(this.idleTimer, started - queued);
+				try {
+					decorated.run();
+				}
+				finally {
+					record(this.executionTimer, System.nanoTime() - started);
+				}
+			};
+		};
+	}
+
+	private void record(Timer timer, long nanos) {
+		if (timer != null) {
+			timer.record(nanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Return a {@link RejectedExecutionHandler} that counts rejected tasks before
+	 * handing them to the given handler.
+	 * @param delegate the handler to delegate to
+	 * @return the counting handler
+	 */
+	RejectedExecutionHandler rejectedExecutionHandler(RejectedExecutionHandler delegate) {
+		return new CountingRejectedExecutionHandler(delegate);
+	}
+
+	/**
+	 * Return the metrics of the given executor, if they have been installed.
+	 * @param executor the executor
+	 * @return the metrics or {@code null}
+	 */
+	static TaskExecutionMetrics get(ThreadPoolExecutor executor) {
+		RejectedExecutionHandler handler = executor.getRejectedExecutionHandler();
+		if (handler instanceof CountingRejectedExecutionHandler) {
+			return ((CountingRejectedExecutionHandler) handler).getMetrics();
+		}
+		return null;
+	}
+
+	/**
+	 * {@link RejectedExecutionHandler} that counts the tasks that are rejected.
+	 */
+	private class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+		private final RejectedExecutionHandler delegate;
+
+		CountingRejectedExecutionHandler(RejectedExecutionHandler delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+			Counter counter = TaskExecutionMetrics.this.rejectedCounter;
+			if (counter != null) {
+				counter.increment();
+			}
+			this.delegate.rejectedExecution(runnable, executor);
+		}
+
+		TaskExecutionMetrics getMetrics() {
+			return TaskExecutionMetrics.this;
+		}
+
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.actuate.autoconfigure.metrics.task;
+
+import java.util.concurrent.Executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for metrics on all available
+ * {@link ThreadPoolTaskExecutor task executors} and {@link ThreadPoolTaskScheduler task
+ * schedulers}. Executors are bound as they are created, so lazy executors are
+ * instrumented on first use rather than being created just to be instrumented. Executors
+ * built by the auto-configured {@link TaskExecutorBuilder} also time their tasks and
+ * count the ones that are rejected.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+@Configuration
+@AutoConfigureAfter({ MetricsAutoConfiguration.class,
+		SimpleMetricsExportAutoConfiguration.class, TaskExecutionAutoConfiguration.class,
+		TaskSchedulingAutoConfiguration.class })
+@ConditionalOnClass({ ExecutorServiceMetrics.class, ThreadPoolTaskExecutor.class })
+@ConditionalOnBean({ Executor.class, MeterRegistry.class })
+public class TaskExecutorMetricsAutoConfiguration {
+
+	@Bean
+	public static TaskExecutorMetricsPostProcessor taskExecutorMetricsPostProcessor(
+			ApplicationContext applicationContext) {
+		return new TaskExecutorMetricsPostProcessor(applicationContext);
+	}
+
+	@Bean
+	public TaskExecutorMetricsCustomizer taskExecutorMetricsCustomizer() {
+		return new TaskExecutorMetricsCustomizer();
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.task;
+
+import java.util.concurrent.RejectedExecutionHandler;
+
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.boot.task.TaskExecutorCustomizer;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * {@link TaskExecutorCustomizer} that installs the {@link TaskExecutionMetrics} of a
+ * {@link ThreadPoolTaskExecutor}, wrapping the {@link TaskDecorator} and the
+ * {@link RejectedExecutionHandler} that it has been configured with so far. The metrics
+ * are bound by {@link TaskExecutorMetricsPostProcessor} once the executor has been
+ * initialized.
+ *
+ * @author agent
+ */
+class TaskExecutorMetricsCustomizer implements TaskExecutorCustomizer {
+
+	@Override
+	public void customize(ThreadPoolTaskExecutor taskExecutor) {
+		// ThreadPoolTaskExecutor does not expose its decorator and rejection policy
+		DirectFieldAccessor accessor = new DirectFieldAccessor(taskExecutor);
+		TaskDecorator taskDecorator = (TaskDecorator) accessor
+				.getPropertyValue("taskDecorator");
+		RejectedExecutionHandler rejectedExecutionHandler = (RejectedExecutionHandler) accessor
+				.getPropertyValue("rejectedExecutionHandler");
+		TaskExecutionMetrics metrics = new TaskExecutionMetrics();
+		taskExecutor.setTaskDecorator(metrics.taskDecorator(taskDecorator));
+		taskExecutor.setRejectedExecutionHandler(
+				metrics.rejectedExecutionHandler(rejectedExecutionHandler));
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.boot.actuate.autoconfigure.metrics.task;
+
+import java.util.Collections;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@link BeanPostProcessor} that binds {@link ThreadPoolTaskExecutor task executors} and
+ * {@link ThreadPoolTaskScheduler task schedulers} to the {@link MeterRegistry} as they
+ * are created. Lazy executors are therefore instrumented when they are first used,
+ * without being created early. The {@link TaskExecutionMetrics} installed by
+ * {@link TaskExecutorMetricsCustomizer} are bound at the same time.
+ *
+ * @author agent
+ */
+class TaskExecutorMetricsPostProcessor implements BeanPostProcessor {
+
+	private final ApplicationContext context;
+
+	private volatile MeterRegistry meterRegistry;
+
+	TaskExecutorMetricsPostProcessor(ApplicationContext context) {
+		this.context = context;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof ThreadPoolTaskExecutor) {
+			monitor(getThreadPoolExecutor((ThreadPoolTaskExecutor) bean), beanName);
+		}
+		else if (bean instanceof ThreadPoolTaskScheduler) {
+			monitor(getThreadPoolExecutor((ThreadPoolTaskScheduler) bean), beanName);
+		}
+		return bean;
+	}
+
+	private void monitor(ThreadPoolExecutor threadPoolExecutor, String name) {
+		if (threadPoolExecutor != null) {
+			MeterRegistry registry = getMeterRegistry();
+			new ExecutorServiceMetrics(threadPoolExecutor, name, Collections.emptyList())
+					.bindTo(registry);
+			TaskExecutionMetrics metrics = TaskExecutionMetrics.get(threadPoolExecutor);
+			if (metrics != null) {
+				metrics.bindTo(registry, name);
+			}
+		}
+	}
+
+	private ThreadPoolExecutor getThreadPoolExecutor(ThreadPoolTaskExecutor executor) {
+		try {
+			return executor.getThreadPoolExecutor();
+		}
+		catch (IllegalStateException ex) {
+			return null;
+		}
+	}
+
+	private ThreadPoolExecutor getThreadPoolExecutor(ThreadPoolTaskScheduler scheduler) {
+		try {
+			return scheduler.getScheduledThreadPoolExecutor();
+		}
+		catch (IllegalStateException ex) {
+			return null;
+		}
+	}
+
+	private MeterRegistry getMeterRegistry() {
+		if (this.meterRegistry == null) {
+			this.meterRegistry = this.context.getBean(MeterRegistry.class);
+		}
+		return this.meterRegistry;
+	}
+
+}
@@ -21,7 +21,9 @@ import io.micrometer.core.instrument.config.MeterFilter;
 
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties.Web.Client;
 import org.springframework.boot.actuate.autoconfigure.metrics.OnlyOnceLoggingDenyMeterFilter;
+import org.springframework.boot.actuate.autoconfigure.metrics.OverflowTagValueMeterFilter;
 import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -57,12 +59,17 @@ public class HttpClientMetricsAutoConfiguration {
 	@Bean
 	@Order(0)
 	public MeterFilter metricsHttpClientUriTagFilter() {
-		String metricName = this.properties.getWeb().getClient().getRequestsMetricName();
+		Client client = this.properties.getWeb().getClient();
+		String metricName = client.getRequestsMetricName();
+		if (client.isCollapseExcessUriTags()) {
+			return new OverflowTagValueMeterFilter(metricName, "uri",
+					client.getMaxUriTags(), "OTHER");
+		}
 		MeterFilter denyFilter = new OnlyOnceLoggingDenyMeterFilter(() -> String
 				.format("Reached the maximum number of URI tags for '%s'. Are you using "
 						+ "'uriVariables'?", metricName));
-		return MeterFilter.maximumAllowableTags(metricName, "uri",
-				this.properties.getWeb().getClient().getMaxUriTags(), denyFilter);
+		return MeterFilter.maximumAllowableTags(metricName, "uri", client.getMaxUriTags(),
+				denyFilter);
 	}
 
 }
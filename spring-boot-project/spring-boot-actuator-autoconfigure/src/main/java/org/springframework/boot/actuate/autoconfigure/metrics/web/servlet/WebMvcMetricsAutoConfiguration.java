@@ -18,13 +18,17 @@ package org.springframework.boot.actuate.autoconfigure.metrics.web.servlet;
 
 import javax.servlet.DispatcherType;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.config.MeterFilter;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties.Web.Server;
 import org.springframework.boot.actuate.autoconfigure.metrics.OnlyOnceLoggingDenyMeterFilter;
+import org.springframework.boot.actuate.autoconfigure.metrics.OverflowTagValueMeterFilter;
 import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
 import org.springframework.boot.actuate.metrics.web.servlet.DefaultWebMvcTagsProvider;
 import org.springframework.boot.actuate.metrics.web.servlet.WebMvcMetricsFilter;
@@ -37,6 +41,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.filter.ConcurrencyLimitFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
@@ -88,14 +93,34 @@ public class WebMvcMetricsAutoConfiguration {
 		return registration;
 	}
 
+	@Bean
+	@ConditionalOnBean(ConcurrencyLimitFilter.class)
+	public MeterBinder concurrencyLimitFilterMetrics(
+			ObjectProvider<ConcurrencyLimitFilter> concurrencyLimitFilters) {
+		String metricName = this.properties.getWeb().getServer().getRequestsMetricName()
+				+ ".rejected";
+		return (registry) -> concurrencyLimitFilters.orderedStream()
+				.forEach((filter) -> FunctionCounter
+						.builder(metricName, filter,
+								ConcurrencyLimitFilter::getRejectedRequestCount)
+						.description("Requests rejected because the maximum "
+								+ "number of concurrent requests was reached")
+						.register(registry));
+	}
+
 	@Bean
 	@Order(0)
 	public MeterFilter metricsHttpServerUriTagFilter() {
-		String metricName = this.properties.getWeb().getServer().getRequestsMetricName();
+		Server server = this.properties.getWeb().getServer();
+		String metricName = server.getRequestsMetricName();
+		if (server.isCollapseExcessUriTags()) {
+			return new OverflowTagValueMeterFilter(metricName, "uri",
+					server.getMaxUriTags(), "OTHER");
+		}
 		MeterFilter filter = new OnlyOnceLoggingDenyMeterFilter(() -> String
 				.format("Reached the maximum number of URI tags for '%s'.", metricName));
-		return MeterFilter.maximumAllowableTags(metricName, "uri",
-				this.properties.getWeb().getServer().getMaxUriTags(), filter);
+		return MeterFilter.maximumAllowableTags(metricName, "uri", server.getMaxUriTags(),
+				filter);
 	}
 
 }
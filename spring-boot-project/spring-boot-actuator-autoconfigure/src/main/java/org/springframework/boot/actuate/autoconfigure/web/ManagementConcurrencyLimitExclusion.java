@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.web;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.util.StringUtils;
+
+/**
+ * Determines the paths of the web endpoints that are excluded from the concurrency limit
+ * of the server, so that the servlet and reactive management contexts exclude them in
+ * the same way.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public final class ManagementConcurrencyLimitExclusion {
+
+	private ManagementConcurrencyLimitExclusion() {
+	}
+
+	/**
+	 * Return the pattern of the paths of the web endpoints that should be excluded from
+	 * the concurrency limit. Nothing is excluded when the endpoints are mapped to the
+	 * root or when the excluded paths of the server have been configured explicitly.
+	 * @param webEndpointProperties the web endpoint properties
+	 * @param serverProperties the server properties or {@code null}
+	 * @return the excluded path pattern or {@code null}
+	 */
+	public static String getExcludedPath(WebEndpointProperties webEndpointProperties,
+			ServerProperties serverProperties) {
+		if (serverProperties != null
+				&& serverProperties.getConcurrencyLimit().getExcludedPaths() != null) {
+			return null;
+		}
+		String basePath = StringUtils
+				.trimTrailingCharacter(webEndpointProperties.getBasePath(), '/');
+		return StringUtils.hasText(basePath) ? basePath + "/**" : null;
+	}
+
+}
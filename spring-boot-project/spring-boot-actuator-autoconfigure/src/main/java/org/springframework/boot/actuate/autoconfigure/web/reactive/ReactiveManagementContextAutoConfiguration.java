@@ -18,10 +18,15 @@ package org.springframework.boot.actuate.autoconfigure.web.reactive;
 
 import reactor.core.publisher.Flux;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.actuate.autoconfigure.web.ManagementConcurrencyLimitExclusion;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.reactive.ConcurrencyLimitWebFilterCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -42,4 +47,17 @@ public class ReactiveManagementContextAutoConfiguration {
 		return new ReactiveManagementContextFactory();
 	}
 
+	@Bean
+	public ConcurrencyLimitWebFilterCustomizer managementConcurrencyLimitWebFilterCustomizer(
+			WebEndpointProperties properties,
+			ObjectProvider<ServerProperties> serverProperties) {
+		return (filter) -> {
+			String excludedPath = ManagementConcurrencyLimitExclusion
+					.getExcludedPath(properties, serverProperties.getIfAvailable());
+			if (excludedPath != null) {
+				filter.addExcludedPaths(excludedPath);
+			}
+		};
+	}
+
 }
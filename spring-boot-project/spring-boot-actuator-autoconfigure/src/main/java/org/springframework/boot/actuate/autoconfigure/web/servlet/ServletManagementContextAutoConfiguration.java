@@ -18,12 +18,16 @@ package org.springframework.boot.actuate.autoconfigure.web.servlet;
 
 import javax.servlet.Servlet;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.actuate.autoconfigure.web.ManagementConcurrencyLimitExclusion;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.servlet.ConcurrencyLimitFilterCustomizer;
 import org.springframework.boot.web.servlet.filter.ApplicationContextHeaderFilter;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -52,6 +56,19 @@ public class ServletManagementContextAutoConfiguration {
 		return properties::getBasePath;
 	}
 
+	@Bean
+	public ConcurrencyLimitFilterCustomizer managementConcurrencyLimitFilterCustomizer(
+			WebEndpointProperties properties,
+			ObjectProvider<ServerProperties> serverProperties) {
+		return (filter) -> {
+			String excludedPath = ManagementConcurrencyLimitExclusion
+					.getExcludedPath(properties, serverProperties.getIfAvailable());
+			if (excludedPath != null) {
+				filter.addExcludedPaths(excludedPath);
+			}
+		};
+	}
+
 	// Put Servlets and Filters in their own nested class so they don't force early
 	// instantiation of ManagementServerProperties.
 	@Configuration
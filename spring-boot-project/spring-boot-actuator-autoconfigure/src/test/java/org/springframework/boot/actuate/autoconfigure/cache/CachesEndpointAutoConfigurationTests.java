@@ -19,11 +19,21 @@ package org.springframework.boot.actuate.autoconfigure.cache;
 import org.junit.Test;
 
 import org.springframework.boot.actuate.cache.CachesEndpoint;
+import org.springframework.boot.actuate.cache.CaffeineCacheStatisticsProvider;
+import org.springframework.boot.actuate.cache.EhCache2CacheStatisticsProvider;
+import org.springframework.boot.actuate.cache.HazelcastCacheStatisticsProvider;
+import org.springframework.boot.actuate.cache.JCacheCacheStatisticsProvider;
+import org.springframework.boot.actuate.cache.SamplingCache;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.RedisCacheDecorator;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -33,6 +43,7 @@ import static org.mockito.Mockito.mock;
  *
  * @author Johannes Edmeier
  * @author Stephane Nicoll
+ * @author agent
  */
 public class CachesEndpointAutoConfigurationTests {
 
@@ -46,6 +57,17 @@ public class CachesEndpointAutoConfigurationTests {
 				(context) -> assertThat(context).hasSingleBean(CachesEndpoint.class));
 	}
 
+	@Test
+	public void runShouldHaveCacheStatisticsProviders() {
+		this.contextRunner.withUserConfiguration(CacheConfiguration.class)
+				.run((context) -> assertThat(context)
+						.hasSingleBean(CaffeineCacheStatisticsProvider.class)
+						.hasSingleBean(EhCache2CacheStatisticsProvider.class)
+						.hasSingleBean(HazelcastCacheStatisticsProvider.class)
+						.hasSingleBean(JCacheCacheStatisticsProvider.class)
+						.hasSingleBean(MultiLevelCacheStatisticsProvider.class));
+	}
+
 	@Test
 	public void runWithoutCacheManagerShouldHaveEndpointBean() {
 		this.contextRunner.run(
@@ -60,6 +82,61 @@ public class CachesEndpointAutoConfigurationTests {
 						.doesNotHaveBean(CachesEndpoint.class));
 	}
 
+	@Test
+	public void runShouldNotDecorateRedisCachesByDefault() {
+		this.contextRunner.withUserConfiguration(RedisConfiguration.class)
+				.withConfiguration(AutoConfigurations.of(CacheAutoConfiguration.class))
+				.withPropertyValues("spring.cache.cache-names=test")
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(RedisCacheDecorator.class);
+					assertThat(context.getBean(CacheManager.class).getCache("test"))
+							.isNotInstanceOf(SamplingCache.class);
+				});
+	}
+
+	@Test
+	public void runWhenSamplingIsEnabledShouldDecorateAutoConfiguredRedisCaches() {
+		this.contextRunner.withUserConfiguration(RedisConfiguration.class)
+				.withConfiguration(AutoConfigurations.of(CacheAutoConfiguration.class))
+				.withPropertyValues("spring.cache.cache-names=test",
+						"management.endpoint.caches.sampling.enabled:true",
+						"management.endpoint.caches.sampling.hot-keys:5")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(RedisCacheManager.class);
+					assertThat(context.getBean(RedisCacheManager.class).getCache("test"))
+							.isInstanceOf(SamplingCache.class);
+				});
+	}
+
+	@Test
+	public void runWhenSamplingIsEnabledShouldNotChangeUserDefinedRedisCacheManager() {
+		this.contextRunner.withUserConfiguration(RedisCacheConfiguration.class)
+				.withPropertyValues("management.endpoint.caches.sampling.enabled:true")
+				.run((context) -> assertThat(context.getBean(CacheManager.class))
+						.isSameAs(context.getBean(RedisCacheManager.class)));
+	}
+
+	@Configuration
+	@EnableCaching
+	static class RedisConfiguration {
+
+		@Bean
+		public RedisConnectionFactory redisConnectionFactory() {
+			return mock(RedisConnectionFactory.class);
+		}
+
+	}
+
+	@Configuration
+	static class RedisCacheConfiguration {
+
+		@Bean
+		public RedisCacheManager cacheManager() {
+			return RedisCacheManager.create(mock(RedisConnectionFactory.class));
+		}
+
+	}
+
 	@Configuration
 	static class CacheConfiguration {
 
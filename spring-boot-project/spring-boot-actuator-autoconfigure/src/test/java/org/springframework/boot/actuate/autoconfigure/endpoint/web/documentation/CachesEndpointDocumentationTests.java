@@ -24,15 +24,21 @@ import java.util.Map;
 
 import org.junit.Test;
 
+import org.springframework.boot.actuate.cache.CacheStatistics;
+import org.springframework.boot.actuate.cache.CacheStatisticsProvider;
 import org.springframework.boot.actuate.cache.CachesEndpoint;
 import org.springframework.boot.actuate.cache.CachesEndpointWebExtension;
+import org.springframework.boot.actuate.cache.SamplingCacheManager;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.restdocs.mockmvc.MockMvcRestDocumentation;
 import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.restdocs.request.ParameterDescriptor;
 
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -54,7 +60,38 @@ public class CachesEndpointDocumentationTests extends MockMvcEndpointDocumentati
 			fieldWithPath("name").description("Cache name."),
 			fieldWithPath("cacheManager").description("Cache manager name."),
 			fieldWithPath("target")
-					.description("Fully qualified name of the native cache."));
+					.description("Fully qualified name of the native cache."),
+			fieldWithPath("statistics")
+					.description("Statistics of the cache, if available.").optional(),
+			fieldWithPath("statistics.size").description("Number of entries.")
+					.type(JsonFieldType.NUMBER).optional(),
+			fieldWithPath("statistics.hits")
+					.description("Number of lookups that found an entry.")
+					.type(JsonFieldType.NUMBER).optional(),
+			fieldWithPath("statistics.misses")
+					.description("Number of lookups that did not find an entry.")
+					.type(JsonFieldType.NUMBER).optional(),
+			fieldWithPath("statistics.hitRatio")
+					.description("Ratio of lookups that found an entry.")
+					.type(JsonFieldType.NUMBER).optional(),
+			fieldWithPath("statistics.evictions")
+					.description("Number of entries that have been evicted.")
+					.type(JsonFieldType.NUMBER).optional(),
+			fieldWithPath("statistics.estimatedMemory")
+					.description("Estimated memory used by the entries, in bytes.")
+					.type(JsonFieldType.NUMBER).optional(),
+			fieldWithPath("statistics.hotKeys")
+					.description(
+							"Most frequently requested keys, sampled by a SamplingCache.")
+					.type(JsonFieldType.ARRAY).optional(),
+			fieldWithPath("statistics.hotKeys[].key").description("Key.")
+					.type(JsonFieldType.STRING).optional(),
+			fieldWithPath("statistics.hotKeys[].count")
+					.description("Estimated number of lookups of the key.")
+					.type(JsonFieldType.NUMBER).optional(),
+			fieldWithPath("statistics.hotKeys[].error")
+					.description("Maximum overestimation of the count.")
+					.type(JsonFieldType.NUMBER).optional());
 
 	private static final List<ParameterDescriptor> requestParameters = Collections
 			.singletonList(parameterWithName("cacheManager")
@@ -106,11 +143,23 @@ public class CachesEndpointDocumentationTests extends MockMvcEndpointDocumentati
 		@Bean
 		public CachesEndpoint endpoint() {
 			Map<String, CacheManager> cacheManagers = new HashMap<>();
-			cacheManagers.put("cacheManager",
-					new ConcurrentMapCacheManager("countries", "cities"));
+			CacheManager cacheManager = new SamplingCacheManager(
+					new ConcurrentMapCacheManager("countries", "cities"), 1, 10);
+			Cache cities = cacheManager.getCache("cities");
+			cities.put("Paris", "France");
+			cities.put("London", "United Kingdom");
+			cities.get("Paris");
+			cities.get("Paris");
+			cities.get("London");
+			cities.get("Berlin");
+			cacheManagers.put("cacheManager", cacheManager);
 			cacheManagers.put("anotherCacheManager",
 					new ConcurrentMapCacheManager("countries"));
-			return new CachesEndpoint(cacheManagers);
+			CacheStatisticsProvider<ConcurrentMapCache> statisticsProvider = (
+					cache) -> new CacheStatistics((long) cache.getNativeCache().size(),
+							null, null, null, null);
+			return new CachesEndpoint(cacheManagers,
+					Collections.singletonList(statisticsProvider));
 		}
 
 		@Bean
@@ -16,15 +16,29 @@
 
 package org.springframework.boot.actuate.autoconfigure.metrics;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.kafka.KafkaConsumerMetrics;
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.Rule;
 import org.junit.Test;
 
 import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
+import org.springframework.boot.actuate.metrics.kafka.KafkaClientMetricsReporter;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.jmx.JmxAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaClientPropertiesCustomizer;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.rule.OutputCapture;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -35,6 +49,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class KafkaMetricsAutoConfigurationTests {
 
+	@Rule
+	public OutputCapture output = new OutputCapture();
+
 	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
 			.with(MetricsRun.simple()).withConfiguration(
 					AutoConfigurations.of(KafkaMetricsAutoConfiguration.class));
@@ -46,11 +63,22 @@ public class KafkaMetricsAutoConfigurationTests {
 	}
 
 	@Test
-	public void whenThereIsAnMBeanServerKafkaConsumerMetricsIsConfigured() {
+	public void whenThereIsAnMBeanServerAndNoSpringKafkaKafkaConsumerMetricsIsConfigured() {
 		this.contextRunner
 				.withConfiguration(AutoConfigurations.of(JmxAutoConfiguration.class))
+				.withClassLoader(new FilteredClassLoader(KafkaTemplate.class))
 				.run((context) -> assertThat(context)
-						.hasSingleBean(KafkaConsumerMetrics.class));
+						.hasSingleBean(KafkaConsumerMetrics.class)
+						.doesNotHaveBean(KafkaClientPropertiesCustomizer.class));
+	}
+
+	@Test
+	public void whenMetricsReporterIsConfiguredKafkaConsumerMetricsBacksOff() {
+		this.contextRunner
+				.withConfiguration(AutoConfigurations.of(JmxAutoConfiguration.class))
+				.run((context) -> assertThat(context)
+						.hasSingleBean(KafkaClientPropertiesCustomizer.class)
+						.doesNotHaveBean(KafkaConsumerMetrics.class));
 	}
 
 	@Test
@@ -63,6 +91,42 @@ public class KafkaMetricsAutoConfigurationTests {
 						.hasBean("customKafkaConsumerMetrics"));
 	}
 
+	@Test
+	public void clientPropertiesCustomizerAddsMetricsReporter() {
+		this.contextRunner.run((context) -> {
+			Map<String, Object> properties = new HashMap<>();
+			properties.put(CommonClientConfigs.METRIC_REPORTER_CLASSES_CONFIG,
+					"com.example.FirstReporter, com.example.SecondReporter");
+			context.getBean(KafkaClientPropertiesCustomizer.class).customize(properties);
+			assertThat(properties.get(CommonClientConfigs.METRIC_REPORTER_CLASSES_CONFIG))
+					.asList().containsExactly("com.example.FirstReporter",
+							"com.example.SecondReporter",
+							KafkaClientMetricsReporter.class);
+			assertThat(properties.get(KafkaClientMetricsReporter.METER_REGISTRY_CONFIG))
+					.isSameAs(context.getBean(MeterRegistry.class));
+		});
+	}
+
+	@Test
+	public void producerMetricsAreRegisteredWithoutJmx() {
+		this.contextRunner.run((context) -> {
+			Map<String, Object> properties = new HashMap<>();
+			properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
+			properties.put(ProducerConfig.CLIENT_ID_CONFIG, "test-producer");
+			context.getBean(KafkaClientPropertiesCustomizer.class).customize(properties);
+			MeterRegistry registry = context.getBean(MeterRegistry.class);
+			try (KafkaProducer<String, String> producer = new KafkaProducer<>(properties,
+					new StringSerializer(), new StringSerializer())) {
+				assertThat(registry.get("kafka.producer.batch.size.avg")
+						.tag("client.id", "test-producer").gauge()).isNotNull();
+			}
+			assertThat(registry.find("kafka.producer.batch.size.avg").gauge()).isNull();
+			assertThat(this.output.toString())
+					.doesNotContain(KafkaClientMetricsReporter.METER_REGISTRY_CONFIG
+							+ "' was supplied but isn't a known config");
+		});
+	}
+
 	@Configuration
 	static class CustomKafkaConsumerMetricsConfiguration {
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.micrometer.core.instrument.Meter.Id;
+import io.micrometer.core.instrument.Meter.Type;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OverflowTagValueMeterFilter}.
+ *
+ * @author agent
+ */
+public class OverflowTagValueMeterFilterTests {
+
+	@Test
+	public void tagValuesBelowMaximumAreUnchanged() {
+		MeterRegistry registry = createRegistry(2);
+		registry.counter("http.server.requests", "uri", "/one").increment();
+		registry.counter("http.server.requests", "uri", "/two").increment();
+		assertThat(registry.get("http.server.requests").meters()).hasSize(2);
+		assertThat(registry.find("http.server.requests").tag("uri", "OTHER").meter())
+				.isNull();
+	}
+
+	@Test
+	public void tagValuesAboveMaximumAreCollapsed() {
+		MeterRegistry registry = createRegistry(2);
+		registry.counter("http.server.requests", "uri", "/one").increment();
+		registry.counter("http.server.requests", "uri", "/two").increment();
+		registry.counter("http.server.requests", "uri", "/three").increment();
+		registry.counter("http.server.requests", "uri", "/four").increment();
+		registry.counter("http.server.requests", "uri", "/one").increment();
+		assertThat(registry.get("http.server.requests").meters()).hasSize(3);
+		assertThat(registry.get("http.server.requests").tag("uri", "OTHER").counter()
+				.count()).isEqualTo(2);
+		assertThat(
+				registry.get("http.server.requests").tag("uri", "/one").counter().count())
+						.isEqualTo(2);
+	}
+
+	@Test
+	public void concurrentTagValuesDoNotExceedMaximum() throws Exception {
+		OverflowTagValueMeterFilter filter = new OverflowTagValueMeterFilter(
+				"http.server.requests", "uri", 10, "OTHER");
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Id>> results = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				Id id = new Id("http.server.requests", Tags.of("uri", "/" + i), null,
+						null, Type.COUNTER);
+				results.add(executor.submit(() -> {
+					start.await();
+					return filter.map(id);
+				}));
+			}
+			start.countDown();
+			Set<String> values = new HashSet<>();
+			for (Future<Id> result : results) {
+				values.add(result.get().getTag("uri"));
+			}
+			assertThat(values).hasSize(11).contains("OTHER");
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void metersWithOtherNamesAreUnchanged() {
+		MeterRegistry registry = createRegistry(1);
+		registry.counter("http.client.requests", "uri", "/one").increment();
+		registry.counter("http.client.requests", "uri", "/two").increment();
+		assertThat(registry.get("http.client.requests").meters()).hasSize(2);
+	}
+
+	private MeterRegistry createRegistry(int maximumTagValues) {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		registry.config().meterFilter(new OverflowTagValueMeterFilter(
+				"http.server.requests", "uri", maximumTagValues, "OTHER"));
+		return registry;
+	}
+
+}
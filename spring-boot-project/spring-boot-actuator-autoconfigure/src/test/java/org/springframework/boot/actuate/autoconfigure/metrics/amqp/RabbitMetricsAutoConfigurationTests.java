@@ -45,6 +45,15 @@ public class RabbitMetricsAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void autoConfiguredConnectionFactoryCacheIsInstrumented() {
+		this.contextRunner.run((context) -> {
+			MeterRegistry registry = context.getBean(MeterRegistry.class);
+			registry.get("rabbitmq.cache.channels.size").tags("name", "rabbit").gauge();
+			registry.get("rabbitmq.cache.channels.idle").tags("name", "rabbit").gauge();
+		});
+	}
+
 	@Test
 	public void rabbitmqNativeConnectionFactoryInstrumentationCanBeDisabled() {
 		this.contextRunner.withPropertyValues("management.metrics.enable.rabbitmq=false")
@@ -24,9 +24,12 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 /**
  * Tests for {@link CacheMetricsAutoConfiguration}.
@@ -52,6 +55,23 @@ public class CacheMetricsAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void autoConfiguredNearCacheManagerIsInstrumentedPerLevel() {
+		this.contextRunner.withUserConfiguration(RedisConfiguration.class)
+				.withPropertyValues("spring.cache.type=redis",
+						"spring.cache.redis.near.enabled=true",
+						"spring.cache.cache-names=cache1")
+				.run((context) -> {
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					registry.get("cache.gets").tags("name", "cache1")
+							.tags("cacheManager", "cacheManager").tags("level", "near")
+							.meter();
+					registry.get("cache.gets").tags("name", "cache1")
+							.tags("cacheManager", "cacheManager").tags("level", "remote")
+							.meter();
+				});
+	}
+
 	@Test
 	public void autoConfiguredNonSupportedCacheManagerIsIgnored() {
 		this.contextRunner.withPropertyValues("spring.cache.type=simple",
@@ -82,4 +102,14 @@ public class CacheMetricsAutoConfigurationTests {
 
 	}
 
+	@Configuration
+	static class RedisConfiguration {
+
+		@Bean
+		public RedisConnectionFactory redisConnectionFactory() {
+			return mock(RedisConnectionFactory.class);
+		}
+
+	}
+
 }
@@ -17,6 +17,8 @@
 package org.springframework.boot.actuate.autoconfigure.metrics.jdbc;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import javax.sql.DataSource;
@@ -27,6 +29,7 @@ import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Test;
 
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
@@ -37,8 +40,11 @@ import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
 import org.springframework.core.PriorityOrdered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -129,6 +135,55 @@ public class DataSourcePoolMetricsAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void statementsAreNotTimedByDefault() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(DataSourceAutoConfiguration.class))
+				.run((context) -> {
+					new JdbcTemplate(context.getBean(DataSource.class))
+							.execute("SELECT 1 FROM INFORMATION_SCHEMA.SYSTEM_USERS");
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.find("jdbc.statements").meter()).isNull();
+				});
+	}
+
+	@Test
+	public void statementsAreTimedWhenEnabled() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(DataSourceAutoConfiguration.class))
+				.withPropertyValues("management.metrics.jdbc.statements.enabled=true")
+				.run((context) -> {
+					DataSource dataSource = context.getBean(DataSource.class);
+					assertThat(dataSource).isNotInstanceOf(HikariDataSource.class);
+					assertThat(dataSource.unwrap(HikariDataSource.class)).isNotNull();
+					new JdbcTemplate(dataSource).queryForList(
+							"SELECT 1 FROM INFORMATION_SCHEMA.SYSTEM_USERS");
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("jdbc.statements")
+							.tags("name", "dataSource", "operation", "select").timer()
+							.count()).isEqualTo(1);
+					registry.get("jdbc.connections.max").tags("name", "dataSource")
+							.meter();
+					registry.get("hikaricp.connections").meter();
+				});
+	}
+
+	@Test
+	public void routingDataSourceIsNotTimed() {
+		this.contextRunner.withUserConfiguration(RoutingDataSourceConfiguration.class)
+				.withPropertyValues("management.metrics.jdbc.statements.enabled=true")
+				.run((context) -> {
+					assertThat(AopUtils.isAopProxy(
+							context.getBean("routingDataSource", DataSource.class)))
+									.isFalse();
+					assertThat(AopUtils.isAopProxy(
+							context.getBean("firstDataSource", DataSource.class)))
+									.isTrue();
+				});
+	}
+
 	@Test
 	public void hikariCanBeInstrumentedAfterThePoolHasBeenSealed() {
 		this.contextRunner.withUserConfiguration(HikariSealingConfiguration.class)
@@ -229,6 +284,30 @@ public class DataSourcePoolMetricsAutoConfigurationTests {
 
 	}
 
+	@Configuration
+	@Import(TwoDataSourcesConfiguration.class)
+	static class RoutingDataSourceConfiguration {
+
+		@Bean
+		public DataSource routingDataSource(DataSource firstDataSource,
+				DataSource secondOne) {
+			AbstractRoutingDataSource routingDataSource = new AbstractRoutingDataSource() {
+
+				@Override
+				protected Object determineCurrentLookupKey() {
+					return "first";
+				}
+
+			};
+			Map<Object, Object> targetDataSources = new HashMap<>();
+			targetDataSources.put("first", firstDataSource);
+			targetDataSources.put("second", secondOne);
+			routingDataSource.setTargetDataSources(targetDataSources);
+			return routingDataSource;
+		}
+
+	}
+
 	@Configuration
 	static class TwoHikariDataSourcesConfiguration {
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.jms;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Test;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
+import org.springframework.boot.actuate.metrics.jms.JmsListenerMetricsBinder;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.activemq.ActiveMQAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.annotation.JmsListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JmsListenerMetricsAutoConfiguration}.
+ *
+ * @author agent
+ */
+public class JmsListenerMetricsAutoConfigurationTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.with(MetricsRun.simple())
+			.withConfiguration(AutoConfigurations.of(ActiveMQAutoConfiguration.class,
+					JmsAutoConfiguration.class,
+					JmsListenerMetricsAutoConfiguration.class))
+			.withPropertyValues("spring.jms.listener.auto-startup=false",
+					"spring.jms.listener.max-concurrency=5");
+
+	@Test
+	public void autoConfiguredListenerContainerIsInstrumented() {
+		this.contextRunner.withUserConfiguration(ListenerConfiguration.class)
+				.run((context) -> {
+					assertThat(context).hasSingleBean(JmsListenerMetricsBinder.class);
+					context.publishEvent(
+							new ApplicationStartedEvent(new SpringApplication(), null,
+									context.getSourceApplicationContext()));
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("jms.listener.consumers.max")
+							.tags("id", "test").gauge().value()).isEqualTo(5);
+				});
+	}
+
+	@Test
+	public void binderBacksOffWithoutMeterRegistry() {
+		new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(ActiveMQAutoConfiguration.class,
+						JmsAutoConfiguration.class,
+						JmsListenerMetricsAutoConfiguration.class))
+				.run((context) -> assertThat(context)
+						.doesNotHaveBean(JmsListenerMetricsBinder.class));
+	}
+
+	@Configuration
+	static class ListenerConfiguration {
+
+		@JmsListener(id = "test", destination = "test")
+		public void listen(String message) {
+		}
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.redis;
+
+import java.net.InetSocketAddress;
+
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Test;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
+import org.springframework.boot.actuate.metrics.redis.LettuceCommandLatencyMetrics;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LettuceMetricsAutoConfiguration}.
+ *
+ * @author agent
+ */
+public class LettuceMetricsAutoConfigurationTests {
+
+	private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(RedisAutoConfiguration.class,
+					LettuceMetricsAutoConfiguration.class));
+
+	@Test
+	public void autoConfiguredClientResourcesRecordCommandLatencies() {
+		this.contextRunner.with(MetricsRun.simple())
+				.run((context) -> assertThat(context.getBean(DefaultClientResources.class)
+						.commandLatencyCollector())
+								.isInstanceOf(LettuceCommandLatencyMetrics.class));
+	}
+
+	@Test
+	public void latencyMetersAreRemovedWhenContextIsClosed() {
+		this.contextRunner.with(MetricsRun.simple()).run((context) -> {
+			InetSocketAddress address = InetSocketAddress.createUnresolved("redis", 6379);
+			context.getBean(LettuceCommandLatencyMetrics.class)
+					.recordCommandLatency(address, address, CommandType.GET, 1, 1);
+			MeterRegistry registry = context.getBean(MeterRegistry.class);
+			assertThat(registry.find("lettuce.command.completion").timer()).isNotNull();
+			context.close();
+			assertThat(registry.find("lettuce.command.completion").timer()).isNull();
+		});
+	}
+
+	@Test
+	public void autoConfiguredClientResourcesAreNotInstrumentedWithoutMeterRegistry() {
+		this.contextRunner.run((context) -> assertThat(
+				context.getBean(DefaultClientResources.class).commandLatencyCollector())
+						.isNotInstanceOf(LettuceCommandLatencyMetrics.class));
+	}
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.metrics.task;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Test;
+
+import org.springframework.boot.actuate.autoconfigure.metrics.test.MetricsRun;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link TaskExecutorMetricsAutoConfiguration}.
+ *
+ * @author agent
+ */
+public class TaskExecutorMetricsAutoConfigurationTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.with(MetricsRun.simple()).withConfiguration(
+					AutoConfigurations.of(TaskExecutorMetricsAutoConfiguration.class));
+
+	@Test
+	public void taskExecutorIsInstrumented() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+				.withUserConfiguration(TaskExecutorConsumer.class).run((context) -> {
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("executor.active")
+							.tags("name", "applicationTaskExecutor").gauge()).isNotNull();
+					assertThat(registry.get("executor.queued")
+							.tags("name", "applicationTaskExecutor").gauge()).isNotNull();
+					assertThat(registry.get("executor.completed")
+							.tags("name", "applicationTaskExecutor").functionCounter())
+									.isNotNull();
+				});
+	}
+
+	@Test
+	public void tasksAreTimed() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+				.run((context) -> {
+					ThreadPoolTaskExecutor executor = context
+							.getBean(ThreadPoolTaskExecutor.class);
+					executor.execute(() -> {
+					});
+					awaitTermination(executor);
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("executor.idle")
+							.tags("name", "applicationTaskExecutor").timer().count())
+									.isEqualTo(1);
+					assertThat(registry.get("executor")
+							.tags("name", "applicationTaskExecutor").timer().count())
+									.isEqualTo(1);
+				});
+	}
+
+	@Test
+	public void timedTasksAreDecorated() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+				.withUserConfiguration(TaskDecoratorConfiguration.class)
+				.run((context) -> {
+					ThreadPoolTaskExecutor executor = context
+							.getBean(ThreadPoolTaskExecutor.class);
+					executor.execute(() -> {
+					});
+					awaitTermination(executor);
+					assertThat(context.getBean(AtomicInteger.class)).hasValue(1);
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("executor")
+							.tags("name", "applicationTaskExecutor").timer().count())
+									.isEqualTo(1);
+				});
+	}
+
+	@Test
+	public void rejectedTasksAreCounted() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+				.withPropertyValues("spring.task.execution.pool.core-size=1",
+						"spring.task.execution.pool.max-size=1",
+						"spring.task.execution.pool.queue-capacity=0")
+				.run((context) -> {
+					ThreadPoolTaskExecutor executor = context
+							.getBean(ThreadPoolTaskExecutor.class);
+					CountDownLatch latch = new CountDownLatch(1);
+					executor.execute(() -> {
+						try {
+							latch.await();
+						}
+						catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+						}
+					});
+					assertThatExceptionOfType(TaskRejectedException.class)
+							.isThrownBy(() -> executor.execute(() -> {
+							}));
+					latch.countDown();
+					awaitTermination(executor);
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("executor.rejected")
+							.tags("name", "applicationTaskExecutor").counter().count())
+									.isEqualTo(1);
+				});
+	}
+
+	@Test
+	public void lazyTaskExecutorIsNotCreatedToBeInstrumented() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+				.run((context) -> {
+					assertThat(context.getBeanFactory()
+							.containsSingleton("applicationTaskExecutor")).isFalse();
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.find("executor.active").meters()).isEmpty();
+				});
+	}
+
+	@Test
+	public void lazyTaskExecutorIsInstrumentedWhenResolved() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+				.run((context) -> {
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.find("executor.active").meters()).isEmpty();
+					context.getBean("applicationTaskExecutor", Executor.class);
+					assertThat(registry.get("executor.active")
+							.tags("name", "applicationTaskExecutor").gauge()).isNotNull();
+				});
+	}
+
+	@Test
+	public void taskSchedulerIsInstrumented() {
+		this.contextRunner
+				.withConfiguration(
+						AutoConfigurations.of(TaskSchedulingAutoConfiguration.class))
+				.withUserConfiguration(SchedulingTestConfiguration.class)
+				.run((context) -> {
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("executor.pool.size")
+							.tags("name", "taskScheduler").gauge()).isNotNull();
+				});
+	}
+
+	@Test
+	public void otherExecutorsAreIgnored() {
+		this.contextRunner.withUserConfiguration(CustomExecutorConfiguration.class)
+				.run((context) -> {
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.find("executor.active").meters()).isEmpty();
+				});
+	}
+
+	private void awaitTermination(ThreadPoolTaskExecutor executor)
+			throws InterruptedException {
+		ThreadPoolExecutor threadPoolExecutor = executor.getThreadPoolExecutor();
+		threadPoolExecutor.shutdown();
+		assertThat(threadPoolExecutor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Configuration
+	static class TaskDecoratorConfiguration {
+
+		@Bean
+		public AtomicInteger decorations() {
+			return new AtomicInteger();
+		}
+
+		@Bean
+		public TaskDecorator countingTaskDecorator(AtomicInteger decorations) {
+			return (runnable) -> {
+				decorations.incrementAndGet();
+				return runnable;
+			};
+		}
+
+	}
+
+	@Configuration
+	@EnableScheduling
+	static class SchedulingTestConfiguration {
+
+	}
+
+	static class TaskExecutorConsumer {
+
+		TaskExecutorConsumer(Executor applicationTaskExecutor) {
+		}
+
+	}
+
+	@Configuration
+	static class CustomExecutorConfiguration {
+
+		@Bean
+		public Executor customExecutor() {
+			return new SyncTaskExecutor();
+		}
+
+	}
+
+}
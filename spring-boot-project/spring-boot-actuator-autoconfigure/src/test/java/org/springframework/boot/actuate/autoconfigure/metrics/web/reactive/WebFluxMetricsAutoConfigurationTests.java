@@ -30,6 +30,7 @@ import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfigurat
 import org.springframework.boot.test.context.assertj.AssertableReactiveWebApplicationContext;
 import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
 import org.springframework.boot.test.rule.OutputCapture;
+import org.springframework.boot.web.reactive.filter.ConcurrencyLimitWebFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -109,6 +110,22 @@ public class WebFluxMetricsAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void rejectedRequestsOfConcurrencyLimitWebFilterAreCounted() {
+		this.contextRunner.withUserConfiguration(ConcurrencyLimitConfig.class)
+				.run((context) -> {
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("http.server.requests.rejected")
+							.functionCounter().count()).isEqualTo(0);
+				});
+	}
+
+	@Test
+	public void concurrencyLimitMetricsAreNotConfiguredWithoutFilter() {
+		this.contextRunner.run((context) -> assertThat(context)
+				.doesNotHaveBean("concurrencyLimitWebFilterMetrics"));
+	}
+
 	private MeterRegistry getInitializedMeterRegistry(
 			AssertableReactiveWebApplicationContext context) {
 		WebTestClient webTestClient = WebTestClient.bindToApplicationContext(context)
@@ -129,4 +146,14 @@ public class WebFluxMetricsAutoConfigurationTests {
 
 	}
 
+	@Configuration
+	protected static class ConcurrencyLimitConfig {
+
+		@Bean
+		public ConcurrencyLimitWebFilter concurrencyLimitWebFilter() {
+			return new ConcurrencyLimitWebFilter(10);
+		}
+
+	}
+
 }
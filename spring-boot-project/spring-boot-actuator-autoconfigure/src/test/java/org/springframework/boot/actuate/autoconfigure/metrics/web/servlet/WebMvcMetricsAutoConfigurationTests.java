@@ -41,6 +41,7 @@ import org.springframework.boot.test.context.assertj.AssertableWebApplicationCon
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.boot.test.rule.OutputCapture;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.filter.ConcurrencyLimitFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
@@ -105,6 +106,22 @@ public class WebMvcMetricsAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void rejectedRequestsOfConcurrencyLimitFilterAreCounted() {
+		this.contextRunner.withUserConfiguration(ConcurrencyLimitConfiguration.class)
+				.run((context) -> {
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("http.server.requests.rejected")
+							.functionCounter().count()).isEqualTo(0);
+				});
+	}
+
+	@Test
+	public void concurrencyLimitMetricsAreNotConfiguredWithoutFilter() {
+		this.contextRunner.run((context) -> assertThat(context)
+				.doesNotHaveBean("concurrencyLimitFilterMetrics"));
+	}
+
 	@Test
 	public void afterMaxUrisReachedFurtherUrisAreDenied() {
 		this.contextRunner.withUserConfiguration(TestController.class)
@@ -120,6 +137,24 @@ public class WebMvcMetricsAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void afterMaxUrisReachedFurtherUrisAreCollapsedWhenConfigured() {
+		this.contextRunner.withUserConfiguration(TestController.class)
+				.withConfiguration(AutoConfigurations.of(MetricsAutoConfiguration.class,
+						WebMvcAutoConfiguration.class))
+				.withPropertyValues("management.metrics.web.server.max-uri-tags=2",
+						"management.metrics.web.server.collapse-excess-uri-tags=true")
+				.run((context) -> {
+					MeterRegistry registry = getInitializedMeterRegistry(context);
+					assertThat(registry.get("http.server.requests").meters()).hasSize(3);
+					assertThat(registry.get("http.server.requests").tag("uri", "OTHER")
+							.timer().count()).isEqualTo(1);
+					assertThat(this.output.toString())
+							.contains("Reached the maximum number of 'uri' tags "
+									+ "for 'http.server.requests'");
+				});
+	}
+
 	@Test
 	public void shouldNotDenyNorLogIfMaxUrisIsNotReached() {
 		this.contextRunner.withUserConfiguration(TestController.class)
@@ -149,6 +184,16 @@ public class WebMvcMetricsAutoConfigurationTests {
 		return context.getBean(MeterRegistry.class);
 	}
 
+	@Configuration
+	static class ConcurrencyLimitConfiguration {
+
+		@Bean
+		public ConcurrencyLimitFilter concurrencyLimitFilter() {
+			return new ConcurrencyLimitFilter(10);
+		}
+
+	}
+
 	@Configuration
 	static class TagsProviderConfiguration {
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.web.reactive;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.reactive.ConcurrencyLimitWebFilterCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.web.reactive.filter.ConcurrencyLimitWebFilter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReactiveManagementContextAutoConfiguration}.
+ *
+ * @author agent
+ */
+public class ReactiveManagementContextAutoConfigurationTests {
+
+	private final ReactiveWebApplicationContextRunner contextRunner = new ReactiveWebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations
+					.of(ReactiveManagementContextAutoConfiguration.class))
+			.withUserConfiguration(PropertiesConfiguration.class);
+
+	@Test
+	public void concurrencyLimitWebFilterExcludesEndpointsBasePath() {
+		this.contextRunner.run((context) -> {
+			assertThat(statusWhileBusy(context, "/actuator/health")).isNull();
+			assertThat(statusWhileBusy(context, "/test"))
+					.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		});
+	}
+
+	@Test
+	public void concurrencyLimitWebFilterExcludesCustomEndpointsBasePath() {
+		this.contextRunner
+				.withPropertyValues("management.endpoints.web.base-path=/manage/")
+				.run((context) -> {
+					assertThat(statusWhileBusy(context, "/manage/health")).isNull();
+					assertThat(statusWhileBusy(context, "/actuator/health"))
+							.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+				});
+	}
+
+	@Test
+	public void concurrencyLimitWebFilterExcludesNothingWithRootEndpointsBasePath() {
+		this.contextRunner.withPropertyValues("management.endpoints.web.base-path=/")
+				.run((context) -> assertThat(statusWhileBusy(context, "/health"))
+						.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+	}
+
+	@Test
+	public void concurrencyLimitWebFilterDoesNotExcludeEndpointsWhenExcludedPathsAreSet() {
+		this.contextRunner
+				.withPropertyValues("server.concurrency-limit.excluded-paths=/health")
+				.run((context) -> {
+					assertThat(statusWhileBusy(context, "/actuator/health"))
+							.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+					assertThat(statusWhileBusy(context, "/health")).isNull();
+				});
+	}
+
+	private HttpStatus statusWhileBusy(ApplicationContext context, String path) {
+		ConcurrencyLimitWebFilter filter = new ConcurrencyLimitWebFilter(1);
+		ServerProperties serverProperties = context.getBean(ServerProperties.class);
+		if (serverProperties.getConcurrencyLimit().getExcludedPaths() != null) {
+			filter.setExcludedPaths(
+					serverProperties.getConcurrencyLimit().getExcludedPaths());
+		}
+		context.getBean(ConcurrencyLimitWebFilterCustomizer.class).customize(filter);
+		MonoProcessor<Void> inFlight = MonoProcessor.create();
+		filter.filter(exchange("/busy"), (exchange) -> inFlight).subscribe();
+		MockServerWebExchange exchange = exchange(path);
+		filter.filter(exchange, (chainExchange) -> Mono.empty()).block();
+		inFlight.onComplete();
+		return exchange.getResponse().getStatusCode();
+	}
+
+	private MockServerWebExchange exchange(String path) {
+		return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+	}
+
+	@Configuration
+	@EnableConfigurationProperties({ WebEndpointProperties.class,
+			ServerProperties.class })
+	static class PropertiesConfiguration {
+
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.web.servlet;
+
+import javax.servlet.FilterChain;
+
+import org.junit.Test;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.servlet.ConcurrencyLimitFilterCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.filter.ConcurrencyLimitFilter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ServletManagementContextAutoConfiguration}.
+ *
+ * @author agent
+ */
+public class ServletManagementContextAutoConfigurationTests {
+
+	private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations
+					.of(ServletManagementContextAutoConfiguration.class))
+			.withUserConfiguration(PropertiesConfiguration.class);
+
+	@Test
+	public void concurrencyLimitFilterExcludesEndpointsBasePath() {
+		this.contextRunner.run((context) -> {
+			assertThat(statusWhileBusy(context, "/actuator/health")).isEqualTo(200);
+			assertThat(statusWhileBusy(context, "/test")).isEqualTo(503);
+		});
+	}
+
+	@Test
+	public void concurrencyLimitFilterExcludesCustomEndpointsBasePath() {
+		this.contextRunner
+				.withPropertyValues("management.endpoints.web.base-path=/manage/")
+				.run((context) -> {
+					assertThat(statusWhileBusy(context, "/manage/health"))
+							.isEqualTo(200);
+					assertThat(statusWhileBusy(context, "/actuator/health"))
+							.isEqualTo(503);
+				});
+	}
+
+	@Test
+	public void concurrencyLimitFilterExcludesNothingWithRootEndpointsBasePath() {
+		this.contextRunner.withPropertyValues("management.endpoints.web.base-path=/")
+				.run((context) -> assertThat(statusWhileBusy(context, "/health"))
+						.isEqualTo(503));
+	}
+
+	@Test
+	public void concurrencyLimitFilterDoesNotExcludeEndpointsWhenExcludedPathsAreSet() {
+		this.contextRunner
+				.withPropertyValues("server.concurrency-limit.excluded-paths=/health")
+				.run((context) -> {
+					assertThat(statusWhileBusy(context, "/actuator/health"))
+							.isEqualTo(503);
+					assertThat(statusWhileBusy(context, "/health")).isEqualTo(200);
+				});
+	}
+
+	private int statusWhileBusy(ApplicationContext context, String path)
+			throws Exception {
+		ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1);
+		ServerProperties serverProperties = context.getBean(ServerProperties.class);
+		if (serverProperties.getConcurrencyLimit().getExcludedPaths() != null) {
+			filter.setExcludedPaths(
+					serverProperties.getConcurrencyLimit().getExcludedPaths());
+		}
+		context.getBean(ConcurrencyLimitFilterCustomizer.class).customize(filter);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain chain = (request, inFlightResponse) -> filter.doFilter(
+				new MockHttpServletRequest("GET", path), response,
+				new MockFilterChain());
+		filter.doFilter(new MockHttpServletRequest("GET", "/busy"),
+				new MockHttpServletResponse(), chain);
+		return response.getStatus();
+	}
+
+	@Configuration
+	@EnableConfigurationProperties({ WebEndpointProperties.class,
+			ServerProperties.class })
+	static class PropertiesConfiguration {
+
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+/**
+ * Statistics of a cache, as reported by its provider. Any statistic that the provider
+ * does not support, or that has not been enabled, is {@code null}.
+ *
+ * @author agent
+ * @since 2.2.0
+ * @see CacheStatisticsProvider
+ */
+public final class CacheStatistics {
+
+	private final Long size;
+
+	private final Long hits;
+
+	private final Long misses;
+
+	private final Long evictions;
+
+	private final Long estimatedMemory;
+
+	/**
+	 * Create a new {@link CacheStatistics} instance.
+	 * @param size the number of entries in the cache or {@code null}
+	 * @param hits the number of lookups that found an entry or {@code null}
+	 * @param misses the number of lookups that did not find an entry or {@code null}
+	 * @param evictions the number of entries that have been evicted or {@code null}
+	 * @param estimatedMemory the estimated memory used by the entries of the cache, in
+	 * bytes, or {@code null}
+	 */
+	public CacheStatistics(Long size, Long hits, Long misses, Long evictions,
+			Long estimatedMemory) {
+		this.size = size;
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+		this.estimatedMemory = estimatedMemory;
+	}
+
+	public Long getSize() {
+		return this.size;
+	}
+
+	public Long getHits() {
+		return this.hits;
+	}
+
+	public Long getMisses() {
+		return this.misses;
+	}
+
+	public Long getEvictions() {
+		return this.evictions;
+	}
+
+	public Long getEstimatedMemory() {
+		return this.estimatedMemory;
+	}
+
+}
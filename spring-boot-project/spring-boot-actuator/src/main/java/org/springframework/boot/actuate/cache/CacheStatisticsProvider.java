@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import org.springframework.cache.Cache;
+
+/**
+ * Provide {@link CacheStatistics} based on a {@link Cache}.
+ *
+ * @param <C> the cache type
+ * @author agent
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface CacheStatisticsProvider<C extends Cache> {
+
+	/**
+	 * Return the {@link CacheStatistics} of the specified {@link Cache} or {@code null}
+	 * if the specified {@link Cache} is not supported.
+	 * @param cache the cache to inspect
+	 * @return the statistics of the {@code cache} or {@code null}
+	 */
+	CacheStatistics getCacheStatistics(C cache);
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.boot.actuate.cache;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,13 +25,19 @@ import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import org.springframework.boot.actuate.cache.SamplingCache.HotKey;
 import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.util.LambdaSafe;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link Endpoint} to expose available {@link Cache caches}.
@@ -43,12 +51,28 @@ public class CachesEndpoint {
 
 	private final Map<String, CacheManager> cacheManagers;
 
+	private final Collection<CacheStatisticsProvider<?>> statisticsProviders;
+
 	/**
 	 * Create a new endpoint with the {@link CacheManager} instances to use.
 	 * @param cacheManagers the cache managers to use, indexed by name
 	 */
 	public CachesEndpoint(Map<String, CacheManager> cacheManagers) {
+		this(cacheManagers, Collections.emptyList());
+	}
+
+	/**
+	 * Create a new endpoint with the {@link CacheManager} instances to use and the
+	 * {@link CacheStatisticsProvider} instances that should be used to report the
+	 * statistics of a cache.
+	 * @param cacheManagers the cache managers to use, indexed by name
+	 * @param statisticsProviders the statistics providers to use
+	 * @since 2.2.0
+	 */
+	public CachesEndpoint(Map<String, CacheManager> cacheManagers,
+			Collection<CacheStatisticsProvider<?>> statisticsProviders) {
 		this.cacheManagers = new LinkedHashMap<>(cacheManagers);
+		this.statisticsProviders = statisticsProviders;
 	}
 
 	/**
@@ -73,7 +97,8 @@ public class CachesEndpoint {
 	}
 
 	/**
-	 * Return a {@link CacheDescriptor} for the specified cache.
+	 * Return a {@link CacheDescriptor} for the specified cache, including its statistics
+	 * if they are available.
 	 * @param cache the name of the cache
 	 * @param cacheManager the name of the cacheManager (can be {@code null}
 	 * @return the descriptor of the cache or {@code null} if no such cache exists
@@ -82,8 +107,15 @@ public class CachesEndpoint {
 	 */
 	@ReadOperation
 	public CacheEntry cache(@Selector String cache, @Nullable String cacheManager) {
-		return extractUniqueCacheEntry(cache,
+		CacheEntry entry = extractUniqueCacheEntry(cache,
 				getCacheEntries((name) -> name.equals(cache), isNameMatch(cacheManager)));
+		if (entry == null) {
+			return null;
+		}
+		Cache target = this.cacheManagers.get(entry.getCacheManager()).getCache(cache);
+		return (target != null)
+				? new CacheEntry(target, entry.getCacheManager(), getStatistics(target))
+				: entry;
 	}
 
 	/**
@@ -147,6 +179,38 @@ public class CachesEndpoint {
 		return false;
 	}
 
+	private CacheStatisticsDescriptor getStatistics(Cache cache) {
+		Cache target = unwrapIfNecessary(cache);
+		SamplingCache samplingCache = null;
+		if (target instanceof SamplingCache) {
+			samplingCache = (SamplingCache) target;
+			target = unwrapIfNecessary(samplingCache.getTargetCache());
+		}
+		CacheStatistics statistics = getStatisticsFromProviders(target);
+		if (statistics == null && samplingCache == null) {
+			return null;
+		}
+		return new CacheStatisticsDescriptor(statistics, samplingCache);
+	}
+
+	@SuppressWarnings("unchecked")
+	private CacheStatistics getStatisticsFromProviders(Cache cache) {
+		return LambdaSafe
+				.callbacks(CacheStatisticsProvider.class, this.statisticsProviders, cache)
+				.withLogger(CachesEndpoint.class)
+				.invokeAnd((provider) -> provider.getCacheStatistics(cache))
+				.filter(Objects::nonNull).findFirst().orElse(null);
+	}
+
+	private Cache unwrapIfNecessary(Cache cache) {
+		if (ClassUtils.isPresent(
+				"org.springframework.cache.transaction.TransactionAwareCacheDecorator",
+				getClass().getClassLoader())) {
+			return TransactionAwareCacheDecoratorHandler.unwrapIfNecessary(cache);
+		}
+		return cache;
+	}
+
 	private Predicate<String> isNameMatch(String name) {
 		return (name != null) ? ((requested) -> requested.equals(name)) : matchAll();
 	}
@@ -215,16 +279,25 @@ public class CachesEndpoint {
 	/**
 	 * Description of a {@link Cache}, primarily intended for serialization to JSON.
 	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	public static final class CacheEntry extends CacheDescriptor {
 
 		private final String name;
 
 		private final String cacheManager;
 
+		private final CacheStatisticsDescriptor statistics;
+
 		public CacheEntry(Cache cache, String cacheManager) {
+			this(cache, cacheManager, null);
+		}
+
+		public CacheEntry(Cache cache, String cacheManager,
+				CacheStatisticsDescriptor statistics) {
 			super(cache.getNativeCache().getClass().getName());
 			this.name = cache.getName();
 			this.cacheManager = cacheManager;
+			this.statistics = statistics;
 		}
 
 		public String getName() {
@@ -235,6 +308,124 @@ public class CachesEndpoint {
 			return this.cacheManager;
 		}
 
+		/**
+		 * Return the statistics of the cache, if available.
+		 * @return the statistics or {@code null}
+		 */
+		public CacheStatisticsDescriptor getStatistics() {
+			return this.statistics;
+		}
+
+	}
+
+	/**
+	 * Description of the statistics of a {@link Cache}, primarily intended for
+	 * serialization to JSON. Statistics reported by the cache provider take precedence
+	 * over those that have been sampled by a {@link SamplingCache}.
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public static final class CacheStatisticsDescriptor {
+
+		private final Long size;
+
+		private final Long hits;
+
+		private final Long misses;
+
+		private final Long evictions;
+
+		private final Long estimatedMemory;
+
+		private final List<HotKey> hotKeys;
+
+		public CacheStatisticsDescriptor(CacheStatistics statistics,
+				SamplingCache samplingCache) {
+			this.size = (statistics != null) ? statistics.getSize() : null;
+			this.evictions = (statistics != null) ? statistics.getEvictions() : null;
+			if (statistics != null && statistics.getHits() != null) {
+				this.hits = statistics.getHits();
+				this.misses = statistics.getMisses();
+			}
+			else {
+				this.hits = (samplingCache != null) ? samplingCache.getHits() : null;
+				this.misses = (samplingCache != null) ? samplingCache.getMisses() : null;
+			}
+			this.estimatedMemory = getEstimatedMemory(statistics, samplingCache);
+			this.hotKeys = (samplingCache != null
+					&& !samplingCache.getHotKeys().isEmpty()) ? samplingCache.getHotKeys()
+							: null;
+		}
+
+		private Long getEstimatedMemory(CacheStatistics statistics,
+				SamplingCache samplingCache) {
+			if (statistics != null && statistics.getEstimatedMemory() != null) {
+				return statistics.getEstimatedMemory();
+			}
+			Long averageEntrySize = (samplingCache != null)
+					? samplingCache.getAverageEntrySize() : null;
+			if (this.size != null && averageEntrySize != null) {
+				return this.size * averageEntrySize;
+			}
+			return null;
+		}
+
+		public Long getSize() {
+			return this.size;
+		}
+
+		public Long getHits() {
+			return this.hits;
+		}
+
+		public Long getMisses() {
+			return this.misses;
+		}
+
+		/**
+		 * Return the ratio of lookups that found an entry or {@code null} if it is not
+		 * known or if no lookup has been performed.
+		 * @return the hit ratio or {@code null}
+		 */
+		public Double getHitRatio() {
+			if (this.hits == null || this.misses == null) {
+				return null;
+			}
+			long lookups = this.hits + this.misses;
+			return (lookups > 0) ? (double) this.hits / lookups : null;
+		}
+
+		public Long getEvictions() {
+			return this.evictions;
+		}
+
+		/**
+		 * Return the estimated memory used by the entries of the cache, in bytes.
+		 * @return the estimated memory or {@code null}
+		 */
+		public Long getEstimatedMemory() {
+			return this.estimatedMemory;
+		}
+
+		public List<HotKey> getHotKeys() {
+			return this.hotKeys;
+		}
+
+	}
+
+	private static class TransactionAwareCacheDecoratorHandler {
+
+		private static Cache unwrapIfNecessary(Cache cache) {
+			try {
+				if (cache instanceof TransactionAwareCacheDecorator) {
+					return ((TransactionAwareCacheDecorator) cache).getTargetCache();
+				}
+			}
+			catch (NoClassDefFoundError ex) {
+				// Ignore
+			}
+			return cache;
+		}
+
 	}
 
 }
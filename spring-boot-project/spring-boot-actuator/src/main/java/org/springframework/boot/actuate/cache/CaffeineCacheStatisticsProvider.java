@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * {@link CacheStatisticsProvider} implementation for Caffeine. Hits, misses and evictions
+ * are only available if the cache records statistics.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class CaffeineCacheStatisticsProvider
+		implements CacheStatisticsProvider<CaffeineCache> {
+
+	@Override
+	public CacheStatistics getCacheStatistics(CaffeineCache cache) {
+		com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = cache
+				.getNativeCache();
+		long size = nativeCache.estimatedSize();
+		if (!nativeCache.policy().isRecordingStats()) {
+			return new CacheStatistics(size, null, null, null, null);
+		}
+		CacheStats stats = nativeCache.stats();
+		return new CacheStatistics(size, stats.hitCount(), stats.missCount(),
+				stats.evictionCount(), null);
+	}
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import net.sf.ehcache.statistics.StatisticsGateway;
+
+import org.springframework.cache.ehcache.EhCacheCache;
+
+/**
+ * {@link CacheStatisticsProvider} implementation for EhCache 2. The estimated memory is
+ * the size of the on-heap store.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class EhCache2CacheStatisticsProvider
+		implements CacheStatisticsProvider<EhCacheCache> {
+
+	@Override
+	public CacheStatistics getCacheStatistics(EhCacheCache cache) {
+		StatisticsGateway stats = cache.getNativeCache().getStatistics();
+		return new CacheStatistics(stats.getSize(), stats.cacheHitCount(),
+				stats.cacheMissCount(), stats.cacheEvictedCount(),
+				stats.getLocalHeapSizeInBytes());
+	}
+
+}
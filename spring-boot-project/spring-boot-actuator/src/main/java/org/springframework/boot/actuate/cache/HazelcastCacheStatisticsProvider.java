@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import com.hazelcast.monitor.LocalMapStats;
+import com.hazelcast.spring.cache.HazelcastCache;
+
+/**
+ * {@link CacheStatisticsProvider} implementation for Hazelcast. Statistics are those of
+ * the entries owned by the local member.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class HazelcastCacheStatisticsProvider
+		implements CacheStatisticsProvider<HazelcastCache> {
+
+	@Override
+	public CacheStatistics getCacheStatistics(HazelcastCache cache) {
+		LocalMapStats stats = cache.getNativeCache().getLocalMapStats();
+		return new CacheStatistics(stats.getOwnedEntryCount(), stats.getHits(),
+				Math.max(stats.getGetOperationCount() - stats.getHits(), 0), null,
+				stats.getOwnedEntryMemoryCost());
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.cache.SamplingCache.HotKey;
+
+/**
+ * Space-saving sketch that keeps track of the most frequent keys of a stream using a
+ * fixed number of counters. When no counter is free, the counter with the lowest count is
+ * reassigned to the new key, which inherits its count as its maximum error. The estimates
+ * of the most frequent keys are only accurate when the sketch has several times more
+ * counters than the number of keys that are reported.
+ *
+ * @author agent
+ */
+class HotKeySketch {
+
+	private static final Comparator<Counter> BY_COUNT = Comparator
+			.comparingLong((counter) -> counter.count);
+
+	private final int capacity;
+
+	private final Map<Object, Counter> counters;
+
+	HotKeySketch(int capacity) {
+		this.capacity = capacity;
+		this.counters = new HashMap<>(capacity * 2);
+	}
+
+	synchronized void offer(Object key) {
+		Counter counter = this.counters.get(key);
+		if (counter != null) {
+			counter.count++;
+			return;
+		}
+		if (this.counters.size() < this.capacity) {
+			this.counters.put(key, new Counter(key, 1, 0));
+			return;
+		}
+		Counter minimum = this.counters.values().stream().min(BY_COUNT).orElse(null);
+		if (minimum != null) {
+			this.counters.remove(minimum.key);
+			this.counters.put(key, new Counter(key, minimum.count + 1, minimum.count));
+		}
+	}
+
+	/**
+	 * Return the most frequent of the keys that are being tracked, most frequent first,
+	 * with their counts multiplied by the given factor.
+	 * @param factor the factor by which to scale counts
+	 * @param limit the maximum number of keys to return
+	 * @return the hot keys
+	 */
+	synchronized List<HotKey> getHotKeys(long factor, int limit) {
+		List<Counter> counters = new ArrayList<>(this.counters.values());
+		counters.sort(BY_COUNT.reversed());
+		List<HotKey> hotKeys = new ArrayList<>(Math.min(limit, counters.size()));
+		for (Counter counter : counters.subList(0, Math.min(limit, counters.size()))) {
+			hotKeys.add(new HotKey(String.valueOf(counter.key), counter.count * factor,
+					counter.error * factor));
+		}
+		return hotKeys;
+	}
+
+	private static final class Counter {
+
+		private final Object key;
+
+		private long count;
+
+		private final long error;
+
+		Counter(Object key, long count, long error) {
+			this.key = key;
+			this.count = count;
+			this.error = error;
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.springframework.cache.jcache.JCacheCache;
+
+/**
+ * {@link CacheStatisticsProvider} implementation for JCache (JSR-107). Statistics are
+ * read from the {@code CacheStatisticsMXBean} of the cache and are therefore only
+ * available if statistics have been enabled for it. The size of the cache is not
+ * available.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class JCacheCacheStatisticsProvider
+		implements CacheStatisticsProvider<JCacheCache> {
+
+	@Override
+	public CacheStatistics getCacheStatistics(JCacheCache cache) {
+		ObjectName objectName = getObjectName(cache.getNativeCache());
+		if (objectName == null) {
+			return null;
+		}
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		if (!server.isRegistered(objectName)) {
+			return null;
+		}
+		return new CacheStatistics(null, getStatistic(server, objectName, "CacheHits"),
+				getStatistic(server, objectName, "CacheMisses"),
+				getStatistic(server, objectName, "CacheEvictions"), null);
+	}
+
+	private ObjectName getObjectName(javax.cache.Cache<?, ?> cache) {
+		try {
+			String cacheManager = sanitize(cache.getCacheManager().getURI().toString());
+			return new ObjectName("javax.cache:type=CacheStatistics,CacheManager="
+					+ cacheManager + ",Cache=" + sanitize(cache.getName()));
+		}
+		catch (JMException ex) {
+			return null;
+		}
+	}
+
+	private String sanitize(String value) {
+		return value.replaceAll("[,:=\n]", ".");
+	}
+
+	private Long getStatistic(MBeanServer server, ObjectName objectName,
+			String attribute) {
+		try {
+			Object value = server.getAttribute(objectName, attribute);
+			return (value instanceof Number) ? ((Number) value).longValue() : null;
+		}
+		catch (JMException ex) {
+			return null;
+		}
+	}
+
+}
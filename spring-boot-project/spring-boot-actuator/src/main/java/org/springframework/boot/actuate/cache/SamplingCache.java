@@ -0,0 +1,308 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Cache} decorator that samples the operations performed on a cache so that its
+ * usage can be reported by the {@link CachesEndpoint}, including for caches whose
+ * provider does not record statistics. Every lookup is counted as a hit or a miss. One in
+ * every {@code sampleRate} writes is serialized to estimate the average size of an entry.
+ * <p>
+ * When requested, one in every {@code sampleRate} lookups is also added to a sketch of
+ * the most frequently requested keys. The sketch keeps {@value #COUNTERS_PER_HOT_KEY}
+ * times more counters than the number of keys that are reported so that their counts are
+ * accurate. Hot keys are reported as the {@link String#valueOf(Object) string
+ * representation} of the keys. As keys may contain sensitive data, such as user
+ * identifiers, hot keys are not tracked unless requested.
+ *
+ * @author agent
+ * @since 2.2.0
+ * @see SamplingCacheManager
+ */
+public class SamplingCache implements Cache {
+
+	/**
+	 * Number of counters that are kept for every hot key that is reported.
+	 */
+	public static final int COUNTERS_PER_HOT_KEY = 4;
+
+	private final Cache cache;
+
+	private final int sampleRate;
+
+	private final int hotKeyCount;
+
+	private final HotKeySketch hotKeys;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder sampledEntries = new LongAdder();
+
+	private final LongAdder sampledBytes = new LongAdder();
+
+	/**
+	 * Create a new {@link SamplingCache} instance that does not track hot keys.
+	 * @param cache the cache to decorate
+	 * @param sampleRate the number of operations for which one is sampled
+	 */
+	public SamplingCache(Cache cache, int sampleRate) {
+		this(cache, sampleRate, 0);
+	}
+
+	/**
+	 * Create a new {@link SamplingCache} instance.
+	 * @param cache the cache to decorate
+	 * @param sampleRate the number of operations for which one is sampled
+	 * @param hotKeys the number of hot keys to report, or {@code 0} to not track hot keys
+	 */
+	public SamplingCache(Cache cache, int sampleRate, int hotKeys) {
+		Assert.notNull(cache, "Cache must not be null");
+		Assert.isTrue(sampleRate > 0, "SampleRate must be positive");
+		Assert.isTrue(hotKeys >= 0, "HotKeys must not be negative");
+		this.cache = cache;
+		this.sampleRate = sampleRate;
+		this.hotKeyCount = hotKeys;
+		this.hotKeys = (hotKeys > 0) ? new HotKeySketch(hotKeys * COUNTERS_PER_HOT_KEY)
+				: null;
+	}
+
+	/**
+	 * Return the target {@link Cache} that this decorator delegates to.
+	 * @return the target cache
+	 */
+	public Cache getTargetCache() {
+		return this.cache;
+	}
+
+	@Override
+	public String getName() {
+		return this.cache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return this.cache.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		ValueWrapper value = this.cache.get(key);
+		recordLookup(key, value != null);
+		return value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = this.cache.get(key);
+		recordLookup(key, wrapper != null);
+		Object value = (wrapper != null) ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type ["
+					+ type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		AtomicBoolean loaded = new AtomicBoolean();
+		T value = this.cache.get(key, () -> {
+			loaded.set(true);
+			return valueLoader.call();
+		});
+		recordLookup(key, !loaded.get());
+		if (loaded.get()) {
+			recordWrite(key, value);
+		}
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		this.cache.put(key, value);
+		recordWrite(key, value);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = this.cache.putIfAbsent(key, value);
+		if (existing == null) {
+			recordWrite(key, value);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.cache.evict(key);
+	}
+
+	@Override
+	public void clear() {
+		this.cache.clear();
+	}
+
+	/**
+	 * Return the number of lookups that found an entry.
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Return the number of lookups that did not find an entry.
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Return the most frequently requested keys, most frequent first. Counts are
+	 * estimated from the sampled lookups.
+	 * @return the hot keys or an empty list if hot keys are not tracked
+	 */
+	public List<HotKey> getHotKeys() {
+		if (this.hotKeys == null) {
+			return Collections.emptyList();
+		}
+		return this.hotKeys.getHotKeys(this.sampleRate, this.hotKeyCount);
+	}
+
+	/**
+	 * Return the average serialized size of the sampled entries, in bytes, or
+	 * {@code null} if no entry has been sampled.
+	 * @return the average size of an entry or {@code null}
+	 */
+	public Long getAverageEntrySize() {
+		long entries = this.sampledEntries.sum();
+		return (entries > 0) ? this.sampledBytes.sum() / entries : null;
+	}
+
+	private void recordLookup(Object key, boolean hit) {
+		(hit ? this.hits : this.misses).increment();
+		if (this.hotKeys != null && isSampled()) {
+			this.hotKeys.offer(key);
+		}
+	}
+
+	private void recordWrite(Object key, Object value) {
+		if (isSampled() && key instanceof Serializable
+				&& (value == null || value instanceof Serializable)) {
+			long size = getSerializedSize(key, value);
+			if (size > 0) {
+				this.sampledEntries.increment();
+				this.sampledBytes.add(size);
+			}
+		}
+	}
+
+	private boolean isSampled() {
+		return this.sampleRate == 1
+				|| ThreadLocalRandom.current().nextInt(this.sampleRate) == 0;
+	}
+
+	private long getSerializedSize(Object key, Object value) {
+		CountingOutputStream counter = new CountingOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(counter)) {
+			stream.writeObject(key);
+			stream.writeObject(value);
+		}
+		catch (IOException ex) {
+			return -1;
+		}
+		return counter.count;
+	}
+
+	/**
+	 * A key that is frequently requested from a cache.
+	 */
+	public static final class HotKey {
+
+		private final String key;
+
+		private final long count;
+
+		private final long error;
+
+		public HotKey(String key, long count, long error) {
+			this.key = key;
+			this.count = count;
+			this.error = error;
+		}
+
+		public String getKey() {
+			return this.key;
+		}
+
+		/**
+		 * Return the estimated number of times the key has been requested.
+		 * @return the estimated count
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Return the maximum amount by which the count may overestimate the number of
+		 * times the key has been requested.
+		 * @return the maximum error of the count
+		 */
+		public long getError() {
+			return this.error;
+		}
+
+	}
+
+	/**
+	 * {@link OutputStream} that only counts the bytes written to it.
+	 */
+	private static class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			this.count += len;
+		}
+
+	}
+
+}
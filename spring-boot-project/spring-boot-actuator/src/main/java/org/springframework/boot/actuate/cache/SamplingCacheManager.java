@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheManager} decorator that wraps the caches of another {@link CacheManager} in
+ * a {@link SamplingCache}.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class SamplingCacheManager implements CacheManager {
+
+	private static final int DEFAULT_SAMPLE_RATE = 100;
+
+	private final CacheManager cacheManager;
+
+	private final int sampleRate;
+
+	private final int hotKeys;
+
+	private final ConcurrentMap<String, SamplingCache> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link SamplingCacheManager} that samples one in every 100 operations
+	 * and does not track hot keys.
+	 * @param cacheManager the cache manager to decorate
+	 */
+	public SamplingCacheManager(CacheManager cacheManager) {
+		this(cacheManager, DEFAULT_SAMPLE_RATE, 0);
+	}
+
+	/**
+	 * Create a new {@link SamplingCacheManager} instance. Hot keys are reported using the
+	 * string representation of the keys, which may contain sensitive data, so they should
+	 * only be tracked when the keys of the decorated caches can safely be exposed.
+	 * @param cacheManager the cache manager to decorate
+	 * @param sampleRate the number of operations for which one is sampled
+	 * @param hotKeys the number of hot keys to report per cache, or {@code 0} to not
+	 * track hot keys
+	 */
+	public SamplingCacheManager(CacheManager cacheManager, int sampleRate, int hotKeys) {
+		Assert.notNull(cacheManager, "CacheManager must not be null");
+		this.cacheManager = cacheManager;
+		this.sampleRate = sampleRate;
+		this.hotKeys = hotKeys;
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		Cache cache = this.cacheManager.getCache(name);
+		if (cache == null) {
+			return null;
+		}
+		return this.caches.compute(name, (key,
+				existing) -> (existing != null && existing.getTargetCache() == cache)
+						? existing
+						: new SamplingCache(cache, this.sampleRate, this.hotKeys));
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return this.cacheManager.getCacheNames();
+	}
+
+	/**
+	 * Return the {@link CacheManager} that this decorator delegates to.
+	 * @return the target cache manager
+	 */
+	public CacheManager getTargetCacheManager() {
+		return this.cacheManager;
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.metrics;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,6 +26,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -52,6 +55,9 @@ public class MetricsEndpoint {
 
 	private final MeterRegistry registry;
 
+	private final Map<MeterRegistry, MeterNameIndex> indexes = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
 	public MetricsEndpoint(MeterRegistry registry) {
 		this.registry = registry;
 	}
@@ -117,7 +123,8 @@ public class MetricsEndpoint {
 		if (registry instanceof CompositeMeterRegistry) {
 			return findFirstMatchingMeters((CompositeMeterRegistry) registry, name, tags);
 		}
-		return registry.find(name).tags(tags).meters();
+		return this.indexes.computeIfAbsent(registry, MeterNameIndex::new).find(name,
+				tags);
 	}
 
 	private Collection<Meter> findFirstMatchingMeters(CompositeMeterRegistry composite,
@@ -150,17 +157,10 @@ public class MetricsEndpoint {
 	}
 
 	private void mergeAvailableTags(Map<String, Set<String>> availableTags, Meter meter) {
-		meter.getId().getTags().forEach((tag) -> {
-			Set<String> value = Collections.singleton(tag.getValue());
-			availableTags.merge(tag.getKey(), value, this::merge);
-		});
-	}
-
-	private <T> Set<T> merge(Set<T> set1, Set<T> set2) {
-		Set<T> result = new HashSet<>(set1.size() + set2.size());
-		result.addAll(set1);
-		result.addAll(set2);
-		return result;
+		meter.getId().getTags()
+				.forEach((tag) -> availableTags
+						.computeIfAbsent(tag.getKey(), (key) -> new HashSet<>())
+						.add(tag.getValue()));
 	}
 
 	private <K, V, T> List<T> asList(Map<K, V> map, BiFunction<K, V, T> mapper) {
@@ -169,6 +169,65 @@ public class MetricsEndpoint {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Index of the meters of a single {@link MeterRegistry} by name, kept up-to-date as
+	 * meters are added to and removed from the registry.
+	 */
+	private static final class MeterNameIndex {
+
+		private final Map<String, Set<Meter>> meters = new ConcurrentHashMap<>();
+
+		MeterNameIndex(MeterRegistry registry) {
+			registry.getMeters().forEach(this::add);
+			registry.config().onMeterAdded(this::add);
+			registry.config().onMeterRemoved(this::remove);
+			reconcile(registry.getMeters());
+		}
+
+		/**
+		 * Bring the index in line with the given meters, catching any that were added
+		 * or removed before the listeners were registered.
+		 * @param registered the meters currently held by the registry
+		 */
+		private void reconcile(List<Meter> registered) {
+			Set<Meter> current = new HashSet<>(registered);
+			List<Meter> stale = this.meters.values().stream().flatMap(Set::stream)
+					.filter((meter) -> !current.contains(meter))
+					.collect(Collectors.toList());
+			stale.forEach(this::remove);
+			current.forEach(this::add);
+		}
+
+		private void add(Meter meter) {
+			this.meters.compute(meter.getId().getName(), (name, meters) -> {
+				Set<Meter> result = (meters != null) ? meters
+						: ConcurrentHashMap.newKeySet();
+				result.add(meter);
+				return result;
+			});
+		}
+
+		private void remove(Meter meter) {
+			this.meters.computeIfPresent(meter.getId().getName(), (name, meters) -> {
+				meters.remove(meter);
+				return (!meters.isEmpty()) ? meters : null;
+			});
+		}
+
+		Collection<Meter> find(String name, Iterable<Tag> tags) {
+			Set<Meter> candidates = this.meters.get(name);
+			if (candidates == null) {
+				return Collections.emptyList();
+			}
+			List<Tag> requiredTags = new ArrayList<>();
+			tags.forEach(requiredTags::add);
+			return candidates.stream()
+					.filter((meter) -> meter.getId().getTags().containsAll(requiredTags))
+					.collect(Collectors.toList());
+		}
+
+	}
+
 	/**
 	 * Response payload for a metric name listing.
 	 */
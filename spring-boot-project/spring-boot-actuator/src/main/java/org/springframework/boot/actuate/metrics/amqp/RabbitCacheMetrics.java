@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.amqp;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory.CacheMode;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MeterBinder} for the connection and channel cache of a
+ * {@link CachingConnectionFactory}.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class RabbitCacheMetrics implements MeterBinder {
+
+	private static final String IDLE_CHANNELS_TX = "idleChannelsTx";
+
+	private static final String IDLE_CHANNELS_NOT_TX = "idleChannelsNotTx";
+
+	private static final String HIGH_WATER_SUFFIX = "HighWater";
+
+	private final CachingConnectionFactory connectionFactory;
+
+	private final Iterable<Tag> tags;
+
+	/**
+	 * Create a new meter binder recording the specified {@link CachingConnectionFactory}.
+	 * @param connectionFactory the {@link CachingConnectionFactory} to instrument
+	 * @param tags tags to apply to all recorded metrics
+	 */
+	public RabbitCacheMetrics(CachingConnectionFactory connectionFactory,
+			Iterable<Tag> tags) {
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null");
+		this.connectionFactory = connectionFactory;
+		this.tags = (tags != null) ? tags : Collections.emptyList();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("rabbitmq.cache.channels.size", this.connectionFactory,
+				CachingConnectionFactory::getChannelCacheSize).tags(this.tags)
+				.description("Maximum number of channels that are cached")
+				.register(registry);
+		Gauge.builder("rabbitmq.cache.channels.idle", this.connectionFactory,
+				(factory) -> getIdleChannels(factory.getCacheProperties()))
+				.tags(this.tags)
+				.description("Number of channels that are cached and idle")
+				.register(registry);
+		if (this.connectionFactory.getCacheMode() == CacheMode.CONNECTION) {
+			Gauge.builder("rabbitmq.cache.connections.open", this.connectionFactory,
+					(factory) -> getInt(factory.getCacheProperties(), "openConnections"))
+					.tags(this.tags).description("Number of open connections")
+					.register(registry);
+			Gauge.builder("rabbitmq.cache.connections.idle", this.connectionFactory,
+					(factory) -> getInt(factory.getCacheProperties(), "idleConnections"))
+					.tags(this.tags)
+					.description("Number of connections that are cached and idle")
+					.register(registry);
+		}
+	}
+
+	private static int getIdleChannels(Properties cacheProperties) {
+		int idle = 0;
+		for (String name : cacheProperties.stringPropertyNames()) {
+			if ((name.startsWith(IDLE_CHANNELS_TX)
+					|| name.startsWith(IDLE_CHANNELS_NOT_TX))
+					&& !name.contains(HIGH_WATER_SUFFIX)) {
+				idle += getInt(cacheProperties, name);
+			}
+		}
+		return idle;
+	}
+
+	private static int getInt(Properties cacheProperties, String name) {
+		String value = cacheProperties.getProperty(name);
+		return (value != null) ? Integer.parseInt(value) : 0;
+	}
+
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link MethodInterceptor} for a {@link DataSource} that records the time taken to
+ * execute the statements of the connections that it provides. Statements are tagged with
+ * their operation, derived from the first keyword of their SQL, so that the number of tag
+ * values is bounded regardless of the SQL that is executed.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class StatementMetricsInterceptor implements MethodInterceptor {
+
+	private static final Set<String> OPERATIONS = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList("select", "insert", "update",
+					"delete", "merge", "call")));
+
+	private static final String OTHER_OPERATION = "other";
+
+	private static final Tag EXCEPTION_NONE = Tag.of("exception", "None");
+
+	private final MeterRegistry registry;
+
+	private final String metricName;
+
+	private final Iterable<Tag> tags;
+
+	private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link StatementMetricsInterceptor} instance.
+	 * @param registry the registry to which metrics are recorded
+	 * @param metricName the name of the recorded metric
+	 * @param tags additional tags to add to the recorded metric
+	 */
+	public StatementMetricsInterceptor(MeterRegistry registry, String metricName,
+			Iterable<Tag> tags) {
+		Assert.notNull(registry, "Registry must not be null");
+		Assert.hasText(metricName, "MetricName must not be empty");
+		this.registry = registry;
+		this.metricName = metricName;
+		this.tags = Tags.of(tags);
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Object result = invocation.proceed();
+		if (result instanceof Connection
+				&& "getConnection".equals(invocation.getMethod().getName())) {
+			return createProxy(Connection.class,
+					new ConnectionInvocationHandler((Connection) result));
+		}
+		return result;
+	}
+
+	private Object createProxy(Class<?> type, InvocationHandler handler) {
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				handler);
+	}
+
+	private void record(Timer.Sample sample, String sql, Throwable exception) {
+		TimerKey key = new TimerKey(getOperation(sql),
+				(exception != null) ? exception.getClass() : null);
+		sample.stop(this.timers.computeIfAbsent(key, this::registerTimer));
+	}
+
+	private Timer registerTimer(TimerKey key) {
+		Tags tags = Tags.concat(this.tags, "operation", key.operation);
+		tags = tags.and((key.exceptionType != null)
+				? Tag.of("exception", key.exceptionType.getSimpleName())
+				: EXCEPTION_NONE);
+		return Timer.builder(this.metricName).tags(tags)
+				.description("Time taken to execute JDBC statements")
+				.register(this.registry);
+	}
+
+	private static String getOperation(String sql) {
+		if (sql == null) {
+			return OTHER_OPERATION;
+		}
+		String trimmed = StringUtils.trimLeadingWhitespace(sql);
+		int end = 0;
+		while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+			end++;
+		}
+		String keyword = trimmed.substring(0, end).toLowerCase(Locale.ENGLISH);
+		return OPERATIONS.contains(keyword) ? keyword : OTHER_OPERATION;
+	}
+
+	private static Object invokeTarget(Object target, Method method, Object[] args)
+			throws Throwable {
+		try {
+			return method.invoke(target, args);
+		}
+		catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+	private static String getSql(Object[] args) {
+		if (args != null && args.length > 0 && args[0] instanceof String) {
+			return (String) args[0];
+		}
+		return null;
+	}
+
+	/**
+	 * Key of a {@link Timer} that has been registered for an operation and the type of
+	 * exception, if any, thrown by a statement.
+	 */
+	private static final class TimerKey {
+
+		private final String operation;
+
+		private final Class<?> exceptionType;
+
+		TimerKey(String operation, Class<?> exceptionType) {
+			this.operation = operation;
+			this.exceptionType = exceptionType;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TimerKey other = (TimerKey) obj;
+			return this.operation.equals(other.operation)
+					&& this.exceptionType == other.exceptionType;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * this.operation.hashCode()
+					+ ((this.exceptionType != null) ? this.exceptionType.hashCode() : 0);
+		}
+
+	}
+
+	/**
+	 * {@link InvocationHandler} for a {@link Connection} that instruments the statements
+	 * that it creates.
+	 */
+	private class ConnectionInvocationHandler implements InvocationHandler {
+
+		private final Connection connection;
+
+		ConnectionInvocationHandler(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+				throws Throwable {
+			if ("equals".equals(method.getName())) {
+				return proxy == args[0];
+			}
+			if ("hashCode".equals(method.getName())) {
+				return System.identityHashCode(proxy);
+			}
+			Object result = invokeTarget(this.connection, method, args);
+			if (result instanceof Statement && method.getReturnType().isInterface()) {
+				return createProxy(method.getReturnType(), new StatementInvocationHandler(
+						(Statement) result, (Connection) proxy, getSql(args)));
+			}
+			return result;
+		}
+
+	}
+
+	/**
+	 * {@link InvocationHandler} for a {@link Statement} that times its execution. The
+	 * statement reports the instrumented connection that created it rather than the
+	 * underlying one.
+	 */
+	private class StatementInvocationHandler implements InvocationHandler {
+
+		private final Statement statement;
+
+		private final Connection connection;
+
+		private final String sql;
+
+		StatementInvocationHandler(Statement statement, Connection connection,
+				String sql) {
+			this.statement = statement;
+			this.connection = connection;
+			this.sql = sql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+				throws Throwable {
+			if ("equals".equals(method.getName())) {
+				return proxy == args[0];
+			}
+			if ("hashCode".equals(method.getName())) {
+				return System.identityHashCode(proxy);
+			}
+			if ("getConnection".equals(method.getName())) {
+				return this.connection;
+			}
+			if (!method.getName().startsWith("execute")) {
+				return invokeTarget(this.statement, method, args);
+			}
+			String sql = getSql(args);
+			Timer.Sample sample = Timer.start(StatementMetricsInterceptor.this.registry);
+			Throwable exception = null;
+			try {
+				return invokeTarget(this.statement, method, args);
+			}
+			catch (Throwable ex) {
+				exception = ex;
+				throw ex;
+			}
+			finally {
+				record(sample, (sql != null) ? sql : this.sql, exception);
+			}
+		}
+
+	}
+
+}
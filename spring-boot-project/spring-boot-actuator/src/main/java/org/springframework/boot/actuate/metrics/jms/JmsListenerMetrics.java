@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.jms;
+
+import java.util.Collections;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.jms.config.JmsListenerEndpointRegistry;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.jms.listener.MessageListenerContainer;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MeterBinder} for the consumers of the {@link DefaultMessageListenerContainer
+ * listener containers} of a {@link JmsListenerEndpointRegistry}. Only the containers that
+ * are registered when binding are instrumented.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class JmsListenerMetrics implements MeterBinder {
+
+	private final JmsListenerEndpointRegistry endpointRegistry;
+
+	private final Iterable<Tag> tags;
+
+	/**
+	 * Create a new meter binder recording the containers of the specified
+	 * {@link JmsListenerEndpointRegistry}.
+	 * @param endpointRegistry the {@link JmsListenerEndpointRegistry} to instrument
+	 * @param tags tags to apply to all recorded metrics
+	 */
+	public JmsListenerMetrics(JmsListenerEndpointRegistry endpointRegistry,
+			Iterable<Tag> tags) {
+		Assert.notNull(endpointRegistry, "EndpointRegistry must not be null");
+		this.endpointRegistry = endpointRegistry;
+		this.tags = (tags != null) ? tags : Collections.emptyList();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (String id : this.endpointRegistry.getListenerContainerIds()) {
+			MessageListenerContainer container = this.endpointRegistry
+					.getListenerContainer(id);
+			if (container instanceof DefaultMessageListenerContainer) {
+				bindTo(registry, Tags.concat(this.tags, "id", id),
+						(DefaultMessageListenerContainer) container);
+			}
+		}
+	}
+
+	private void bindTo(MeterRegistry registry, Tags tags,
+			DefaultMessageListenerContainer container) {
+		Gauge.builder("jms.listener.consumers.active", container,
+				DefaultMessageListenerContainer::getActiveConsumerCount).tags(tags)
+				.description("Number of consumers that are currently receiving or "
+						+ "processing messages")
+				.register(registry);
+		Gauge.builder("jms.listener.consumers.scheduled", container,
+				DefaultMessageListenerContainer::getScheduledConsumerCount).tags(tags)
+				.description("Number of consumers that are currently scheduled")
+				.register(registry);
+		Gauge.builder("jms.listener.consumers.max", container,
+				DefaultMessageListenerContainer::getMaxConcurrentConsumers).tags(tags)
+				.description("Maximum number of consumers").register(registry);
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.kafka;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.MetricsReporter;
+
+/**
+ * {@link MetricsReporter} that registers the metrics of a Kafka client, such as a
+ * consumer, a producer or streams, with a {@link MeterRegistry}. Metrics are read
+ * directly from the client rather than through JMX. The reporter is instantiated by the
+ * client itself, which passes it the original entries of its configuration, so the
+ * registry is set as the {@link #METER_REGISTRY_CONFIG} entry of the client's
+ * configuration. The reporter does nothing when that entry is missing.
+ * <p>
+ * To keep the number of meters bounded, per-broker metrics, that is metrics tagged with a
+ * {@code node-id}, are not registered. Neither are metrics that describe the client
+ * itself rather than its activity.
+ * <p>
+ * Kafka reports some metrics both as an aggregate and, for instance, per topic, with the
+ * same name and different tags. As some monitoring systems require all the meters with a
+ * given name to have the same tag keys, only the most detailed variant is registered: an
+ * aggregate is skipped when a more detailed variant has already been registered and is
+ * removed when a more detailed variant is reported later on.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class KafkaClientMetricsReporter implements MetricsReporter {
+
+	/**
+	 * Name of the client configuration entry that holds the {@link MeterRegistry} with
+	 * which metrics are registered.
+	 */
+	public static final String METER_REGISTRY_CONFIG = KafkaClientMetricsReporter.class
+			.getName() + ".meter-registry";
+
+	private static final Object registrationMonitor = new Object();
+
+	private static final String METRIC_NAME_PREFIX = "kafka.";
+
+	private static final String METRIC_GROUP_SUFFIX = "-metrics";
+
+	private static final Set<String> EXCLUDED_GROUPS = Collections.unmodifiableSet(
+			new HashSet<>(Arrays.asList("app-info", "kafka-metrics-count")));
+
+	private static final String EXCLUDED_TAG = "node-id";
+
+	private static final String CUMULATIVE_SUFFIX = "-total";
+
+	private final Map<MetricName, Meter> meters = new ConcurrentHashMap<>();
+
+	private volatile MeterRegistry registry;
+
+	@Override
+	public void configure(Map<String, ?> configs) {
+		Object registry = configs.get(METER_REGISTRY_CONFIG);
+		if (registry instanceof MeterRegistry) {
+			this.registry = (MeterRegistry) registry;
+		}
+	}
+
+	@Override
+	public void init(List<KafkaMetric> metrics) {
+		metrics.forEach(this::metricChange);
+	}
+
+	@Override
+	public void metricChange(KafkaMetric metric) {
+		MeterRegistry registry = this.registry;
+		MetricName metricName = metric.metricName();
+		if (registry != null && isIncluded(metricName)
+				&& !this.meters.containsKey(metricName)) {
+			synchronized (registrationMonitor) {
+				Meter meter = register(registry, metricName, metric);
+				if (meter != null) {
+					this.meters.put(metricName, meter);
+				}
+			}
+		}
+	}
+
+	private boolean isIncluded(MetricName metricName) {
+		return !EXCLUDED_GROUPS.contains(metricName.group())
+				&& !metricName.tags().containsKey(EXCLUDED_TAG);
+	}
+
+	private Meter register(MeterRegistry registry, MetricName metricName,
+			KafkaMetric metric) {
+		String name = getMeterName(metricName);
+		List<Tag> tags = getTags(metricName);
+		if (!removeLessDetailedMeters(registry, name, tags)) {
+			return null;
+		}
+		if (metricName.name().endsWith(CUMULATIVE_SUFFIX)) {
+			return FunctionCounter.builder(name, metric, this::getValue).tags(tags)
+					.description(metricName.description()).register(registry);
+		}
+		return Gauge.builder(name, metric, this::getValue).tags(tags)
+				.description(metricName.description()).register(registry);
+	}
+
+	private boolean removeLessDetailedMeters(MeterRegistry registry, String name,
+			List<Tag> tags) {
+		Set<String> tagKeys = getTagKeys(tags);
+		Collection<Meter> existing = registry.find(name).meters();
+		for (Meter meter : existing) {
+			Set<String> existingTagKeys = getTagKeys(meter.getId().getTags());
+			if (!tagKeys.containsAll(existingTagKeys)) {
+				return false;
+			}
+		}
+		for (Meter meter : existing) {
+			if (getTagKeys(meter.getId().getTags()).size() < tagKeys.size()) {
+				registry.remove(meter);
+			}
+		}
+		return true;
+	}
+
+	private Set<String> getTagKeys(List<Tag> tags) {
+		return tags.stream().map(Tag::getKey).collect(Collectors.toSet());
+	}
+
+	private String getMeterName(MetricName metricName) {
+		String group = metricName.group();
+		if (group.endsWith(METRIC_GROUP_SUFFIX)) {
+			group = group.substring(0, group.length() - METRIC_GROUP_SUFFIX.length());
+		}
+		return METRIC_NAME_PREFIX + (group + "." + metricName.name()).replace('-', '.');
+	}
+
+	private List<Tag> getTags(MetricName metricName) {
+		List<Tag> tags = new ArrayList<>();
+		metricName.tags()
+				.forEach((key, value) -> tags.add(Tag.of(key.replace('-', '.'), value)));
+		return tags;
+	}
+
+	private double getValue(KafkaMetric metric) {
+		Object value = metric.metricValue();
+		return (value instanceof Number) ? ((Number) value).doubleValue() : Double.NaN;
+	}
+
+	@Override
+	public void metricRemoval(KafkaMetric metric) {
+		Meter meter = this.meters.remove(metric.metricName());
+		if (meter != null) {
+			this.registry.remove(meter);
+		}
+	}
+
+	@Override
+	public void close() {
+		MeterRegistry registry = this.registry;
+		if (registry != null) {
+			this.meters.values().forEach(registry::remove);
+		}
+		this.meters.clear();
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.redis;
+
+import java.net.SocketAddress;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.metrics.CommandLatencyCollector;
+import io.lettuce.core.metrics.CommandLatencyId;
+import io.lettuce.core.metrics.CommandMetrics;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link CommandLatencyCollector} that records the latency of the commands executed by
+ * Lettuce in a {@link MeterRegistry}. The time until the first response and the time
+ * until completion of each command are recorded in timers named
+ * {@code lettuce.command.firstresponse} and {@code lettuce.command.completion}
+ * respectively, tagged with the type of the command and the address of the server. As the
+ * latencies are recorded directly, Lettuce's own collection and periodic publication of
+ * latency statistics are not used. The timers are removed from the registry when the
+ * collector is shut down.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class LettuceCommandLatencyMetrics implements CommandLatencyCollector {
+
+	private final MeterRegistry registry;
+
+	private final Iterable<Tag> tags;
+
+	private final ConcurrentMap<SocketAddress, ConcurrentMap<ProtocolKeyword, CommandTimers>> timers = new ConcurrentHashMap<>();
+
+	private volatile boolean shutdown;
+
+	/**
+	 * Create a new {@link LettuceCommandLatencyMetrics} instance.
+	 * @param registry the registry to which metrics are recorded
+	 * @param tags additional tags to add to the recorded metrics
+	 */
+	public LettuceCommandLatencyMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+		Assert.notNull(registry, "Registry must not be null");
+		this.registry = registry;
+		this.tags = Tags.of(tags);
+	}
+
+	@Override
+	public void recordCommandLatency(SocketAddress local, SocketAddress remote,
+			ProtocolKeyword commandType, long firstResponseLatency,
+			long completionLatency) {
+		if (this.shutdown) {
+			return;
+		}
+		CommandTimers commandTimers = this.timers
+				.computeIfAbsent(remote, (key) -> new ConcurrentHashMap<>())
+				.computeIfAbsent(commandType,
+						(key) -> new CommandTimers(remote, commandType));
+		commandTimers.firstResponse.record(firstResponseLatency, TimeUnit.NANOSECONDS);
+		commandTimers.completion.record(completionLatency, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public Map<CommandLatencyId, CommandMetrics> retrieveMetrics() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return !this.shutdown;
+	}
+
+	@Override
+	public void shutdown() {
+		this.shutdown = true;
+		for (Map<ProtocolKeyword, CommandTimers> commandTimers : this.timers.values()) {
+			for (CommandTimers timers : commandTimers.values()) {
+				this.registry.remove(timers.firstResponse);
+				this.registry.remove(timers.completion);
+			}
+		}
+		this.timers.clear();
+	}
+
+	/**
+	 * The timers of a type of command executed against a server.
+	 */
+	private final class CommandTimers {
+
+		private final Timer firstResponse;
+
+		private final Timer completion;
+
+		private CommandTimers(SocketAddress remote, ProtocolKeyword commandType) {
+			Tags tags = Tags.concat(LettuceCommandLatencyMetrics.this.tags, "command",
+					commandType.name(), "remote", String.valueOf(remote));
+			this.firstResponse = Timer.builder("lettuce.command.firstresponse").tags(tags)
+					.description("Time until the first response to a command")
+					.register(LettuceCommandLatencyMetrics.this.registry);
+			this.completion = Timer.builder("lettuce.command.completion").tags(tags)
+					.description("Time until the completion of a command")
+					.register(LettuceCommandLatencyMetrics.this.registry);
+		}
+
+	}
+
+}
@@ -18,11 +18,16 @@ package org.springframework.boot.actuate.metrics.web.client;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import io.micrometer.core.instrument.Tag;
 
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
@@ -39,17 +44,44 @@ public final class RestTemplateExchangeTags {
 
 	private static final Pattern STRIP_URI_PATTERN = Pattern.compile("^https?://[^/]+/");
 
+	private static final Tag METHOD_NONE = Tag.of("method", "NONE");
+
+	private static final Map<HttpMethod, Tag> METHOD_TAGS = createMethodTags();
+
+	private static final Tag[] STATUS_TAGS = createStatusTags();
+
+	private static final Tag STATUS_CLIENT_ERROR = Tag.of("status", "CLIENT_ERROR");
+
+	private static final Tag STATUS_IO_ERROR = Tag.of("status", "IO_ERROR");
+
 	private RestTemplateExchangeTags() {
 	}
 
+	private static Map<HttpMethod, Tag> createMethodTags() {
+		Map<HttpMethod, Tag> tags = new EnumMap<>(HttpMethod.class);
+		for (HttpMethod method : HttpMethod.values()) {
+			tags.put(method, Tag.of("method", method.name()));
+		}
+		return Collections.unmodifiableMap(tags);
+	}
+
+	private static Tag[] createStatusTags() {
+		Tag[] tags = new Tag[600];
+		for (HttpStatus status : HttpStatus.values()) {
+			tags[status.value()] = Tag.of("status", String.valueOf(status.value()));
+		}
+		return tags;
+	}
+
 	/**
 	 * Creates a {@code method} {@code Tag} for the {@link HttpRequest#getMethod() method}
 	 * of the given {@code request}.
 	 * @param request the request
-	 * @return the method tag
+	 * @return the method tag, or {@code NONE} if the request has no method
 	 */
 	public static Tag method(HttpRequest request) {
-		return Tag.of("method", request.getMethod().name());
+		HttpMethod method = request.getMethod();
+		return (method != null) ? METHOD_TAGS.get(method) : METHOD_NONE;
 	}
 
 	/**
@@ -86,18 +118,17 @@ public final class RestTemplateExchangeTags {
 	 * @return the status tag
 	 */
 	public static Tag status(ClientHttpResponse response) {
-		return Tag.of("status", getStatusMessage(response));
-	}
-
-	private static String getStatusMessage(ClientHttpResponse response) {
+		if (response == null) {
+			return STATUS_CLIENT_ERROR;
+		}
 		try {
-			if (response == null) {
-				return "CLIENT_ERROR";
-			}
-			return String.valueOf(response.getRawStatusCode());
+			int status = response.getRawStatusCode();
+			Tag tag = (status >= 0 && status < STATUS_TAGS.length) ? STATUS_TAGS[status]
+					: null;
+			return (tag != null) ? tag : Tag.of("status", String.valueOf(status));
 		}
 		catch (IOException ex) {
-			return "IO_ERROR";
+			return STATUS_IO_ERROR;
 		}
 	}
 
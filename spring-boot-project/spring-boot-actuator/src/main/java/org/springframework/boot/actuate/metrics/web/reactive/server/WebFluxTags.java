@@ -16,8 +16,14 @@
 
 package org.springframework.boot.actuate.metrics.web.reactive.server;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
 import io.micrometer.core.instrument.Tag;
 
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.HandlerMapping;
@@ -55,9 +61,29 @@ public final class WebFluxTags {
 
 	private static final Tag OUTCOME_SERVER_ERROR = Tag.of("outcome", "SERVER_ERROR");
 
+	private static final Map<String, Tag> METHOD_TAGS = createMethodTags();
+
+	private static final Map<HttpStatus, Tag> STATUS_TAGS = createStatusTags();
+
 	private WebFluxTags() {
 	}
 
+	private static Map<String, Tag> createMethodTags() {
+		Map<String, Tag> tags = new HashMap<>();
+		for (HttpMethod method : HttpMethod.values()) {
+			tags.put(method.name(), Tag.of("method", method.name()));
+		}
+		return Collections.unmodifiableMap(tags);
+	}
+
+	private static Map<HttpStatus, Tag> createStatusTags() {
+		Map<HttpStatus, Tag> tags = new EnumMap<>(HttpStatus.class);
+		for (HttpStatus status : HttpStatus.values()) {
+			tags.put(status, Tag.of("status", String.valueOf(status.value())));
+		}
+		return Collections.unmodifiableMap(tags);
+	}
+
 	/**
 	 * Creates a {@code method} tag based on the
 	 * {@link org.springframework.http.server.reactive.ServerHttpRequest#getMethod()
@@ -67,7 +93,9 @@ public final class WebFluxTags {
 	 * @return the method tag whose value is a capitalized method (e.g. GET).
 	 */
 	public static Tag method(ServerWebExchange exchange) {
-		return Tag.of("method", exchange.getRequest().getMethodValue());
+		String method = exchange.getRequest().getMethodValue();
+		Tag tag = METHOD_TAGS.get(method);
+		return (tag != null) ? tag : Tag.of("method", method);
 	}
 
 	/**
@@ -81,7 +109,7 @@ public final class WebFluxTags {
 		if (status == null) {
 			status = HttpStatus.OK;
 		}
-		return Tag.of("status", String.valueOf(status.value()));
+		return STATUS_TAGS.get(status);
 	}
 
 	/**
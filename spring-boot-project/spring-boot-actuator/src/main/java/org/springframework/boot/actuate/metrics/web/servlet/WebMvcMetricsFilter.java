@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -42,8 +43,10 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodClassKey;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.DispatcherServlet;
@@ -75,6 +78,8 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 
 	private final boolean autoTimeRequests;
 
+	private final Map<MethodClassKey, Set<Timed>> timedAnnotationsCache = new ConcurrentReferenceHashMap<>();
+
 	private volatile HandlerMappingIntrospector introspector;
 
 	/**
@@ -189,6 +194,13 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 	}
 
 	private Set<Timed> getTimedAnnotations(HandlerMethod handler) {
+		MethodClassKey key = new MethodClassKey(handler.getMethod(),
+				handler.getBeanType());
+		return this.timedAnnotationsCache.computeIfAbsent(key,
+				(k) -> findTimedAnnotations(handler));
+	}
+
+	private Set<Timed> findTimedAnnotations(HandlerMethod handler) {
 		Set<Timed> timed = findTimedAnnotations(handler.getMethod());
 		if (timed.isEmpty()) {
 			return findTimedAnnotations(handler.getBeanType());
@@ -16,6 +16,9 @@
 
 package org.springframework.boot.actuate.metrics.web.servlet;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
@@ -23,6 +26,7 @@ import javax.servlet.http.HttpServletResponse;
 
 import io.micrometer.core.instrument.Tag;
 
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.HandlerMapping;
@@ -68,6 +72,10 @@ public final class WebMvcTags {
 
 	private static final Tag METHOD_UNKNOWN = Tag.of("method", "UNKNOWN");
 
+	private static final Map<String, Tag> METHOD_TAGS = createMethodTags();
+
+	private static final Tag[] STATUS_TAGS = createStatusTags();
+
 	private static final Pattern TRAILING_SLASH_PATTERN = Pattern.compile("/$");
 
 	private static final Pattern MULTIPLE_SLASH_PATTERN = Pattern.compile("//+");
@@ -75,6 +83,22 @@ public final class WebMvcTags {
 	private WebMvcTags() {
 	}
 
+	private static Map<String, Tag> createMethodTags() {
+		Map<String, Tag> tags = new HashMap<>();
+		for (HttpMethod method : HttpMethod.values()) {
+			tags.put(method.name(), Tag.of("method", method.name()));
+		}
+		return Collections.unmodifiableMap(tags);
+	}
+
+	private static Tag[] createStatusTags() {
+		Tag[] tags = new Tag[600];
+		for (HttpStatus status : HttpStatus.values()) {
+			tags[status.value()] = Tag.of("status", Integer.toString(status.value()));
+		}
+		return tags;
+	}
+
 	/**
 	 * Creates a {@code method} tag based on the {@link HttpServletRequest#getMethod()
 	 * method} of the given {@code request}.
@@ -82,7 +106,12 @@ public final class WebMvcTags {
 	 * @return the method tag whose value is a capitalized method (e.g. GET).
 	 */
 	public static Tag method(HttpServletRequest request) {
-		return (request != null) ? Tag.of("method", request.getMethod()) : METHOD_UNKNOWN;
+		if (request == null) {
+			return METHOD_UNKNOWN;
+		}
+		String method = request.getMethod();
+		Tag tag = METHOD_TAGS.get(method);
+		return (tag != null) ? tag : Tag.of("method", method);
 	}
 
 	/**
@@ -91,9 +120,13 @@ public final class WebMvcTags {
 	 * @return the status tag derived from the status of the response
 	 */
 	public static Tag status(HttpServletResponse response) {
-		return (response != null)
-				? Tag.of("status", Integer.toString(response.getStatus()))
-				: STATUS_UNKNOWN;
+		if (response == null) {
+			return STATUS_UNKNOWN;
+		}
+		int status = response.getStatus();
+		Tag tag = (status >= 0 && status < STATUS_TAGS.length) ? STATUS_TAGS[status]
+				: null;
+		return (tag != null) ? tag : Tag.of("status", Integer.toString(status));
 	}
 
 	/**
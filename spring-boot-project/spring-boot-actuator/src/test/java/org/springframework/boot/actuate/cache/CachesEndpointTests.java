@@ -26,8 +26,11 @@ import org.junit.Test;
 
 import org.springframework.boot.actuate.cache.CachesEndpoint.CacheEntry;
 import org.springframework.boot.actuate.cache.CachesEndpoint.CacheManagerDescriptor;
+import org.springframework.boot.actuate.cache.CachesEndpoint.CacheStatisticsDescriptor;
+import org.springframework.boot.actuate.cache.SamplingCache.HotKey;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.cache.support.SimpleCacheManager;
 
@@ -126,6 +129,73 @@ public class CachesEndpointTests {
 		assertThat(entry.getName()).isEqualTo("a");
 	}
 
+	@Test
+	public void namedCacheWithoutStatistics() {
+		CachesEndpoint endpoint = new CachesEndpoint(
+				Collections.singletonMap("test", new ConcurrentMapCacheManager("a")));
+		CacheEntry entry = endpoint.cache("a", null);
+		assertThat(entry.getStatistics()).isNull();
+	}
+
+	@Test
+	public void namedCacheWithStatisticsProvider() {
+		CacheStatisticsProvider<ConcurrentMapCache> provider = (
+				cache) -> new CacheStatistics((long) cache.getNativeCache().size(), 3L,
+						1L, null, null);
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("a");
+		cacheManager.getCache("a").put("key", "value");
+		CachesEndpoint endpoint = new CachesEndpoint(
+				Collections.singletonMap("test", cacheManager),
+				Collections.singletonList(provider));
+		CacheStatisticsDescriptor statistics = endpoint.cache("a", null).getStatistics();
+		assertThat(statistics.getSize()).isEqualTo(1L);
+		assertThat(statistics.getHits()).isEqualTo(3L);
+		assertThat(statistics.getMisses()).isEqualTo(1L);
+		assertThat(statistics.getHitRatio()).isEqualTo(0.75);
+		assertThat(statistics.getEvictions()).isNull();
+		assertThat(statistics.getHotKeys()).isNull();
+	}
+
+	@Test
+	public void namedCacheWithSamplingCacheManager() {
+		CacheStatisticsProvider<ConcurrentMapCache> provider = (
+				cache) -> new CacheStatistics((long) cache.getNativeCache().size(), null,
+						null, null, null);
+		SamplingCacheManager cacheManager = new SamplingCacheManager(
+				new ConcurrentMapCacheManager("a"), 1, 5);
+		Cache cache = cacheManager.getCache("a");
+		cache.put("key", "value");
+		cache.get("key");
+		cache.get("key");
+		cache.get("unknown");
+		CachesEndpoint endpoint = new CachesEndpoint(
+				Collections.singletonMap("test", cacheManager),
+				Collections.singletonList(provider));
+		CacheEntry entry = endpoint.cache("a", null);
+		assertThat(entry.getTarget()).isEqualTo(ConcurrentHashMap.class.getName());
+		CacheStatisticsDescriptor statistics = entry.getStatistics();
+		assertThat(statistics.getSize()).isEqualTo(1L);
+		assertThat(statistics.getHits()).isEqualTo(2L);
+		assertThat(statistics.getMisses()).isEqualTo(1L);
+		assertThat(statistics.getEstimatedMemory()).isPositive();
+		assertThat(statistics.getHotKeys()).extracting(HotKey::getKey)
+				.containsExactly("key", "unknown");
+	}
+
+	@Test
+	public void namedCacheWithSamplingCacheManagerDoesNotExposeKeysByDefault() {
+		SamplingCacheManager cacheManager = new SamplingCacheManager(
+				new ConcurrentMapCacheManager("a"));
+		Cache cache = cacheManager.getCache("a");
+		cache.put("key", "value");
+		cache.get("key");
+		CachesEndpoint endpoint = new CachesEndpoint(
+				Collections.singletonMap("test", cacheManager));
+		CacheStatisticsDescriptor statistics = endpoint.cache("a", null).getStatistics();
+		assertThat(statistics.getHits()).isEqualTo(1L);
+		assertThat(statistics.getHotKeys()).isNull();
+	}
+
 	@Test
 	public void clearAllCaches() {
 		Cache a = mockCache("a");
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.Test;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CaffeineCacheStatisticsProvider}.
+ *
+ * @author agent
+ */
+public class CaffeineCacheStatisticsProviderTests {
+
+	@Test
+	public void caffeineCacheWithStatistics() {
+		CaffeineCache cache = new CaffeineCache("test",
+				Caffeine.newBuilder().recordStats().build());
+		cache.put("a", "A");
+		cache.get("a");
+		cache.get("b");
+		CacheStatistics statistics = new CaffeineCacheStatisticsProvider()
+				.getCacheStatistics(cache);
+		assertThat(statistics.getSize()).isEqualTo(1L);
+		assertThat(statistics.getHits()).isEqualTo(1L);
+		assertThat(statistics.getMisses()).isEqualTo(1L);
+		assertThat(statistics.getEvictions()).isEqualTo(0L);
+	}
+
+	@Test
+	public void caffeineCacheWithoutStatistics() {
+		CaffeineCache cache = new CaffeineCache("test", Caffeine.newBuilder().build());
+		cache.put("a", "A");
+		CacheStatistics statistics = new CaffeineCacheStatisticsProvider()
+				.getCacheStatistics(cache);
+		assertThat(statistics.getSize()).isEqualTo(1L);
+		assertThat(statistics.getHits()).isNull();
+		assertThat(statistics.getMisses()).isNull();
+	}
+
+}
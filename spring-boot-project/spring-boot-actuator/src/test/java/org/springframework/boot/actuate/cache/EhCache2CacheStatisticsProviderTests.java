@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.Configuration;
+import org.junit.Test;
+
+import org.springframework.cache.ehcache.EhCacheCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link EhCache2CacheStatisticsProvider}.
+ *
+ * @author agent
+ */
+public class EhCache2CacheStatisticsProviderTests {
+
+	@Test
+	public void ehCache2CacheProvider() {
+		CacheManager cacheManager = new CacheManager(
+				new Configuration().name("EhCache2CacheStatisticsProviderTests")
+						.defaultCache(new CacheConfiguration("default", 100)));
+		try {
+			Cache nativeCache = new Cache(new CacheConfiguration("test", 100));
+			cacheManager.addCache(nativeCache);
+			EhCacheCache cache = new EhCacheCache(nativeCache);
+			cache.put("a", "A");
+			cache.get("a");
+			cache.get("b");
+			CacheStatistics statistics = new EhCache2CacheStatisticsProvider()
+					.getCacheStatistics(cache);
+			assertThat(statistics.getSize()).isEqualTo(1L);
+			assertThat(statistics.getHits()).isEqualTo(1L);
+			assertThat(statistics.getMisses()).isEqualTo(1L);
+			assertThat(statistics.getEstimatedMemory()).isNotNull();
+		}
+		finally {
+			cacheManager.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.monitor.LocalMapStats;
+import com.hazelcast.spring.cache.HazelcastCache;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link HazelcastCacheStatisticsProvider}.
+ *
+ * @author agent
+ */
+public class HazelcastCacheStatisticsProviderTests {
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void hazelcastCacheProvider() {
+		IMap<Object, Object> nativeCache = mock(IMap.class);
+		LocalMapStats stats = mock(LocalMapStats.class);
+		given(nativeCache.getLocalMapStats()).willReturn(stats);
+		given(stats.getOwnedEntryCount()).willReturn(5L);
+		given(stats.getHits()).willReturn(7L);
+		given(stats.getGetOperationCount()).willReturn(10L);
+		given(stats.getOwnedEntryMemoryCost()).willReturn(2048L);
+		HazelcastCache cache = new HazelcastCache(nativeCache);
+		CacheStatistics statistics = new HazelcastCacheStatisticsProvider()
+				.getCacheStatistics(cache);
+		assertThat(statistics.getSize()).isEqualTo(5L);
+		assertThat(statistics.getHits()).isEqualTo(7L);
+		assertThat(statistics.getMisses()).isEqualTo(3L);
+		assertThat(statistics.getEvictions()).isNull();
+		assertThat(statistics.getEstimatedMemory()).isEqualTo(2048L);
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.cache;
+
+import org.junit.Test;
+
+import org.springframework.boot.actuate.cache.SamplingCache.HotKey;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link SamplingCache}.
+ *
+ * @author agent
+ */
+public class SamplingCacheTests {
+
+	private final ConcurrentMapCache target = new ConcurrentMapCache("test");
+
+	@Test
+	public void lookupsAreCountedAsHitsOrMisses() {
+		SamplingCache cache = new SamplingCache(this.target, 100, 10);
+		cache.put("a", "A");
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("a", String.class)).isEqualTo("A");
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c", () -> "C")).isEqualTo("C");
+		assertThat(cache.get("c", () -> "other")).isEqualTo("C");
+		assertThat(cache.getHits()).isEqualTo(3);
+		assertThat(cache.getMisses()).isEqualTo(2);
+	}
+
+	@Test
+	public void typedLookupOfNullValueIsCountedAsHit() {
+		SamplingCache cache = new SamplingCache(this.target, 100);
+		cache.put("a", null);
+		assertThat(cache.get("a", String.class)).isNull();
+		assertThat(cache.get("b", String.class)).isNull();
+		assertThat(cache.getHits()).isEqualTo(1);
+		assertThat(cache.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	public void typedLookupOfValueOfAnotherTypeFails() {
+		SamplingCache cache = new SamplingCache(this.target, 100);
+		cache.put("a", "A");
+		assertThatIllegalStateException()
+				.isThrownBy(() -> cache.get("a", Integer.class))
+				.withMessageContaining("Integer");
+	}
+
+	@Test
+	public void hotKeysAreOrderedByFrequency() {
+		SamplingCache cache = new SamplingCache(this.target, 1, 10);
+		lookup(cache, "a", 2);
+		lookup(cache, "b", 5);
+		lookup(cache, "c", 1);
+		assertThat(cache.getHotKeys()).extracting(HotKey::getKey).containsExactly("b",
+				"a", "c");
+		assertThat(cache.getHotKeys()).extracting(HotKey::getCount).containsExactly(5L,
+				2L, 1L);
+	}
+
+	@Test
+	public void hotKeysAreBoundedAndKeepFrequentKeys() {
+		SamplingCache cache = new SamplingCache(this.target, 1, 2);
+		lookup(cache, "a", 10);
+		for (int i = 0; i < 100; i++) {
+			lookup(cache, "key" + i, 1);
+		}
+		lookup(cache, "b", 20);
+		assertThat(cache.getHotKeys()).hasSize(2);
+		HotKey hottest = cache.getHotKeys().get(0);
+		assertThat(hottest.getKey()).isEqualTo("b");
+		assertThat(hottest.getCount() - hottest.getError()).isEqualTo(20);
+	}
+
+	@Test
+	public void hotKeysKeepMoreCountersThanReported() {
+		SamplingCache cache = new SamplingCache(this.target, 1, 1);
+		for (int i = 0; i < 50; i++) {
+			lookup(cache, "a", 1);
+			lookup(cache, "key" + i, 1);
+		}
+		assertThat(cache.getHotKeys()).hasSize(1);
+		HotKey hottest = cache.getHotKeys().get(0);
+		assertThat(hottest.getKey()).isEqualTo("a");
+		assertThat(hottest.getCount()).isEqualTo(50);
+		assertThat(hottest.getError()).isZero();
+	}
+
+	@Test
+	public void hotKeysAreNotTrackedByDefault() {
+		SamplingCache cache = new SamplingCache(this.target, 1);
+		lookup(cache, "a", 10);
+		assertThat(cache.getHotKeys()).isEmpty();
+		assertThat(cache.getHits() + cache.getMisses()).isEqualTo(10);
+	}
+
+	@Test
+	public void averageEntrySizeIsEstimatedFromSerializableEntries() {
+		SamplingCache cache = new SamplingCache(this.target, 1, 10);
+		assertThat(cache.getAverageEntrySize()).isNull();
+		cache.put("a", new byte[1000]);
+		assertThat(cache.getAverageEntrySize()).isGreaterThan(1000);
+	}
+
+	@Test
+	public void averageEntrySizeIgnoresEntriesThatCannotBeSerialized() {
+		SamplingCache cache = new SamplingCache(this.target, 1, 10);
+		cache.put("a", new Object());
+		assertThat(cache.getAverageEntrySize()).isNull();
+	}
+
+	@Test
+	public void operationsAreDelegatedToTargetCache() {
+		SamplingCache cache = new SamplingCache(this.target, 1, 10);
+		cache.put("a", "A");
+		assertThat(this.target.get("a", String.class)).isEqualTo("A");
+		assertThat(cache.putIfAbsent("a", "B").get()).isEqualTo("A");
+		cache.evict("a");
+		assertThat(this.target.get("a")).isNull();
+		assertThat(cache.getName()).isEqualTo("test");
+		assertThat(cache.getNativeCache()).isSameAs(this.target.getNativeCache());
+	}
+
+	private void lookup(Cache cache, String key, int times) {
+		for (int i = 0; i < times; i++) {
+			cache.get(key);
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.MockClock;
 import io.micrometer.core.instrument.Statistic;
@@ -175,6 +176,25 @@ public class MetricsEndpointTests {
 		assertThat(response).isNull();
 	}
 
+	@Test
+	public void metricRegisteredAfterFirstRequestIsFound() {
+		this.registry.counter("cache", "result", "hit").increment();
+		assertThat(this.endpoint.metric("cache", Collections.emptyList())).isNotNull();
+		this.registry.counter("cache", "result", "miss").increment();
+		this.registry.counter("other").increment();
+		assertThat(getCount(this.endpoint.metric("cache", Collections.emptyList())))
+				.hasValue(2.0);
+		assertThat(this.endpoint.metric("other", Collections.emptyList())).isNotNull();
+	}
+
+	@Test
+	public void metricRemovedAfterFirstRequestIsNotFound() {
+		Counter counter = this.registry.counter("cache");
+		assertThat(this.endpoint.metric("cache", Collections.emptyList())).isNotNull();
+		this.registry.remove(counter);
+		assertThat(this.endpoint.metric("cache", Collections.emptyList())).isNull();
+	}
+
 	@Test
 	public void maxAggregation() {
 		SimpleMeterRegistry reg = new SimpleMeterRegistry();
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.amqp;
+
+import com.rabbitmq.client.ConnectionFactory;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory.CacheMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RabbitCacheMetrics}.
+ *
+ * @author agent
+ */
+public class RabbitCacheMetricsTests {
+
+	@Test
+	public void channelCacheIsInstrumented() throws Exception {
+		CachingConnectionFactory connectionFactory = new CachingConnectionFactory(
+				mock(ConnectionFactory.class));
+		connectionFactory.setChannelCacheSize(42);
+		connectionFactory.afterPropertiesSet();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new RabbitCacheMetrics(connectionFactory, Tags.of("env", "prod"))
+				.bindTo(registry);
+		assertThat(registry.get("rabbitmq.cache.channels.size").tags("env", "prod")
+				.gauge().value()).isEqualTo(42);
+		assertThat(registry.get("rabbitmq.cache.channels.idle").tags("env", "prod")
+				.gauge().value()).isEqualTo(0);
+		assertThat(registry.find("rabbitmq.cache.connections.open").meter()).isNull();
+	}
+
+	@Test
+	public void connectionCacheIsInstrumented() throws Exception {
+		CachingConnectionFactory connectionFactory = new CachingConnectionFactory(
+				mock(ConnectionFactory.class));
+		connectionFactory.setCacheMode(CacheMode.CONNECTION);
+		connectionFactory.afterPropertiesSet();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new RabbitCacheMetrics(connectionFactory, null).bindTo(registry);
+		assertThat(registry.get("rabbitmq.cache.connections.open").gauge().value())
+				.isEqualTo(0);
+		assertThat(registry.get("rabbitmq.cache.connections.idle").gauge().value())
+				.isEqualTo(0);
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link StatementMetricsInterceptor}.
+ *
+ * @author agent
+ */
+public class StatementMetricsInterceptorTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private EmbeddedDatabase database;
+
+	private DataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@Before
+	public void setup() {
+		this.database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.HSQL)
+				.setName(UUID.randomUUID().toString()).build();
+		ProxyFactory proxyFactory = new ProxyFactory(this.database);
+		proxyFactory.addAdvice(new StatementMetricsInterceptor(this.registry,
+				"jdbc.statements", Tags.of("name", "test")));
+		this.dataSource = (DataSource) proxyFactory.getProxy();
+		this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+		this.jdbcTemplate.execute("CREATE TABLE EXAMPLE (ID INT)");
+	}
+
+	@After
+	public void close() {
+		this.database.shutdown();
+	}
+
+	@Test
+	public void statementsAreTimedByOperation() {
+		this.jdbcTemplate.update("INSERT INTO EXAMPLE VALUES (?)", 1);
+		this.jdbcTemplate.queryForList("  select ID from EXAMPLE", Integer.class);
+		this.jdbcTemplate.queryForList("SELECT ID FROM EXAMPLE WHERE ID = ?",
+				Integer.class, 1);
+		assertThat(this.registry.get("jdbc.statements")
+				.tags("name", "test", "operation", "insert", "exception", "None").timer()
+				.count()).isEqualTo(1);
+		assertThat(this.registry.get("jdbc.statements")
+				.tags("name", "test", "operation", "select", "exception", "None").timer()
+				.count()).isEqualTo(2);
+		assertThat(this.registry.get("jdbc.statements").tags("operation", "other").timer()
+				.count()).isEqualTo(1);
+	}
+
+	@Test
+	public void timerIsRegisteredOnceForEachOperation() {
+		AtomicInteger registrations = new AtomicInteger();
+		this.registry.config().meterFilter(new MeterFilter() {
+
+			@Override
+			public Meter.Id map(Meter.Id id) {
+				registrations.incrementAndGet();
+				return id;
+			}
+
+		});
+		for (int i = 0; i < 3; i++) {
+			this.jdbcTemplate.queryForList("SELECT ID FROM EXAMPLE", Integer.class);
+		}
+		assertThat(this.registry.get("jdbc.statements").tags("operation", "select")
+				.timer().count()).isEqualTo(3);
+		assertThat(registrations).hasValue(1);
+	}
+
+	@Test
+	public void failedStatementsAreTaggedWithException() {
+		assertThatExceptionOfType(BadSqlGrammarException.class).isThrownBy(
+				() -> this.jdbcTemplate.queryForList("SELECT ID FROM MISSING"));
+		assertThat(this.registry.get("jdbc.statements").tags("operation", "select")
+				.timer().getId().getTag("exception")).isNotEqualTo("None");
+	}
+
+	@Test
+	public void statementsReturnTheInstrumentedConnection() throws SQLException {
+		try (Connection connection = this.dataSource.getConnection();
+				Statement statement = connection.createStatement()) {
+			assertThat(statement.getConnection()).isSameAs(connection);
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.jms;
+
+import javax.jms.ConnectionFactory;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.config.JmsListenerEndpointRegistry;
+import org.springframework.jms.config.SimpleJmsListenerEndpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link JmsListenerMetrics}.
+ *
+ * @author agent
+ */
+public class JmsListenerMetricsTests {
+
+	private final JmsListenerEndpointRegistry endpointRegistry = new JmsListenerEndpointRegistry();
+
+	@Test
+	public void defaultListenerContainerIsInstrumented() {
+		DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+		factory.setConnectionFactory(mock(ConnectionFactory.class));
+		factory.setConcurrency("2-5");
+		this.endpointRegistry.registerListenerContainer(createEndpoint("first"), factory);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new JmsListenerMetrics(this.endpointRegistry, Tags.of("env", "prod"))
+				.bindTo(registry);
+		assertThat(registry.get("jms.listener.consumers.max").tags("id", "first")
+				.tags("env", "prod").gauge().value()).isEqualTo(5);
+		assertThat(registry.get("jms.listener.consumers.active").tags("id", "first")
+				.gauge().value()).isEqualTo(0);
+		assertThat(registry.get("jms.listener.consumers.scheduled").tags("id", "first")
+				.gauge()).isNotNull();
+	}
+
+	private SimpleJmsListenerEndpoint createEndpoint(String id) {
+		SimpleJmsListenerEndpoint endpoint = new SimpleJmsListenerEndpoint();
+		endpoint.setId(id);
+		endpoint.setDestination("queue");
+		endpoint.setMessageListener((message) -> {
+		});
+		return endpoint;
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.kafka;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.utils.Time;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link KafkaClientMetricsReporter}.
+ *
+ * @author agent
+ */
+public class KafkaClientMetricsReporterTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private Metrics metrics;
+
+	@After
+	public void close() {
+		if (this.metrics != null) {
+			this.metrics.close();
+		}
+	}
+
+	@Test
+	public void metricIsRegisteredAsGauge() {
+		createMetrics(this.registry);
+		addMetric("records-lag", "consumer-fetch-manager-metrics", 42.0, "client-id",
+				"consumer-1", "topic", "test", "partition", "0");
+		Gauge gauge = this.registry.get("kafka.consumer.fetch.manager.records.lag")
+				.tag("client.id", "consumer-1").tag("topic", "test").tag("partition", "0")
+				.gauge();
+		assertThat(gauge.value()).isEqualTo(42.0);
+	}
+
+	@Test
+	public void cumulativeMetricIsRegisteredAsFunctionCounter() {
+		createMetrics(this.registry);
+		addMetric("record-send-total", "producer-metrics", 7.0, "client-id",
+				"producer-1");
+		FunctionCounter counter = this.registry.get("kafka.producer.record.send.total")
+				.tag("client.id", "producer-1").functionCounter();
+		assertThat(counter.count()).isEqualTo(7.0);
+	}
+
+	@Test
+	public void perNodeAndAppInfoMetricsAreNotRegistered() {
+		createMetrics(this.registry);
+		addMetric("request-latency-avg", "producer-node-metrics", 1.0, "client-id",
+				"producer-1", "node-id", "node-1");
+		addMetric("commit-id", "app-info", 1.0, "client-id", "producer-1");
+		assertThat(this.registry.find("kafka.producer.node.request.latency.avg").meter())
+				.isNull();
+		assertThat(this.registry.find("kafka.app.info.commit.id").meter()).isNull();
+		assertThat(this.registry.find("kafka.kafka.metrics.count.count").meter())
+				.isNull();
+	}
+
+	@Test
+	public void metricRemovalRemovesMeter() {
+		createMetrics(this.registry);
+		MetricName name = addMetric("batch-size-avg", "producer-metrics", 16.0,
+				"client-id", "producer-1");
+		assertThat(this.registry.find("kafka.producer.batch.size.avg").gauge())
+				.isNotNull();
+		this.metrics.removeMetric(name);
+		assertThat(this.registry.find("kafka.producer.batch.size.avg").gauge()).isNull();
+	}
+
+	@Test
+	public void closeRemovesMeters() {
+		createMetrics(this.registry);
+		addMetric("batch-size-avg", "producer-metrics", 16.0, "client-id", "producer-1");
+		this.metrics.close();
+		this.metrics = null;
+		assertThat(this.registry.find("kafka.producer.batch.size.avg").gauge()).isNull();
+	}
+
+	@Test
+	public void aggregateMetricIsNotRegisteredWhenMoreDetailedMetricIsRegistered() {
+		createMetrics(this.registry);
+		addMetric("fetch-size-avg", "consumer-fetch-manager-metrics", 8.0, "client-id",
+				"consumer-1", "topic", "test");
+		addMetric("fetch-size-avg", "consumer-fetch-manager-metrics", 16.0, "client-id",
+				"consumer-1");
+		assertThat(this.registry.find("kafka.consumer.fetch.manager.fetch.size.avg")
+				.gauges()).hasSize(1)
+						.allSatisfy((gauge) -> assertThat(gauge.getId().getTag("topic"))
+								.isEqualTo("test"));
+	}
+
+	@Test
+	public void aggregateMetricIsRemovedWhenMoreDetailedMetricIsRegistered() {
+		createMetrics(this.registry);
+		addMetric("fetch-size-avg", "consumer-fetch-manager-metrics", 16.0, "client-id",
+				"consumer-1");
+		addMetric("fetch-size-avg", "consumer-fetch-manager-metrics", 8.0, "client-id",
+				"consumer-1", "topic", "test");
+		assertThat(this.registry.find("kafka.consumer.fetch.manager.fetch.size.avg")
+				.gauges()).hasSize(1)
+						.allSatisfy((gauge) -> assertThat(gauge.getId().getTag("topic"))
+								.isEqualTo("test"));
+	}
+
+	@Test
+	public void reporterWithoutRegistryDoesNothing() {
+		createMetrics(null);
+		addMetric("batch-size-avg", "producer-metrics", 16.0, "client-id", "producer-1");
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+
+	private void createMetrics(MeterRegistry registry) {
+		KafkaClientMetricsReporter reporter = new KafkaClientMetricsReporter();
+		reporter.configure((registry != null) ? Collections
+				.singletonMap(KafkaClientMetricsReporter.METER_REGISTRY_CONFIG, registry)
+				: Collections.emptyMap());
+		this.metrics = new Metrics(new MetricConfig(),
+				Collections.singletonList(reporter), Time.SYSTEM);
+	}
+
+	private MetricName addMetric(String name, String group, double value,
+			String... tags) {
+		Map<String, String> tagMap = new HashMap<>();
+		for (int i = 0; i < tags.length; i += 2) {
+			tagMap.put(tags[i], tags[i + 1]);
+		}
+		MetricName metricName = this.metrics.metricName(name, group, "", tagMap);
+		this.metrics.addMetric(metricName, (config, now) -> value);
+		return metricName;
+	}
+
+}
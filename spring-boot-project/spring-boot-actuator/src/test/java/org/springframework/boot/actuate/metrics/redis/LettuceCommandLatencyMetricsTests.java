@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.redis;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.protocol.CommandType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LettuceCommandLatencyMetrics}.
+ *
+ * @author agent
+ */
+public class LettuceCommandLatencyMetricsTests {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final LettuceCommandLatencyMetrics metrics = new LettuceCommandLatencyMetrics(
+			this.registry, Collections.emptyList());
+
+	private final InetSocketAddress local = InetSocketAddress
+			.createUnresolved("localhost", 50000);
+
+	private final InetSocketAddress remote = InetSocketAddress.createUnresolved("redis",
+			6379);
+
+	@Test
+	public void latenciesAreRecordedPerCommandType() {
+		this.metrics.recordCommandLatency(this.local, this.remote, CommandType.GET,
+				TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(3));
+		this.metrics.recordCommandLatency(this.local, this.remote, CommandType.GET,
+				TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(5));
+		this.metrics.recordCommandLatency(this.local, this.remote, CommandType.SET,
+				TimeUnit.MILLISECONDS.toNanos(2), TimeUnit.MILLISECONDS.toNanos(2));
+		Timer get = this.registry.get("lettuce.command.completion")
+				.tags("command", "GET", "remote", this.remote.toString()).timer();
+		assertThat(get.count()).isEqualTo(2);
+		assertThat(get.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(8);
+		assertThat(this.registry.get("lettuce.command.firstresponse")
+				.tags("command", "SET").timer().totalTime(TimeUnit.MILLISECONDS))
+						.isEqualTo(2);
+	}
+
+	@Test
+	public void localAddressIsNotUsedAsATag() {
+		this.metrics.recordCommandLatency(this.local, this.remote, CommandType.GET, 1, 1);
+		this.metrics.recordCommandLatency(
+				InetSocketAddress.createUnresolved("localhost", 50001), this.remote,
+				CommandType.GET, 1, 1);
+		assertThat(this.registry.get("lettuce.command.completion").timers()).hasSize(1);
+	}
+
+	@Test
+	public void collectorIsEnabledWithoutCollectingStatistics() {
+		assertThat(this.metrics.isEnabled()).isTrue();
+		assertThat(this.metrics.retrieveMetrics()).isEmpty();
+	}
+
+	@Test
+	public void shutdownRemovesTimersAndStopsRecording() {
+		this.metrics.recordCommandLatency(this.local, this.remote, CommandType.GET, 1, 1);
+		this.metrics.recordCommandLatency(this.local, this.remote, CommandType.SET, 1, 1);
+		this.metrics.shutdown();
+		assertThat(this.registry.getMeters()).isEmpty();
+		assertThat(this.metrics.isEnabled()).isFalse();
+		this.metrics.recordCommandLatency(this.local, this.remote, CommandType.GET, 1, 1);
+		assertThat(this.registry.getMeters()).isEmpty();
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.client;
+
+import java.net.URI;
+
+import org.junit.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RestTemplateExchangeTags}.
+ *
+ * @author agent
+ */
+public class RestTemplateExchangeTagsTests {
+
+	@Test
+	public void methodTagIsBasedOnRequestMethod() {
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.PATCH,
+				URI.create("/example"));
+		assertThat(RestTemplateExchangeTags.method(request).getValue())
+				.isEqualTo("PATCH");
+	}
+
+	@Test
+	public void methodTagIsNoneWhenRequestHasNoMethod() {
+		HttpRequest request = mock(HttpRequest.class);
+		assertThat(RestTemplateExchangeTags.method(request).getKey()).isEqualTo("method");
+		assertThat(RestTemplateExchangeTags.method(request).getValue()).isEqualTo("NONE");
+	}
+
+}
@@ -89,6 +89,20 @@ public class WebFluxTagsTests {
 		assertThat(tag.getValue()).isEqualTo("CUSTOM");
 	}
 
+	@Test
+	public void statusTagValueIsResponseStatus() {
+		this.exchange.getResponse().setStatusCode(HttpStatus.CREATED);
+		Tag tag = WebFluxTags.status(this.exchange);
+		assertThat(tag.getValue()).isEqualTo("201");
+	}
+
+	@Test
+	public void statusTagValueIsOkWhenResponseStatusIsNull() {
+		this.exchange.getResponse().setStatusCode(null);
+		Tag tag = WebFluxTags.status(this.exchange);
+		assertThat(tag.getValue()).isEqualTo("200");
+	}
+
 	@Test
 	public void outcomeTagIsUnknownWhenResponseStatusIsNull() {
 		this.exchange.getResponse().setStatusCode(null);
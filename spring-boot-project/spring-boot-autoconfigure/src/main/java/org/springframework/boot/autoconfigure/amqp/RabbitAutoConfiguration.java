@@ -38,6 +38,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.context.properties.source.InvalidConfigurationPropertyValueException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -176,7 +177,7 @@ public class RabbitAutoConfiguration {
 		@ConditionalOnMissingBean
 		public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
 			PropertyMapper map = PropertyMapper.get();
-			RabbitTemplate template = new RabbitTemplate(connectionFactory);
+			RabbitTemplate template = createRabbitTemplate(connectionFactory);
 			MessageConverter messageConverter = this.messageConverter.getIfUnique();
 			if (messageConverter != null) {
 				template.setMessageConverter(messageConverter);
@@ -200,6 +201,22 @@ public class RabbitAutoConfiguration {
 			return template;
 		}
 
+		private RabbitTemplate createRabbitTemplate(ConnectionFactory connectionFactory) {
+			RabbitProperties.Template properties = this.properties.getTemplate();
+			Integer maxUnconfirmed = properties.getMaxUnconfirmed();
+			if (maxUnconfirmed == null) {
+				return new RabbitTemplate(connectionFactory);
+			}
+			if (!connectionFactory.isPublisherConfirms()) {
+				throw new InvalidConfigurationPropertyValueException(
+						"spring.rabbitmq.template.max-unconfirmed", maxUnconfirmed,
+						"Publisher confirms must be enabled to limit the number of "
+								+ "unconfirmed messages.");
+			}
+			return new UnconfirmedLimitRabbitTemplate(connectionFactory, maxUnconfirmed,
+					properties.getUnconfirmedTimeout());
+		}
+
 		private boolean determineMandatoryFlag() {
 			Boolean mandatory = this.properties.getTemplate().getMandatory();
 			return (mandatory != null) ? mandatory : this.properties.isPublisherReturns();
@@ -778,6 +778,21 @@ public class RabbitProperties {
 		 */
 		private String queue;
 
+		/**
+		 * Maximum number of messages that can await a publisher confirm before further
+		 * send operations are blocked. This is a soft bound that concurrent send
+		 * operations may exceed by up to the number of publishing threads. Requires
+		 * publisher confirms to be enabled. When not set, the number of unconfirmed
+		 * messages is not limited.
+		 */
+		private Integer maxUnconfirmed;
+
+		/**
+		 * Maximum time that a send operation waits for the number of unconfirmed messages
+		 * to drop below 'max-unconfirmed' before failing.
+		 */
+		private Duration unconfirmedTimeout = Duration.ofSeconds(5);
+
 		public Retry getRetry() {
 			return this.retry;
 		}
@@ -830,6 +845,22 @@ public class RabbitProperties {
 			this.queue = queue;
 		}
 
+		public Integer getMaxUnconfirmed() {
+			return this.maxUnconfirmed;
+		}
+
+		public void setMaxUnconfirmed(Integer maxUnconfirmed) {
+			this.maxUnconfirmed = maxUnconfirmed;
+		}
+
+		public Duration getUnconfirmedTimeout() {
+			return this.unconfirmedTimeout;
+		}
+
+		public void setUnconfirmedTimeout(Duration unconfirmedTimeout) {
+			this.unconfirmedTimeout = unconfirmedTimeout;
+		}
+
 	}
 
 	public static class Retry {
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.amqp;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.PendingConfirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * {@link RabbitTemplate} that blocks send operations while the number of messages that
+ * await a publisher confirm has reached a maximum. Send operations, including those of
+ * request-reply and {@link #invoke(OperationsCallback) scoped} operations, wait before a
+ * channel is obtained and are woken up as soon as a confirm is received, so confirms
+ * continue to be processed asynchronously and publishing is only throttled when the
+ * broker falls behind.
+ * <p>
+ * The maximum is a soft bound. No slot is reserved for a send operation once it has
+ * stopped waiting, so concurrent send operations that observe the same number of
+ * unconfirmed messages may exceed the maximum by up to the number of publishing threads.
+ *
+ * @author agent
+ */
+class UnconfirmedLimitRabbitTemplate extends RabbitTemplate {
+
+	private final Object monitor = new Object();
+
+	private final int maxUnconfirmed;
+
+	private final Duration timeout;
+
+	UnconfirmedLimitRabbitTemplate(ConnectionFactory connectionFactory,
+			int maxUnconfirmed, Duration timeout) {
+		super(connectionFactory);
+		this.maxUnconfirmed = maxUnconfirmed;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public void send(String exchange, String routingKey, Message message,
+			CorrelationData correlationData) throws AmqpException {
+		awaitUnconfirmedBelowLimit();
+		super.send(exchange, routingKey, message, correlationData);
+	}
+
+	@Override
+	protected Message doSendAndReceive(String exchange, String routingKey,
+			Message message, CorrelationData correlationData) {
+		awaitUnconfirmedBelowLimit();
+		return super.doSendAndReceive(exchange, routingKey, message, correlationData);
+	}
+
+	@Override
+	public void handleConfirm(PendingConfirm pendingConfirm, boolean ack) {
+		super.handleConfirm(pendingConfirm, ack);
+		synchronized (this.monitor) {
+			this.monitor.notifyAll();
+		}
+	}
+
+	private void awaitUnconfirmedBelowLimit() {
+		if (getUnconfirmedCount() < this.maxUnconfirmed) {
+			return;
+		}
+		long deadline = System.nanoTime() + this.timeout.toNanos();
+		synchronized (this.monitor) {
+			while (getUnconfirmedCount() >= this.maxUnconfirmed) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					throw new AmqpException("Timed out after " + this.timeout.toMillis()
+							+ "ms waiting for fewer than " + this.maxUnconfirmed
+							+ " unconfirmed messages");
+				}
+				try {
+					TimeUnit.NANOSECONDS.timedWait(this.monitor, remaining);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new AmqpException(
+							"Interrupted while waiting for unconfirmed messages", ex);
+				}
+			}
+		}
+	}
+
+}
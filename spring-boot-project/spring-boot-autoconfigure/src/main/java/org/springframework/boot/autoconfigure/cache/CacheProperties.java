@@ -18,7 +18,9 @@ package org.springframework.boot.autoconfigure.cache;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.io.Resource;
@@ -257,6 +259,8 @@ public class CacheProperties {
 		 */
 		private boolean useKeyPrefix = true;
 
+		private final Near near = new Near();
+
 		public Duration getTimeToLive() {
 			return this.timeToLive;
 		}
@@ -289,6 +293,72 @@ public class CacheProperties {
 			this.useKeyPrefix = useKeyPrefix;
 		}
 
+		public Near getNear() {
+			return this.near;
+		}
+
+		/**
+		 * Local near cache that fronts Redis.
+		 */
+		public static class Near {
+
+			/**
+			 * Whether to front each Redis cache with a local Caffeine cache.
+			 */
+			private boolean enabled;
+
+			/**
+			 * The spec to use to create the local caches. See CaffeineSpec for more
+			 * details on the spec format.
+			 */
+			private String spec = "maximumSize=1000,expireAfterWrite=60s";
+
+			/**
+			 * Specs to use to create the local caches, keyed by cache name. Caches
+			 * without a spec of their own use the default spec.
+			 */
+			private Map<String, String> specs = new LinkedHashMap<>();
+
+			/**
+			 * Name of the Redis channel used to notify other instances of entries that
+			 * have changed so that they are removed from their local caches.
+			 */
+			private String channel = "spring.cache.near.invalidation";
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public String getSpec() {
+				return this.spec;
+			}
+
+			public void setSpec(String spec) {
+				this.spec = spec;
+			}
+
+			public Map<String, String> getSpecs() {
+				return this.specs;
+			}
+
+			public void setSpecs(Map<String, String> specs) {
+				this.specs = specs;
+			}
+
+			public String getChannel() {
+				return this.channel;
+			}
+
+			public void setChannel(String channel) {
+				this.channel = channel;
+			}
+
+		}
+
 	}
 
 }
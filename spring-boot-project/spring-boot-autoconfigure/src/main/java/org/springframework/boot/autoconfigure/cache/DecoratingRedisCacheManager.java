@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.cache;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+/**
+ * {@link RedisCacheManager} that applies {@link RedisCacheDecorator RedisCacheDecorators}
+ * to its caches. Decorators are applied before the caches are made transaction aware.
+ *
+ * @author agent
+ */
+class DecoratingRedisCacheManager extends RedisCacheManager {
+
+	private final List<RedisCacheDecorator> decorators;
+
+	DecoratingRedisCacheManager(RedisCacheWriter cacheWriter,
+			RedisCacheConfiguration defaultCacheConfiguration,
+			Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+			List<RedisCacheDecorator> decorators) {
+		super(cacheWriter, defaultCacheConfiguration, initialCacheConfigurations, true);
+		this.decorators = decorators;
+	}
+
+	@Override
+	protected Cache decorateCache(Cache cache) {
+		Cache decorated = cache;
+		for (RedisCacheDecorator decorator : this.decorators) {
+			decorated = decorator.decorate(decorated);
+		}
+		return super.decorateCache(decorated);
+	}
+
+}
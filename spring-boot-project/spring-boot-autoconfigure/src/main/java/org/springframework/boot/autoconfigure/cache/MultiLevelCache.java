@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.cache;
+
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} that fronts a remote cache with a local near cache and that counts the
+ * hits, misses and puts of each {@link Level level} separately.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public interface MultiLevelCache extends Cache {
+
+	/**
+	 * Return the number of lookups that were served by the given level.
+	 * @param level the level
+	 * @return the number of hits
+	 */
+	long getHitCount(Level level);
+
+	/**
+	 * Return the number of lookups that reached the given level and were not served by
+	 * it.
+	 * @param level the level
+	 * @return the number of misses
+	 */
+	long getMissCount(Level level);
+
+	/**
+	 * Return the number of entries that were added to the given level.
+	 * @param level the level
+	 * @return the number of puts
+	 */
+	long getPutCount(Level level);
+
+	/**
+	 * The levels of a {@link MultiLevelCache}.
+	 */
+	enum Level {
+
+		/**
+		 * The local near cache.
+		 */
+		NEAR,
+
+		/**
+		 * The remote cache.
+		 */
+		REMOTE
+
+	}
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Cache} that fronts a remote cache with a local near cache. Reads are served from
+ * the near cache when possible and populate it otherwise. Writes go to both caches and
+ * are reported to the {@link RedisNearCacheManager} so that the entries can be removed
+ * from the near caches of other instances.
+ * <p>
+ * An entry that is read from the remote cache is only added to the near cache if it has
+ * not been invalidated in the meantime. To that end, a version is kept for each key,
+ * striped to bound memory use, and is incremented whenever an entry is invalidated.
+ * Invalidations are delivered on a best-effort basis and may be missed, for instance
+ * while the connection to Redis is lost, so near caches must expire their entries.
+ * <p>
+ * Hits, misses and puts are counted for each {@link Level level}.
+ *
+ * @author agent
+ */
+class NearCache implements MultiLevelCache {
+
+	private static final int VERSION_STRIPES = 64;
+
+	private final Cache near;
+
+	private final Cache remote;
+
+	private final RedisNearCacheManager cacheManager;
+
+	private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+	private final Object[] versionMonitors = new Object[VERSION_STRIPES];
+
+	private final LevelCounters nearCounters = new LevelCounters();
+
+	private final LevelCounters remoteCounters = new LevelCounters();
+
+	NearCache(Cache near, Cache remote, RedisNearCacheManager cacheManager) {
+		Assert.notNull(near, "Near must not be null");
+		Assert.notNull(remote, "Remote must not be null");
+		this.near = near;
+		this.remote = remote;
+		this.cacheManager = cacheManager;
+		for (int i = 0; i < VERSION_STRIPES; i++) {
+			this.versionMonitors[i] = new Object();
+		}
+	}
+
+	@Override
+	public String getName() {
+		return this.remote.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return this.remote.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		ValueWrapper value = this.near.get(key);
+		if (value != null) {
+			this.nearCounters.hits.increment();
+			return value;
+		}
+		this.nearCounters.misses.increment();
+		long version = getVersion(key);
+		value = this.remote.get(key);
+		if (value != null) {
+			this.remoteCounters.hits.increment();
+			putNearIfNotInvalidated(key, value.get(), version);
+		}
+		else {
+			this.remoteCounters.misses.increment();
+		}
+		return value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = (wrapper != null) ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type ["
+					+ type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = this.near.get(key);
+		if (wrapper != null) {
+			this.nearCounters.hits.increment();
+			return (T) wrapper.get();
+		}
+		this.nearCounters.misses.increment();
+		long version = getVersion(key);
+		AtomicBoolean loaded = new AtomicBoolean();
+		T value = this.remote.get(key, () -> {
+			loaded.set(true);
+			return valueLoader.call();
+		});
+		if (loaded.get()) {
+			this.remoteCounters.misses.increment();
+			this.remoteCounters.puts.increment();
+		}
+		else {
+			this.remoteCounters.hits.increment();
+		}
+		putNearIfNotInvalidated(key, value, version);
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		this.remote.put(key, value);
+		this.remoteCounters.puts.increment();
+		replaceNear(key, value);
+		invalidateOthers(key);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = this.remote.putIfAbsent(key, value);
+		invalidate(key);
+		if (existing == null) {
+			this.remoteCounters.puts.increment();
+			invalidateOthers(key);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.remote.evict(key);
+		invalidate(key);
+		invalidateOthers(key);
+	}
+
+	@Override
+	public void clear() {
+		this.remote.clear();
+		invalidate(null);
+		invalidateOthers(null);
+	}
+
+	/**
+	 * Remove the entry with the given key, or all entries if the key is {@code null},
+	 * from the near cache only.
+	 * @param key the key of the entry to remove or {@code null}
+	 */
+	void invalidate(Object key) {
+		if (key != null) {
+			int stripe = getStripe(key);
+			synchronized (this.versionMonitors[stripe]) {
+				this.versions.incrementAndGet(stripe);
+				this.near.evict(key);
+			}
+		}
+		else {
+			for (int stripe = 0; stripe < VERSION_STRIPES; stripe++) {
+				synchronized (this.versionMonitors[stripe]) {
+					this.versions.incrementAndGet(stripe);
+				}
+			}
+			this.near.clear();
+		}
+	}
+
+	private long getVersion(Object key) {
+		return this.versions.get(getStripe(key));
+	}
+
+	private void putNearIfNotInvalidated(Object key, Object value, long version) {
+		int stripe = getStripe(key);
+		synchronized (this.versionMonitors[stripe]) {
+			if (this.versions.get(stripe) == version) {
+				this.near.put(key, value);
+				this.nearCounters.puts.increment();
+			}
+		}
+	}
+
+	private void replaceNear(Object key, Object value) {
+		int stripe = getStripe(key);
+		synchronized (this.versionMonitors[stripe]) {
+			this.versions.incrementAndGet(stripe);
+			this.near.put(key, value);
+			this.nearCounters.puts.increment();
+		}
+	}
+
+	private int getStripe(Object key) {
+		int hash = key.hashCode();
+		return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+	}
+
+	private void invalidateOthers(Object key) {
+		if (this.cacheManager != null) {
+			this.cacheManager.publishInvalidation(getName(), key);
+		}
+	}
+
+	@Override
+	public long getHitCount(Level level) {
+		return getCounters(level).hits.sum();
+	}
+
+	@Override
+	public long getMissCount(Level level) {
+		return getCounters(level).misses.sum();
+	}
+
+	@Override
+	public long getPutCount(Level level) {
+		return getCounters(level).puts.sum();
+	}
+
+	private LevelCounters getCounters(Level level) {
+		return (level != Level.NEAR) ? this.remoteCounters : this.nearCounters;
+	}
+
+	/**
+	 * Return the local near cache.
+	 * @return the near cache
+	 */
+	Cache getNearCache() {
+		return this.near;
+	}
+
+	/**
+	 * Return the remote cache.
+	 * @return the remote cache
+	 */
+	Cache getRemoteCache() {
+		return this.remote;
+	}
+
+	/**
+	 * Counters of the operations performed on one level.
+	 */
+	private static final class LevelCounters {
+
+		private final LongAdder hits = new LongAdder();
+
+		private final LongAdder misses = new LongAdder();
+
+		private final LongAdder puts = new LongAdder();
+
+	}
+
+}
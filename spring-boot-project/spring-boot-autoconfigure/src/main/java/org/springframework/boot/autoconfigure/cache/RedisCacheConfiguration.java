@@ -16,24 +16,34 @@
 
 package org.springframework.boot.autoconfigure.cache;
 
-import java.util.LinkedHashSet;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.cache.CacheProperties.Redis;
+import org.springframework.boot.autoconfigure.cache.CacheProperties.Redis.Near;
+import org.springframework.boot.autoconfigure.condition.AllNestedConditions;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
 import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.data.redis.cache.RedisCacheManager;
-import org.springframework.data.redis.cache.RedisCacheManager.RedisCacheManagerBuilder;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 
@@ -68,24 +78,38 @@ class RedisCacheConfiguration {
 	}
 
 	@Bean
+	@Conditional(NearCacheUnavailableCondition.class)
 	public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
-			ResourceLoader resourceLoader) {
-		RedisCacheManagerBuilder builder = RedisCacheManager
-				.builder(redisConnectionFactory)
-				.cacheDefaults(determineConfiguration(resourceLoader.getClassLoader()));
-		List<String> cacheNames = this.cacheProperties.getCacheNames();
-		if (!cacheNames.isEmpty()) {
-			builder.initialCacheNames(new LinkedHashSet<>(cacheNames));
-		}
-		return this.customizerInvoker.customize(builder.build());
+			ResourceLoader resourceLoader,
+			ObjectProvider<RedisCacheDecorator> cacheDecorators) {
+		return this.customizerInvoker.customize(createCacheManager(this.cacheProperties,
+				this.redisCacheConfiguration, redisConnectionFactory,
+				resourceLoader.getClassLoader(), cacheDecorators));
 	}
 
-	private org.springframework.data.redis.cache.RedisCacheConfiguration determineConfiguration(
+	private static RedisCacheManager createCacheManager(CacheProperties cacheProperties,
+			org.springframework.data.redis.cache.RedisCacheConfiguration redisCacheConfiguration,
+			RedisConnectionFactory redisConnectionFactory, ClassLoader classLoader,
+			ObjectProvider<RedisCacheDecorator> cacheDecorators) {
+		org.springframework.data.redis.cache.RedisCacheConfiguration configuration = determineConfiguration(
+				cacheProperties, redisCacheConfiguration, classLoader);
+		Map<String, org.springframework.data.redis.cache.RedisCacheConfiguration> initialCacheConfigurations = new LinkedHashMap<>();
+		cacheProperties.getCacheNames()
+				.forEach((name) -> initialCacheConfigurations.put(name, configuration));
+		return new DecoratingRedisCacheManager(
+				RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory),
+				configuration, initialCacheConfigurations,
+				cacheDecorators.orderedStream().collect(Collectors.toList()));
+	}
+
+	private static org.springframework.data.redis.cache.RedisCacheConfiguration determineConfiguration(
+			CacheProperties cacheProperties,
+			org.springframework.data.redis.cache.RedisCacheConfiguration redisCacheConfiguration,
 			ClassLoader classLoader) {
-		if (this.redisCacheConfiguration != null) {
-			return this.redisCacheConfiguration;
+		if (redisCacheConfiguration != null) {
+			return redisCacheConfiguration;
 		}
-		Redis redisProperties = this.cacheProperties.getRedis();
+		Redis redisProperties = cacheProperties.getRedis();
 		org.springframework.data.redis.cache.RedisCacheConfiguration config = org.springframework.data.redis.cache.RedisCacheConfiguration
 				.defaultCacheConfig();
 		config = config.serializeValuesWith(SerializationPair
@@ -105,4 +129,94 @@ class RedisCacheConfiguration {
 		return config;
 	}
 
+	/**
+	 * Fronts the Redis caches with local Caffeine caches.
+	 */
+	@Configuration
+	@Conditional(NearCacheAvailableCondition.class)
+	static class NearCacheConfiguration {
+
+		private final CacheProperties cacheProperties;
+
+		private final CacheManagerCustomizers customizerInvoker;
+
+		private final org.springframework.data.redis.cache.RedisCacheConfiguration redisCacheConfiguration;
+
+		NearCacheConfiguration(CacheProperties cacheProperties,
+				CacheManagerCustomizers customizerInvoker,
+				ObjectProvider<org.springframework.data.redis.cache.RedisCacheConfiguration> redisCacheConfiguration) {
+			this.cacheProperties = cacheProperties;
+			this.customizerInvoker = customizerInvoker;
+			this.redisCacheConfiguration = redisCacheConfiguration.getIfAvailable();
+		}
+
+		@Bean
+		public RedisNearCacheManager cacheManager(
+				RedisConnectionFactory redisConnectionFactory,
+				ResourceLoader resourceLoader,
+				ObjectProvider<RedisCacheDecorator> cacheDecorators) {
+			ClassLoader classLoader = resourceLoader.getClassLoader();
+			RedisCacheManager remoteCacheManager = this.customizerInvoker
+					.customize(createCacheManager(this.cacheProperties,
+							this.redisCacheConfiguration, redisConnectionFactory,
+							classLoader, cacheDecorators));
+			remoteCacheManager.afterPropertiesSet();
+			Near near = this.cacheProperties.getRedis().getNear();
+			return new RedisNearCacheManager(remoteCacheManager, near.getSpec(),
+					near.getSpecs(), redisConnectionFactory, near.getChannel(),
+					classLoader);
+		}
+
+		@Bean
+		public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+				RedisConnectionFactory redisConnectionFactory,
+				RedisNearCacheManager cacheManager) {
+			RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+			container.setConnectionFactory(redisConnectionFactory);
+			container.addMessageListener(cacheManager, new ChannelTopic(
+					this.cacheProperties.getRedis().getNear().getChannel()));
+			return container;
+		}
+
+	}
+
+	/**
+	 * Condition that matches when a near cache has been enabled and Caffeine is
+	 * available.
+	 */
+	static class NearCacheAvailableCondition extends AllNestedConditions {
+
+		NearCacheAvailableCondition() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@ConditionalOnProperty(prefix = "spring.cache.redis.near", name = "enabled")
+		static class NearCacheEnabled {
+
+		}
+
+		@ConditionalOnClass({ Caffeine.class, CaffeineCache.class })
+		static class CaffeineAvailable {
+
+		}
+
+	}
+
+	/**
+	 * Condition that matches when a near cache has not been enabled or when Caffeine is
+	 * not available, in which case a plain {@link RedisCacheManager} is used.
+	 */
+	static class NearCacheUnavailableCondition extends NoneNestedConditions {
+
+		NearCacheUnavailableCondition() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@Conditional(NearCacheAvailableCondition.class)
+		static class NearCacheAvailable {
+
+		}
+
+	}
+
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+/**
+ * Callback interface that can be implemented by beans wishing to decorate the caches of
+ * the auto-configured {@link RedisCacheManager}, for instance to record statistics that
+ * Redis caches do not keep. The cache manager itself keeps its type.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface RedisCacheDecorator {
+
+	/**
+	 * Decorate the given cache.
+	 * @param cache the cache to decorate
+	 * @return the decorated cache
+	 */
+	Cache decorate(Cache cache);
+
+}
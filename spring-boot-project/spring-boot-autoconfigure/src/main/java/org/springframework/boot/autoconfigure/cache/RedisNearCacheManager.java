@@ -0,0 +1,216 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.cache;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link CacheManager} that fronts the caches of a Redis {@link CacheManager} with local
+ * Caffeine caches. Changes made through a {@link NearCache} are published to a Redis
+ * channel. Instances that {@link #onMessage(Message, byte[]) receive} such a notification
+ * from another instance remove the entry from their own near cache.
+ * <p>
+ * As notifications can be missed, every Caffeine spec must set {@code expireAfterWrite}
+ * to bound the time during which a near cache can serve a stale entry.
+ *
+ * @author agent
+ */
+class RedisNearCacheManager implements CacheManager, MessageListener {
+
+	private static final Log logger = LogFactory.getLog(RedisNearCacheManager.class);
+
+	private final CacheManager remoteCacheManager;
+
+	private final String defaultSpec;
+
+	private final Map<String, String> specs;
+
+	private final RedisConnectionFactory connectionFactory;
+
+	private final byte[] channel;
+
+	private final RedisSerializer<Object> serializer;
+
+	private final String origin = UUID.randomUUID().toString();
+
+	private final ConcurrentMap<String, NearCache> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link RedisNearCacheManager} instance.
+	 * @param remoteCacheManager the cache manager of the remote caches
+	 * @param defaultSpec the Caffeine spec to use for the near caches
+	 * @param specs the Caffeine specs to use for the near caches, keyed by cache name
+	 * @param connectionFactory the connection factory used to publish invalidations
+	 * @param channel the name of the channel to which invalidations are published
+	 * @param classLoader the class loader used to deserialize invalidations
+	 * @throws IllegalArgumentException if a spec does not set {@code expireAfterWrite}
+	 */
+	RedisNearCacheManager(CacheManager remoteCacheManager, String defaultSpec,
+			Map<String, String> specs, RedisConnectionFactory connectionFactory,
+			String channel, ClassLoader classLoader) {
+		Assert.notNull(remoteCacheManager, "RemoteCacheManager must not be null");
+		Assert.hasText(defaultSpec, "DefaultSpec must not be empty");
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null");
+		Assert.hasText(channel, "Channel must not be empty");
+		assertExpiresAfterWrite(defaultSpec);
+		if (specs != null) {
+			specs.values().forEach(RedisNearCacheManager::assertExpiresAfterWrite);
+		}
+		this.remoteCacheManager = remoteCacheManager;
+		this.defaultSpec = defaultSpec;
+		this.specs = (specs != null) ? specs : Collections.emptyMap();
+		this.connectionFactory = connectionFactory;
+		this.channel = channel.getBytes(StandardCharsets.UTF_8);
+		this.serializer = new JdkSerializationRedisSerializer(classLoader);
+	}
+
+	private static void assertExpiresAfterWrite(String spec) {
+		boolean expiresAfterWrite = StringUtils.commaDelimitedListToSet(spec).stream()
+				.map(String::trim)
+				.anyMatch((option) -> option.startsWith("expireAfterWrite="));
+		Assert.isTrue(expiresAfterWrite, () -> "Near cache spec '" + spec
+				+ "' must set expireAfterWrite as invalidations can be missed");
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		NearCache cache = this.caches.get(name);
+		if (cache != null) {
+			return cache;
+		}
+		Cache remote = this.remoteCacheManager.getCache(name);
+		if (remote == null) {
+			return null;
+		}
+		return this.caches.computeIfAbsent(name,
+				(key) -> new NearCache(createNearCache(name), remote, this));
+	}
+
+	private Cache createNearCache(String name) {
+		String spec = this.specs.getOrDefault(name, this.defaultSpec);
+		return new CaffeineCache(name, Caffeine.from(spec).build(), true);
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return this.remoteCacheManager.getCacheNames();
+	}
+
+	/**
+	 * Return the cache manager of the remote caches.
+	 * @return the remote cache manager
+	 */
+	CacheManager getRemoteCacheManager() {
+		return this.remoteCacheManager;
+	}
+
+	/**
+	 * Notify other instances that the entry with the given key, or all entries if the key
+	 * is {@code null}, of the given cache have changed. Keys that cannot be serialized
+	 * cause all the entries of the cache to be invalidated.
+	 * @param cacheName the name of the cache
+	 * @param key the key of the entry that has changed or {@code null}
+	 */
+	void publishInvalidation(String cacheName, Object key) {
+		byte[] message = serializeInvalidation(cacheName, key);
+		RedisConnection connection = this.connectionFactory.getConnection();
+		try {
+			connection.publish(this.channel, message);
+		}
+		finally {
+			connection.close();
+		}
+	}
+
+	private byte[] serializeInvalidation(String cacheName, Object key) {
+		if (key instanceof Serializable) {
+			try {
+				return this.serializer
+						.serialize(new Invalidation(this.origin, cacheName, key));
+			}
+			catch (SerializationException ex) {
+				// Fall back to invalidating all the entries of the cache
+			}
+		}
+		return this.serializer.serialize(new Invalidation(this.origin, cacheName, null));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		Object body;
+		try {
+			body = this.serializer.deserialize(message.getBody());
+		}
+		catch (RuntimeException ex) {
+			logger.debug("Ignoring near cache invalidation that could not be read", ex);
+			return;
+		}
+		if (body instanceof Invalidation) {
+			Invalidation invalidation = (Invalidation) body;
+			NearCache cache = this.caches.get(invalidation.cacheName);
+			if (cache != null && !this.origin.equals(invalidation.origin)) {
+				cache.invalidate(invalidation.key);
+			}
+		}
+	}
+
+	/**
+	 * Notification that entries of a cache have changed.
+	 */
+	private static final class Invalidation implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String origin;
+
+		private final String cacheName;
+
+		private final Object key;
+
+		Invalidation(String origin, String cacheName, Object key) {
+			this.origin = origin;
+			this.cacheName = cacheName;
+			this.key = key;
+		}
+
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.data.redis;
+
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+
+/**
+ * Callback interface that can be implemented by beans wishing to customize the
+ * auto-configured Lettuce {@link ClientResources} via a
+ * {@link DefaultClientResources.Builder} whilst retaining default auto-configuration.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface ClientResourcesBuilderCustomizer {
+
+	/**
+	 * Customize the {@link DefaultClientResources.Builder}.
+	 * @param clientResourcesBuilder the builder to customize
+	 */
+	void customize(DefaultClientResources.Builder clientResourcesBuilder);
+
+}
@@ -63,8 +63,19 @@ class LettuceConnectionConfiguration extends RedisConnectionConfiguration {
 
 	@Bean(destroyMethod = "shutdown")
 	@ConditionalOnMissingBean(ClientResources.class)
-	public DefaultClientResources lettuceClientResources() {
-		return DefaultClientResources.create();
+	public DefaultClientResources lettuceClientResources(
+			ObjectProvider<ClientResourcesBuilderCustomizer> customizers) {
+		DefaultClientResources.Builder builder = DefaultClientResources.builder();
+		RedisProperties.Lettuce lettuce = this.properties.getLettuce();
+		if (lettuce.getIoThreadPoolSize() != null) {
+			builder.ioThreadPoolSize(lettuce.getIoThreadPoolSize());
+		}
+		if (lettuce.getComputationThreadPoolSize() != null) {
+			builder.computationThreadPoolSize(lettuce.getComputationThreadPoolSize());
+		}
+		customizers.orderedStream()
+				.forEach((customizer) -> customizer.customize(builder));
+		return builder.build();
 	}
 
 	@Bean
@@ -73,7 +84,11 @@ class LettuceConnectionConfiguration extends RedisConnectionConfiguration {
 			ClientResources clientResources) throws UnknownHostException {
 		LettuceClientConfiguration clientConfig = getLettuceClientConfiguration(
 				clientResources, this.properties.getLettuce().getPool());
-		return createLettuceConnectionFactory(clientConfig);
+		LettuceConnectionFactory connectionFactory = createLettuceConnectionFactory(
+				clientConfig);
+		connectionFactory.setShareNativeConnection(
+				this.properties.getLettuce().isShareNativeConnection());
+		return connectionFactory;
 	}
 
 	private LettuceConnectionFactory createLettuceConnectionFactory(
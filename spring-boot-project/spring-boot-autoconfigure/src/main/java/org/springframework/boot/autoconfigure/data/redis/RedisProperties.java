@@ -320,6 +320,25 @@ public class RedisProperties {
 		 */
 		private Duration shutdownTimeout = Duration.ofMillis(100);
 
+		/**
+		 * Whether to share a single native connection between all non-blocking and
+		 * non-transactional operations. When disabled, each operation uses a dedicated
+		 * connection, from the pool if one is configured.
+		 */
+		private boolean shareNativeConnection = true;
+
+		/**
+		 * Number of threads of the event loop that performs I/O. When not set, the number
+		 * of available processors, with a minimum of three, is used.
+		 */
+		private Integer ioThreadPoolSize;
+
+		/**
+		 * Number of threads used to complete commands and to publish events. When not
+		 * set, the number of available processors, with a minimum of three, is used.
+		 */
+		private Integer computationThreadPoolSize;
+
 		/**
 		 * Lettuce pool configuration.
 		 */
@@ -333,6 +352,30 @@ public class RedisProperties {
 			this.shutdownTimeout = shutdownTimeout;
 		}
 
+		public boolean isShareNativeConnection() {
+			return this.shareNativeConnection;
+		}
+
+		public void setShareNativeConnection(boolean shareNativeConnection) {
+			this.shareNativeConnection = shareNativeConnection;
+		}
+
+		public Integer getIoThreadPoolSize() {
+			return this.ioThreadPoolSize;
+		}
+
+		public void setIoThreadPoolSize(Integer ioThreadPoolSize) {
+			this.ioThreadPoolSize = ioThreadPoolSize;
+		}
+
+		public Integer getComputationThreadPoolSize() {
+			return this.computationThreadPoolSize;
+		}
+
+		public void setComputationThreadPoolSize(Integer computationThreadPoolSize) {
+			this.computationThreadPoolSize = computationThreadPoolSize;
+		}
+
 		public Pool getPool() {
 			return this.pool;
 		}
@@ -18,6 +18,7 @@ package org.springframework.boot.autoconfigure.http;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.Map;
 
@@ -45,6 +46,11 @@ public class HttpProperties {
 	 */
 	private final Encoding encoding = new Encoding();
 
+	/**
+	 * HTTP client properties.
+	 */
+	private final Client client = new Client();
+
 	public boolean isLogRequestDetails() {
 		return this.logRequestDetails;
 	}
@@ -57,6 +63,72 @@ public class HttpProperties {
 		return this.encoding;
 	}
 
+	public Client getClient() {
+		return this.client;
+	}
+
+	/**
+	 * Configuration properties for http clients.
+	 */
+	public static class Client {
+
+		private final Pool pool = new Pool();
+
+		public Pool getPool() {
+			return this.pool;
+		}
+
+		/**
+		 * Connection pool properties.
+		 */
+		public static class Pool {
+
+			/**
+			 * Maximum number of pooled connections. Only supported with Apache
+			 * HttpClient.
+			 */
+			private Integer maxConnections;
+
+			/**
+			 * Maximum number of pooled connections to each route. Only supported with
+			 * Apache HttpClient.
+			 */
+			private Integer maxConnectionsPerRoute;
+
+			/**
+			 * Maximum amount of time that a connection can remain idle in the pool before
+			 * it is evicted. Only supported with Apache HttpClient.
+			 */
+			private Duration maxIdleTime;
+
+			public Integer getMaxConnections() {
+				return this.maxConnections;
+			}
+
+			public void setMaxConnections(Integer maxConnections) {
+				this.maxConnections = maxConnections;
+			}
+
+			public Integer getMaxConnectionsPerRoute() {
+				return this.maxConnectionsPerRoute;
+			}
+
+			public void setMaxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+				this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+			}
+
+			public Duration getMaxIdleTime() {
+				return this.maxIdleTime;
+			}
+
+			public void setMaxIdleTime(Duration maxIdleTime) {
+				this.maxIdleTime = maxIdleTime;
+			}
+
+		}
+
+	}
+
 	/**
 	 * Configuration properties for http encoding.
 	 */
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.jdbc;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link BeanPostProcessor} that enables the driver-specific rewriting of batched
+ * statements on pooled {@link DataSource DataSources}. The driver property that enables
+ * rewriting is chosen from the {@link DatabaseDriver} detected from the JDBC URL and is
+ * only set when it has not been configured explicitly. Data sources are processed before
+ * they are initialized so that the property is in place before any connection is made.
+ * <p>
+ * Hikari, Tomcat and Commons DBCP2 data sources are supported. A warning is logged for
+ * any other type of data source as the driver properties that it uses cannot be
+ * determined. Delegating and routing data sources are skipped as their target data
+ * sources are processed individually.
+ *
+ * @author agent
+ */
+class BatchRewriteDataSourcePostProcessor implements BeanPostProcessor {
+
+	private static final Log logger = LogFactory
+			.getLog(BatchRewriteDataSourcePostProcessor.class);
+
+	private static final boolean HIKARI_PRESENT = ClassUtils.isPresent(
+			"com.zaxxer.hikari.HikariDataSource",
+			BatchRewriteDataSourcePostProcessor.class.getClassLoader());
+
+	private static final boolean TOMCAT_PRESENT = ClassUtils.isPresent(
+			"org.apache.tomcat.jdbc.pool.DataSource",
+			BatchRewriteDataSourcePostProcessor.class.getClassLoader());
+
+	private static final boolean DBCP2_PRESENT = ClassUtils.isPresent(
+			"org.apache.commons.dbcp2.BasicDataSource",
+			BatchRewriteDataSourcePostProcessor.class.getClassLoader());
+
+	private static final Map<DatabaseDriver, String> REWRITE_PROPERTIES;
+
+	static {
+		Map<DatabaseDriver, String> properties = new EnumMap<>(DatabaseDriver.class);
+		properties.put(DatabaseDriver.MYSQL, "rewriteBatchedStatements");
+		properties.put(DatabaseDriver.MARIADB, "rewriteBatchedStatements");
+		properties.put(DatabaseDriver.POSTGRESQL, "reWriteBatchedInserts");
+		REWRITE_PROPERTIES = Collections.unmodifiableMap(properties);
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName)
+			throws BeansException {
+		if (HIKARI_PRESENT && bean instanceof HikariDataSource) {
+			HikariDataSource dataSource = (HikariDataSource) bean;
+			enableRewrite(dataSource.getJdbcUrl(), dataSource.getDataSourceProperties());
+		}
+		else if (TOMCAT_PRESENT
+				&& bean instanceof org.apache.tomcat.jdbc.pool.DataSource) {
+			org.apache.tomcat.jdbc.pool.DataSource dataSource = (org.apache.tomcat.jdbc.pool.DataSource) bean;
+			enableRewrite(dataSource.getUrl(), dataSource.getDbProperties());
+		}
+		else if (DBCP2_PRESENT && bean instanceof BasicDataSource) {
+			enableRewrite((BasicDataSource) bean);
+		}
+		else if (bean instanceof DataSource && !(bean instanceof DelegatingDataSource)
+				&& !(bean instanceof AbstractRoutingDataSource)) {
+			logger.warn("Batch statement rewriting is not supported for DataSource '"
+					+ beanName + "' of type " + bean.getClass().getName()
+					+ " and has not been enabled");
+		}
+		return bean;
+	}
+
+	private void enableRewrite(String url, Properties driverProperties) {
+		String property = getRewriteProperty(url);
+		if (property != null && driverProperties != null
+				&& !driverProperties.containsKey(property)) {
+			driverProperties.setProperty(property, "true");
+		}
+	}
+
+	private void enableRewrite(BasicDataSource dataSource) {
+		String property = getRewriteProperty(dataSource.getUrl());
+		if (property == null) {
+			return;
+		}
+		// DBCP2 does not expose its connection properties publicly
+		Object connectionProperties = new DirectFieldAccessor(dataSource)
+				.getPropertyValue("connectionProperties");
+		if (!(connectionProperties instanceof Properties)
+				|| !((Properties) connectionProperties).containsKey(property)) {
+			dataSource.addConnectionProperty(property, "true");
+		}
+	}
+
+	private String getRewriteProperty(String url) {
+		if (url == null) {
+			return null;
+		}
+		DatabaseDriver driver = DatabaseDriver.fromJdbcUrl(url);
+		String property = REWRITE_PROPERTIES.get(driver);
+		if (property == null && logger.isDebugEnabled()) {
+			logger.debug("Batch statement rewriting is not supported by the " + driver
+					+ " driver");
+		}
+		return property;
+	}
+
+}
@@ -19,6 +19,7 @@ package org.springframework.boot.autoconfigure.jdbc;
 import javax.sql.DataSource;
 import javax.sql.XADataSource;
 
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionMessage;
@@ -31,6 +32,7 @@ import org.springframework.boot.autoconfigure.jdbc.metadata.DataSourcePoolMetada
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
@@ -72,6 +74,29 @@ public class DataSourceAutoConfiguration {
 
 	}
 
+	@Configuration
+	@ConditionalOnProperty(prefix = "spring.datasource", name = "warm-up", havingValue = "true")
+	protected static class DataSourceWarmUpConfiguration {
+
+		@Bean
+		public DataSourceWarmer dataSourceWarmer(
+				ConfigurableListableBeanFactory beanFactory) {
+			return new DataSourceWarmer(beanFactory);
+		}
+
+	}
+
+	@Configuration
+	@ConditionalOnProperty(prefix = "spring.datasource", name = "rewrite-batched-statements", havingValue = "true")
+	protected static class DataSourceBatchRewriteConfiguration {
+
+		@Bean
+		public static BatchRewriteDataSourcePostProcessor batchRewriteDataSourcePostProcessor() {
+			return new BatchRewriteDataSourcePostProcessor();
+		}
+
+	}
+
 	/**
 	 * {@link AnyNestedCondition} that checks that either {@code spring.datasource.type}
 	 * is set or {@link PooledDataSourceAvailableCondition} applies.
@@ -93,6 +93,20 @@ public class DataSourceProperties implements BeanClassLoaderAware, InitializingB
 	 */
 	private String jndiName;
 
+	/**
+	 * Whether to obtain connections from the datasource on startup so that its
+	 * connection pool is started, and a Hikari pool is filled up to its minimum number of
+	 * idle connections, before the application handles any requests.
+	 */
+	private boolean warmUp;
+
+	/**
+	 * Whether to enable the rewriting of batched statements by the JDBC driver, when
+	 * supported by the driver detected from the JDBC URL of a Hikari, Tomcat, or DBCP2
+	 * datasource.
+	 */
+	private boolean rewriteBatchedStatements;
+
 	/**
 	 * Initialize the datasource with available DDL and DML scripts.
 	 */
@@ -378,6 +392,22 @@ public class DataSourceProperties implements BeanClassLoaderAware, InitializingB
 		this.jndiName = jndiName;
 	}
 
+	public boolean isWarmUp() {
+		return this.warmUp;
+	}
+
+	public void setWarmUp(boolean warmUp) {
+		this.warmUp = warmUp;
+	}
+
+	public boolean isRewriteBatchedStatements() {
+		return this.rewriteBatchedStatements;
+	}
+
+	public void setRewriteBatchedStatements(boolean rewriteBatchedStatements) {
+		this.rewriteBatchedStatements = rewriteBatchedStatements;
+	}
+
 	public DataSourceInitializationMode getInitializationMode() {
 		return this.initializationMode;
 	}
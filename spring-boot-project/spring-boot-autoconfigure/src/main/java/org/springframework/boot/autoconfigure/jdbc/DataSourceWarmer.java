@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Warms up {@link DataSource DataSources} by obtaining connections once all singletons
+ * have been instantiated. Connection pools are typically started lazily when the first
+ * connection is requested. Doing so on startup moves the cost of establishing the initial
+ * connections away from the first requests that the application handles.
+ * <p>
+ * A Hikari pool is filled up to its minimum number of idle connections, whereas other
+ * pools establish their initial connections themselves when they are started. Only data
+ * sources that have already been instantiated are warmed up so that lazy and
+ * non-singleton data sources are not created early.
+ *
+ * @author agent
+ */
+class DataSourceWarmer implements SmartInitializingSingleton {
+
+	private static final Log logger = LogFactory.getLog(DataSourceWarmer.class);
+
+	private static final boolean HIKARI_PRESENT = ClassUtils.isPresent(
+			"com.zaxxer.hikari.HikariDataSource", DataSourceWarmer.class.getClassLoader());
+
+	private final ConfigurableListableBeanFactory beanFactory;
+
+	DataSourceWarmer(ConfigurableListableBeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		for (String beanName : this.beanFactory.getBeanNamesForType(DataSource.class,
+				false, false)) {
+			if (this.beanFactory.containsSingleton(beanName)) {
+				warmUp(beanName, this.beanFactory.getBean(beanName, DataSource.class));
+			}
+		}
+	}
+
+	private void warmUp(String beanName, DataSource dataSource) {
+		List<Connection> connections = new ArrayList<>();
+		try {
+			connections.add(dataSource.getConnection());
+			int target = getMinimumIdle(dataSource);
+			while (connections.size() < target) {
+				connections.add(dataSource.getConnection());
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Warmed up DataSource '" + beanName + "' with "
+						+ connections.size() + " connection(s)");
+			}
+		}
+		catch (SQLException ex) {
+			logger.warn("Failed to warm up DataSource '" + beanName + "'", ex);
+		}
+		finally {
+			connections.forEach(this::close);
+		}
+	}
+
+	private int getMinimumIdle(DataSource dataSource) throws SQLException {
+		if (HIKARI_PRESENT && dataSource.isWrapperFor(HikariDataSource.class)) {
+			HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+			return Math.min(hikari.getMinimumIdle(), hikari.getMaximumPoolSize());
+		}
+		return 1;
+	}
+
+	private void close(Connection connection) {
+		try {
+			connection.close();
+		}
+		catch (SQLException ex) {
+			logger.debug("Failed to close connection used to warm up DataSource", ex);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.boot.autoconfigure.jms;
 
+import java.time.Duration;
+
 import javax.jms.ConnectionFactory;
 
 import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
@@ -91,7 +93,10 @@ public final class DefaultJmsListenerContainerFactoryConfigurer {
 			factory.setTransactionManager(this.transactionManager);
 		}
 		else {
-			factory.setSessionTransacted(true);
+			Boolean sessionTransacted = this.jmsProperties.getListener()
+					.getSessionTransacted();
+			factory.setSessionTransacted(
+					(sessionTransacted != null) ? sessionTransacted : true);
 		}
 		if (this.destinationResolver != null) {
 			factory.setDestinationResolver(this.destinationResolver);
@@ -108,6 +113,16 @@ public final class DefaultJmsListenerContainerFactoryConfigurer {
 		if (concurrency != null) {
 			factory.setConcurrency(concurrency);
 		}
+		Duration receiveTimeout = listener.getReceiveTimeout();
+		if (receiveTimeout != null) {
+			factory.setReceiveTimeout(receiveTimeout.toMillis());
+		}
+		if (listener.getMaxMessagesPerTask() != null) {
+			factory.setMaxMessagesPerTask(listener.getMaxMessagesPerTask());
+		}
+		if (listener.getCacheLevel() != null) {
+			factory.setCacheLevel(listener.getCacheLevel().getLevel());
+		}
 	}
 
 }
@@ -154,6 +154,34 @@ public class JmsProperties {
 		 */
 		private Integer maxConcurrency;
 
+		/**
+		 * Whether the listener uses a transacted session. By default, the session is
+		 * transacted unless a JTA transaction manager is used. Disabling it allows the
+		 * acknowledge mode, such as lazy 'dups_ok' acknowledgement, to take effect.
+		 */
+		private Boolean sessionTransacted;
+
+		/**
+		 * Timeout to use for receive calls. Use -1 for a no-wait receive or 0 for no
+		 * timeout at all. The latter is only feasible if not running within a transaction
+		 * manager and is generally discouraged since it prevents clean shutdown.
+		 */
+		private Duration receiveTimeout = Duration.ofSeconds(1);
+
+		/**
+		 * Maximum number of messages to process in one task before the consumer is
+		 * rescheduled. Setting it allows consumers that have become idle to be released
+		 * so that the number of consumers follows the load between 'concurrency' and
+		 * 'max-concurrency'.
+		 */
+		private Integer maxMessagesPerTask;
+
+		/**
+		 * Level of caching of the JMS resources used by the listener. By default, the
+		 * level is chosen automatically based on whether a transaction manager is used.
+		 */
+		private CacheLevel cacheLevel;
+
 		public boolean isAutoStartup() {
 			return this.autoStartup;
 		}
@@ -186,6 +214,38 @@ public class JmsProperties {
 			this.maxConcurrency = maxConcurrency;
 		}
 
+		public Boolean getSessionTransacted() {
+			return this.sessionTransacted;
+		}
+
+		public void setSessionTransacted(Boolean sessionTransacted) {
+			this.sessionTransacted = sessionTransacted;
+		}
+
+		public Duration getReceiveTimeout() {
+			return this.receiveTimeout;
+		}
+
+		public void setReceiveTimeout(Duration receiveTimeout) {
+			this.receiveTimeout = receiveTimeout;
+		}
+
+		public Integer getMaxMessagesPerTask() {
+			return this.maxMessagesPerTask;
+		}
+
+		public void setMaxMessagesPerTask(Integer maxMessagesPerTask) {
+			this.maxMessagesPerTask = maxMessagesPerTask;
+		}
+
+		public CacheLevel getCacheLevel() {
+			return this.cacheLevel;
+		}
+
+		public void setCacheLevel(CacheLevel cacheLevel) {
+			this.cacheLevel = cacheLevel;
+		}
+
 		public String formatConcurrency() {
 			if (this.concurrency == null) {
 				return (this.maxConcurrency != null) ? "1-" + this.maxConcurrency : null;
@@ -346,6 +406,51 @@ public class JmsProperties {
 
 	}
 
+	/**
+	 * Translate the cache levels defined on the
+	 * {@link org.springframework.jms.listener.DefaultMessageListenerContainer}.
+	 */
+	public enum CacheLevel {
+
+		/**
+		 * Do not cache any JMS resources.
+		 */
+		NONE(0),
+
+		/**
+		 * Cache a shared JMS connection.
+		 */
+		CONNECTION(1),
+
+		/**
+		 * Cache a shared JMS connection and a JMS session for each consumer.
+		 */
+		SESSION(2),
+
+		/**
+		 * Cache a shared JMS connection, and a JMS session and message consumer for each
+		 * consumer.
+		 */
+		CONSUMER(3),
+
+		/**
+		 * Choose the level automatically, caching consumers unless a transaction manager
+		 * is used.
+		 */
+		AUTO(4);
+
+		private final int level;
+
+		CacheLevel(int level) {
+			this.level = level;
+		}
+
+		public int getLevel() {
+			return this.level;
+		}
+
+	}
+
 	public enum DeliveryMode {
 
 		/**
@@ -17,6 +17,7 @@
 package org.springframework.boot.autoconfigure.kafka;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -60,10 +61,14 @@ public class KafkaAutoConfiguration {
 
 	private final RecordMessageConverter messageConverter;
 
+	private final ObjectProvider<KafkaClientPropertiesCustomizer> clientPropertiesCustomizers;
+
 	public KafkaAutoConfiguration(KafkaProperties properties,
-			ObjectProvider<RecordMessageConverter> messageConverter) {
+			ObjectProvider<RecordMessageConverter> messageConverter,
+			ObjectProvider<KafkaClientPropertiesCustomizer> clientPropertiesCustomizers) {
 		this.properties = properties;
 		this.messageConverter = messageConverter.getIfUnique();
+		this.clientPropertiesCustomizers = clientPropertiesCustomizers;
 	}
 
 	@Bean
@@ -91,14 +96,14 @@ public class KafkaAutoConfiguration {
 	@ConditionalOnMissingBean(ConsumerFactory.class)
 	public ConsumerFactory<?, ?> kafkaConsumerFactory() {
 		return new DefaultKafkaConsumerFactory<>(
-				this.properties.buildConsumerProperties());
+				customize(this.properties.buildConsumerProperties()));
 	}
 
 	@Bean
 	@ConditionalOnMissingBean(ProducerFactory.class)
 	public ProducerFactory<?, ?> kafkaProducerFactory() {
 		DefaultKafkaProducerFactory<?, ?> factory = new DefaultKafkaProducerFactory<>(
-				this.properties.buildProducerProperties());
+				customize(this.properties.buildProducerProperties()));
 		String transactionIdPrefix = this.properties.getProducer()
 				.getTransactionIdPrefix();
 		if (transactionIdPrefix != null) {
@@ -134,9 +139,16 @@ public class KafkaAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public KafkaAdmin kafkaAdmin() {
-		KafkaAdmin kafkaAdmin = new KafkaAdmin(this.properties.buildAdminProperties());
+		KafkaAdmin kafkaAdmin = new KafkaAdmin(
+				customize(this.properties.buildAdminProperties()));
 		kafkaAdmin.setFatalIfBrokerNotAvailable(this.properties.getAdmin().isFailFast());
 		return kafkaAdmin;
 	}
 
+	private Map<String, Object> customize(Map<String, Object> properties) {
+		this.clientPropertiesCustomizers.orderedStream()
+				.forEach((customizer) -> customizer.customize(properties));
+		return properties;
+	}
+
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.kafka;
+
+import java.util.Map;
+
+/**
+ * Callback interface that can be implemented by beans wishing to customize the properties
+ * of the Kafka clients that are auto-configured, that is the consumers, producers, admin
+ * clients and streams, before they are used to create their factory or configuration.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface KafkaClientPropertiesCustomizer {
+
+	/**
+	 * Customize the properties of a Kafka client.
+	 * @param properties the mutable properties of the client
+	 */
+	void customize(Map<String, Object> properties);
+
+}
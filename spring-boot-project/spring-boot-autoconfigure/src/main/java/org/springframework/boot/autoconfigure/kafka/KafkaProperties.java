@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -216,6 +217,50 @@ public class KafkaProperties {
 
 	public static class Consumer {
 
+		/**
+		 * Fetch profile that provides defaults for the fetch and poll settings of a
+		 * consumer that are not configured explicitly.
+		 */
+		public enum Profile {
+
+			/**
+			 * Favor low latency by returning data as soon as it is available and by
+			 * polling small batches of records.
+			 */
+			LATENCY(DataSize.ofBytes(1), Duration.ofMillis(100), 100),
+
+			/**
+			 * Favor throughput by waiting for larger amounts of data to be available and
+			 * by polling large batches of records.
+			 */
+			THROUGHPUT(DataSize.ofKilobytes(64), Duration.ofMillis(500), 1000);
+
+			private final DataSize fetchMinSize;
+
+			private final Duration fetchMaxWait;
+
+			private final int maxPollRecords;
+
+			Profile(DataSize fetchMinSize, Duration fetchMaxWait, int maxPollRecords) {
+				this.fetchMinSize = fetchMinSize;
+				this.fetchMaxWait = fetchMaxWait;
+				this.maxPollRecords = maxPollRecords;
+			}
+
+			public DataSize getFetchMinSize() {
+				return this.fetchMinSize;
+			}
+
+			public Duration getFetchMaxWait() {
+				return this.fetchMaxWait;
+			}
+
+			public int getMaxPollRecords() {
+				return this.maxPollRecords;
+			}
+
+		}
+
 		private final Ssl ssl = new Ssl();
 
 		/**
@@ -284,6 +329,12 @@ public class KafkaProperties {
 		 */
 		private Integer maxPollRecords;
 
+		/**
+		 * Fetch profile that provides defaults for "fetch-max-wait", "fetch-min-size" and
+		 * "max-poll-records" when they are not set explicitly.
+		 */
+		private Profile profile;
+
 		/**
 		 * Additional consumer-specific properties used to configure the client.
 		 */
@@ -389,6 +440,14 @@ public class KafkaProperties {
 			this.maxPollRecords = maxPollRecords;
 		}
 
+		public Profile getProfile() {
+			return this.profile;
+		}
+
+		public void setProfile(Profile profile) {
+			this.profile = profile;
+		}
+
 		public Map<String, String> getProperties() {
 			return this.properties;
 		}
@@ -406,9 +465,11 @@ public class KafkaProperties {
 					.to(properties.in(ConsumerConfig.CLIENT_ID_CONFIG));
 			map.from(this::getEnableAutoCommit)
 					.to(properties.in(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG));
-			map.from(this::getFetchMaxWait).asInt(Duration::toMillis)
+			map.from(() -> getOrProfileDefault(this.fetchMaxWait,
+					Profile::getFetchMaxWait)).asInt(Duration::toMillis)
 					.to(properties.in(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG));
-			map.from(this::getFetchMinSize).asInt(DataSize::toBytes)
+			map.from(() -> getOrProfileDefault(this.fetchMinSize,
+					Profile::getFetchMinSize)).asInt(DataSize::toBytes)
 					.to(properties.in(ConsumerConfig.FETCH_MIN_BYTES_CONFIG));
 			map.from(this::getGroupId).to(properties.in(ConsumerConfig.GROUP_ID_CONFIG));
 			map.from(this::getHeartbeatInterval).asInt(Duration::toMillis)
@@ -417,11 +478,19 @@ public class KafkaProperties {
 					.to(properties.in(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG));
 			map.from(this::getValueDeserializer)
 					.to(properties.in(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG));
-			map.from(this::getMaxPollRecords)
+			map.from(() -> getOrProfileDefault(this.maxPollRecords,
+					Profile::getMaxPollRecords))
 					.to(properties.in(ConsumerConfig.MAX_POLL_RECORDS_CONFIG));
 			return properties.with(this.ssl, this.properties);
 		}
 
+		private <T> T getOrProfileDefault(T value, Function<Profile, T> profileValue) {
+			if (value != null || this.profile == null) {
+				return value;
+			}
+			return profileValue.apply(this.profile);
+		}
+
 	}
 
 	public static class Producer {
@@ -22,6 +22,7 @@ import org.apache.kafka.streams.StreamsBuilder;
 import org.apache.kafka.streams.StreamsConfig;
 
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -46,8 +47,12 @@ class KafkaStreamsAnnotationDrivenConfiguration {
 
 	private final KafkaProperties properties;
 
-	KafkaStreamsAnnotationDrivenConfiguration(KafkaProperties properties) {
+	private final ObjectProvider<KafkaClientPropertiesCustomizer> clientPropertiesCustomizers;
+
+	KafkaStreamsAnnotationDrivenConfiguration(KafkaProperties properties,
+			ObjectProvider<KafkaClientPropertiesCustomizer> clientPropertiesCustomizers) {
 		this.properties = properties;
+		this.clientPropertiesCustomizers = clientPropertiesCustomizers;
 	}
 
 	@ConditionalOnMissingBean
@@ -63,6 +68,8 @@ class KafkaStreamsAnnotationDrivenConfiguration {
 			}
 			streamsProperties.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationName);
 		}
+		this.clientPropertiesCustomizers.orderedStream()
+				.forEach((customizer) -> customizer.customize(streamsProperties));
 		return new KafkaStreamsConfiguration(streamsProperties);
 	}
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.reactor.netty;
+
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+
+/**
+ * Configurations for Reactor Netty. Those should be {@code @Import} in a regular
+ * auto-configuration class.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public final class ReactorNettyConfigurations {
+
+	private ReactorNettyConfigurations() {
+	}
+
+	/**
+	 * Configures a {@link ReactorResourceFactory} that is shared by the Reactor Netty
+	 * server and client. Reactor Netty's global resources are used unless
+	 * {@link ReactorNettyProperties} have been configured. The dedicated connection pool
+	 * is elastic, like the global one, unless one of the {@code pool} properties has
+	 * been set.
+	 */
+	@Configuration
+	@EnableConfigurationProperties(ReactorNettyProperties.class)
+	public static class ReactorResourceFactoryConfiguration {
+
+		private static final String LOOP_RESOURCES_PREFIX = "reactor-http";
+
+		private static final String CONNECTION_PROVIDER_NAME = "http";
+
+		@Bean
+		@ConditionalOnMissingBean
+		public ReactorResourceFactory reactorResourceFactory(
+				ReactorNettyProperties properties) {
+			ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+			if (properties.isConfigured()) {
+				resourceFactory.setUseGlobalResources(false);
+				resourceFactory
+						.setLoopResourcesSupplier(() -> createLoopResources(properties));
+				resourceFactory.setConnectionProviderSupplier(
+						() -> createConnectionProvider(properties.getPool()));
+			}
+			return resourceFactory;
+		}
+
+		private LoopResources createLoopResources(ReactorNettyProperties properties) {
+			int workerCount = (properties.getIoWorkerCount() != null)
+					? properties.getIoWorkerCount()
+					: LoopResources.DEFAULT_IO_WORKER_COUNT;
+			return LoopResources.create(LOOP_RESOURCES_PREFIX, workerCount, true);
+		}
+
+		private ConnectionProvider createConnectionProvider(
+				ReactorNettyProperties.Pool pool) {
+			if (!pool.isConfigured()) {
+				return ConnectionProvider.elastic(CONNECTION_PROVIDER_NAME);
+			}
+			int maxConnections = (pool.getMaxConnections() != null)
+					? pool.getMaxConnections()
+					: ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
+			long acquireTimeout = (pool.getAcquireTimeout() != null)
+					? pool.getAcquireTimeout().toMillis()
+					: ConnectionProvider.DEFAULT_POOL_ACQUIRE_TIMEOUT;
+			return ConnectionProvider.fixed(CONNECTION_PROVIDER_NAME, maxConnections,
+					acquireTimeout);
+		}
+
+	}
+
+}
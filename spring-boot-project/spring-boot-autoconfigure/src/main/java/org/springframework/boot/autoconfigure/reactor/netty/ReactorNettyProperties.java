@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.reactor.netty;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties for Reactor Netty.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+@ConfigurationProperties(prefix = "spring.reactor.netty")
+public class ReactorNettyProperties {
+
+	/**
+	 * Number of event loop threads shared by the server and the client. Default is based
+	 * on the number of available processors.
+	 */
+	private Integer ioWorkerCount;
+
+	private final Pool pool = new Pool();
+
+	public Integer getIoWorkerCount() {
+		return this.ioWorkerCount;
+	}
+
+	public void setIoWorkerCount(Integer ioWorkerCount) {
+		this.ioWorkerCount = ioWorkerCount;
+	}
+
+	public Pool getPool() {
+		return this.pool;
+	}
+
+	/**
+	 * Return whether any of the resources has been configured, in which case dedicated
+	 * resources should be used rather than Reactor Netty's global resources.
+	 * @return {@code true} if the resources have been configured
+	 */
+	public boolean isConfigured() {
+		return this.ioWorkerCount != null || this.pool.isConfigured();
+	}
+
+	/**
+	 * Client connection pool properties. The pool is elastic unless one of these
+	 * properties is set, in which case a fixed pool is used.
+	 */
+	public static class Pool {
+
+		/**
+		 * Maximum number of connections to each remote host. Setting this property
+		 * switches the client to a fixed connection pool. Default is Reactor Netty's
+		 * default for a fixed pool.
+		 */
+		private Integer maxConnections;
+
+		/**
+		 * Maximum amount of time to wait to acquire a connection from the pool. Setting
+		 * this property switches the client to a fixed connection pool. Default is
+		 * Reactor Netty's default for a fixed pool.
+		 */
+		private Duration acquireTimeout;
+
+		public Integer getMaxConnections() {
+			return this.maxConnections;
+		}
+
+		public void setMaxConnections(Integer maxConnections) {
+			this.maxConnections = maxConnections;
+		}
+
+		public Duration getAcquireTimeout() {
+			return this.acquireTimeout;
+		}
+
+		public void setAcquireTimeout(Duration acquireTimeout) {
+			this.acquireTimeout = acquireTimeout;
+		}
+
+		/**
+		 * Return whether the pool has been configured, in which case a fixed pool
+		 * should be used rather than an elastic one.
+		 * @return {@code true} if the pool has been configured
+		 */
+		public boolean isConfigured() {
+			return this.maxConnections != null || this.acquireTimeout != null;
+		}
+
+	}
+
+}
@@ -26,6 +26,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.task.TaskExecutorBuilder;
 import org.springframework.boot.task.TaskExecutorCustomizer;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.task.TaskDecorator;
@@ -81,8 +82,32 @@ public class TaskExecutionAutoConfiguration {
 	@Lazy
 	@Bean(name = APPLICATION_TASK_EXECUTOR_BEAN_NAME)
 	@ConditionalOnMissingBean(Executor.class)
+	@Conditional(TaskExecutionModeCondition.ThreadPoolMode.class)
 	public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
 		return builder.build();
 	}
 
+	/**
+	 * Create the application task executor when tasks run on virtual threads. The
+	 * executor is configured by the {@link TaskExecutorBuilder}, so that its
+	 * {@link TaskDecorator} and {@link TaskExecutorCustomizer TaskExecutorCustomizers}
+	 * are applied, but does not queue tasks nor limit the number of threads. Idle
+	 * virtual threads are reused until they time out. Unlike the thread pool, the
+	 * executor is created eagerly, so that a JVM without virtual threads fails on
+	 * startup.
+	 * @param builder the task executor builder
+	 * @return the application task executor
+	 */
+	@Bean(name = APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+	@ConditionalOnMissingBean(Executor.class)
+	@Conditional(TaskExecutionModeCondition.VirtualThreadsMode.class)
+	public ThreadPoolTaskExecutor applicationVirtualThreadTaskExecutor(
+			TaskExecutorBuilder builder) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadFactory(
+				VirtualThreads.threadFactory(this.properties.getThreadNamePrefix()));
+		return builder.queueCapacity(0).corePoolSize(0).maxPoolSize(Integer.MAX_VALUE)
+				.configure(executor);
+	}
+
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.task;
+
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties.Mode;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Condition that matches when the {@link Mode} bound from
+ * {@code spring.task.execution.mode} is a specific mode. Binding the property honors
+ * relaxed forms such as {@code VIRTUAL_THREADS}.
+ *
+ * @author agent
+ */
+abstract class TaskExecutionModeCondition extends SpringBootCondition {
+
+	private final Mode mode;
+
+	TaskExecutionModeCondition(Mode mode) {
+		this.mode = mode;
+	}
+
+	@Override
+	public ConditionOutcome getMatchOutcome(ConditionContext context,
+			AnnotatedTypeMetadata metadata) {
+		ConditionMessage.Builder message = ConditionMessage
+				.forCondition("Task execution mode " + this.mode);
+		try {
+			Mode mode = Binder.get(context.getEnvironment())
+					.bind("spring.task.execution.mode", Mode.class)
+					.orElse(Mode.THREAD_POOL);
+			if (mode == this.mode) {
+				return ConditionOutcome.match(message.because(mode + " mode"));
+			}
+			return ConditionOutcome.noMatch(message.because(mode + " mode"));
+		}
+		catch (BindException ex) {
+			return ConditionOutcome.noMatch(message.because("unknown mode"));
+		}
+	}
+
+	/**
+	 * Condition that matches when tasks are executed using a thread pool.
+	 */
+	static class ThreadPoolMode extends TaskExecutionModeCondition {
+
+		ThreadPoolMode() {
+			super(Mode.THREAD_POOL);
+		}
+
+	}
+
+	/**
+	 * Condition that matches when tasks are executed using virtual threads.
+	 */
+	static class VirtualThreadsMode extends TaskExecutionModeCondition {
+
+		VirtualThreadsMode() {
+			super(Mode.VIRTUAL_THREADS);
+		}
+
+	}
+
+}
@@ -31,6 +31,12 @@ public class TaskExecutionProperties {
 
 	private final Pool pool = new Pool();
 
+	/**
+	 * Mode used to execute tasks. Virtual threads require a JVM that supports them and
+	 * ignore the "pool" settings, except for the keep-alive of idle threads.
+	 */
+	private Mode mode = Mode.THREAD_POOL;
+
 	/**
 	 * Prefix to use for the names of newly created threads.
 	 */
@@ -40,6 +46,14 @@ public class TaskExecutionProperties {
 		return this.pool;
 	}
 
+	public Mode getMode() {
+		return this.mode;
+	}
+
+	public void setMode(Mode mode) {
+		this.mode = mode;
+	}
+
 	public String getThreadNamePrefix() {
 		return this.threadNamePrefix;
 	}
@@ -121,4 +135,22 @@ public class TaskExecutionProperties {
 
 	}
 
+	/**
+	 * Modes used to execute tasks.
+	 */
+	public enum Mode {
+
+		/**
+		 * Execute tasks using a pool of platform threads.
+		 */
+		THREAD_POOL,
+
+		/**
+		 * Execute each task on a virtual thread, creating as many as needed. Pool settings
+		 * do not apply, except for the keep-alive of idle threads.
+		 */
+		VIRTUAL_THREADS
+
+	}
+
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.task;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Reflective access to the virtual threads of runtimes that support them.
+ *
+ * @author agent
+ */
+final class VirtualThreads {
+
+	private static final Method OF_VIRTUAL = ClassUtils.getMethodIfAvailable(Thread.class,
+			"ofVirtual");
+
+	private static final boolean SUPPORTED = determineSupported();
+
+	private VirtualThreads() {
+	}
+
+	private static boolean determineSupported() {
+		if (OF_VIRTUAL == null) {
+			return false;
+		}
+		try {
+			// Preview runtimes only create virtual threads with --enable-preview
+			ReflectionUtils.invokeMethod(OF_VIRTUAL, null);
+			return true;
+		}
+		catch (UnsupportedOperationException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Return whether the current runtime supports virtual threads.
+	 * @return {@code true} if virtual threads are supported
+	 */
+	static boolean isSupported() {
+		return SUPPORTED;
+	}
+
+	/**
+	 * Create a {@link ThreadFactory} that creates virtual threads.
+	 * @param threadNamePrefix the prefix to use for the names of the threads
+	 * @return the thread factory
+	 * @throws IllegalStateException if virtual threads are not supported
+	 */
+	static ThreadFactory threadFactory(String threadNamePrefix) {
+		Assert.state(isSupported(), "Virtual threads are not supported by this JVM");
+		Object builder = ReflectionUtils.invokeMethod(OF_VIRTUAL, null);
+		Class<?> builderType = ClassUtils.resolveClassName("java.lang.Thread$Builder",
+				null);
+		Method name = ReflectionUtils.findMethod(builderType, "name", String.class,
+				long.class);
+		builder = ReflectionUtils.invokeMethod(name, builder, threadNamePrefix, 0L);
+		Method factory = ReflectionUtils.findMethod(builderType, "factory");
+		return (ThreadFactory) ReflectionUtils.invokeMethod(factory, builder);
+	}
+
+}
@@ -104,6 +104,8 @@ public class ServerProperties {
 	@NestedConfigurationProperty
 	private final Http2 http2 = new Http2();
 
+	private final ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
 	private final Servlet servlet = new Servlet();
 
 	private final Tomcat tomcat = new Tomcat();
@@ -112,6 +114,8 @@ public class ServerProperties {
 
 	private final Undertow undertow = new Undertow();
 
+	private final Netty netty = new Netty();
+
 	public Integer getPort() {
 		return this.port;
 	}
@@ -180,6 +184,10 @@ public class ServerProperties {
 		return this.http2;
 	}
 
+	public ConcurrencyLimit getConcurrencyLimit() {
+		return this.concurrencyLimit;
+	}
+
 	public Servlet getServlet() {
 		return this.servlet;
 	}
@@ -196,6 +204,48 @@ public class ServerProperties {
 		return this.undertow;
 	}
 
+	public Netty getNetty() {
+		return this.netty;
+	}
+
+	/**
+	 * Concurrency limit properties.
+	 */
+	public static class ConcurrencyLimit {
+
+		/**
+		 * Maximum number of requests that are processed concurrently. Requests received
+		 * once the maximum has been reached are rejected with a 503 response. When not
+		 * set, the number of concurrent requests is not limited.
+		 */
+		private Integer maxRequests;
+
+		/**
+		 * Ant-style patterns of the request paths that are never rejected and do not
+		 * count towards the maximum, such as health probes. When not set, only the paths
+		 * contributed by other auto-configurations, such as the actuator's web
+		 * endpoints, are excluded.
+		 */
+		private List<String> excludedPaths;
+
+		public Integer getMaxRequests() {
+			return this.maxRequests;
+		}
+
+		public void setMaxRequests(Integer maxRequests) {
+			this.maxRequests = maxRequests;
+		}
+
+		public List<String> getExcludedPaths() {
+			return this.excludedPaths;
+		}
+
+		public void setExcludedPaths(List<String> excludedPaths) {
+			this.excludedPaths = excludedPaths;
+		}
+
+	}
+
 	/**
 	 * Servlet properties.
 	 */
@@ -1111,4 +1161,96 @@ public class ServerProperties {
 
 	}
 
+	/**
+	 * Netty properties.
+	 */
+	public static class Netty {
+
+		/**
+		 * Initial size of the buffer used to decode the HTTP request line and headers.
+		 * When not set, Netty's default of 128 bytes is used.
+		 */
+		private DataSize initialBufferSize;
+
+		/**
+		 * Maximum length of the HTTP request line. When not set, Netty's default of 4KB is
+		 * used.
+		 */
+		private DataSize maxInitialLineLength;
+
+		/**
+		 * Maximum size of the chunks into which the content of an HTTP request is split.
+		 * When not set, Netty's default of 8KB is used.
+		 */
+		private DataSize maxChunkSize;
+
+		/**
+		 * Whether to validate the headers of HTTP requests while decoding them. When not
+		 * set, headers are validated.
+		 */
+		private Boolean validateHeaders;
+
+		/**
+		 * Whether to use the native transport, such as epoll on Linux, when it is
+		 * available. When not set, Reactor Netty's default, which uses the native
+		 * transport when available, applies.
+		 */
+		private Boolean nativeTransport;
+
+		/**
+		 * Whether to set SO_REUSEPORT on the server socket so that several servers can
+		 * listen on the same port. Only applies when the native epoll transport is used.
+		 */
+		private Boolean reusePort;
+
+		public DataSize getInitialBufferSize() {
+			return this.initialBufferSize;
+		}
+
+		public void setInitialBufferSize(DataSize initialBufferSize) {
+			this.initialBufferSize = initialBufferSize;
+		}
+
+		public DataSize getMaxInitialLineLength() {
+			return this.maxInitialLineLength;
+		}
+
+		public void setMaxInitialLineLength(DataSize maxInitialLineLength) {
+			this.maxInitialLineLength = maxInitialLineLength;
+		}
+
+		public DataSize getMaxChunkSize() {
+			return this.maxChunkSize;
+		}
+
+		public void setMaxChunkSize(DataSize maxChunkSize) {
+			this.maxChunkSize = maxChunkSize;
+		}
+
+		public Boolean getValidateHeaders() {
+			return this.validateHeaders;
+		}
+
+		public void setValidateHeaders(Boolean validateHeaders) {
+			this.validateHeaders = validateHeaders;
+		}
+
+		public Boolean getNativeTransport() {
+			return this.nativeTransport;
+		}
+
+		public void setNativeTransport(Boolean nativeTransport) {
+			this.nativeTransport = nativeTransport;
+		}
+
+		public Boolean getReusePort() {
+			return this.reusePort;
+		}
+
+		public void setReusePort(Boolean reusePort) {
+			this.reusePort = reusePort;
+		}
+
+	}
+
 }
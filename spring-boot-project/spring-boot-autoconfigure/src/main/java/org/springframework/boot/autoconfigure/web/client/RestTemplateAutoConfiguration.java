@@ -22,13 +22,19 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.PooledClientHttpRequestFactorySupplier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.client.RestTemplate;
@@ -43,17 +49,22 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 @AutoConfigureAfter(HttpMessageConvertersAutoConfiguration.class)
 @ConditionalOnClass(RestTemplate.class)
+@EnableConfigurationProperties(HttpProperties.class)
 public class RestTemplateAutoConfiguration {
 
 	private final ObjectProvider<HttpMessageConverters> messageConverters;
 
 	private final ObjectProvider<RestTemplateCustomizer> restTemplateCustomizers;
 
+	private final ObjectProvider<PooledClientHttpRequestFactorySupplier> pooledRequestFactorySupplier;
+
 	public RestTemplateAutoConfiguration(
 			ObjectProvider<HttpMessageConverters> messageConverters,
-			ObjectProvider<RestTemplateCustomizer> restTemplateCustomizers) {
+			ObjectProvider<RestTemplateCustomizer> restTemplateCustomizers,
+			ObjectProvider<PooledClientHttpRequestFactorySupplier> pooledRequestFactorySupplier) {
 		this.messageConverters = messageConverters;
 		this.restTemplateCustomizers = restTemplateCustomizers;
+		this.pooledRequestFactorySupplier = pooledRequestFactorySupplier;
 	}
 
 	@Bean
@@ -64,6 +75,11 @@ public class RestTemplateAutoConfiguration {
 		if (converters != null) {
 			builder = builder.messageConverters(converters.getConverters());
 		}
+		PooledClientHttpRequestFactorySupplier requestFactorySupplier = this.pooledRequestFactorySupplier
+				.getIfUnique();
+		if (requestFactorySupplier != null) {
+			builder = builder.requestFactory(requestFactorySupplier);
+		}
 
 		List<RestTemplateCustomizer> customizers = this.restTemplateCustomizers
 				.orderedStream().collect(Collectors.toList());
@@ -73,4 +89,52 @@ public class RestTemplateAutoConfiguration {
 		return builder;
 	}
 
+	@Configuration
+	@Conditional(PoolConfiguredCondition.class)
+	static class PooledRequestFactoryConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		public PooledClientHttpRequestFactorySupplier pooledClientHttpRequestFactorySupplier(
+				HttpProperties httpProperties) {
+			HttpProperties.Client.Pool pool = httpProperties.getClient().getPool();
+			PooledClientHttpRequestFactorySupplier supplier = new PooledClientHttpRequestFactorySupplier();
+			if (pool.getMaxConnections() != null) {
+				supplier = supplier.maxConnections(pool.getMaxConnections());
+			}
+			if (pool.getMaxConnectionsPerRoute() != null) {
+				supplier = supplier
+						.maxConnectionsPerRoute(pool.getMaxConnectionsPerRoute());
+			}
+			return supplier.maxIdleTime(pool.getMaxIdleTime());
+		}
+
+	}
+
+	/**
+	 * Condition that matches when any of the connection pool properties has been set.
+	 */
+	static class PoolConfiguredCondition extends AnyNestedCondition {
+
+		PoolConfiguredCondition() {
+			super(ConfigurationPhase.REGISTER_BEAN);
+		}
+
+		@ConditionalOnProperty(prefix = "spring.http.client.pool", name = "max-connections")
+		static class MaxConnections {
+
+		}
+
+		@ConditionalOnProperty(prefix = "spring.http.client.pool", name = "max-connections-per-route")
+		static class MaxConnectionsPerRoute {
+
+		}
+
+		@ConditionalOnProperty(prefix = "spring.http.client.pool", name = "max-idle-time")
+		static class MaxIdleTime {
+
+		}
+
+	}
+
 }
@@ -16,6 +16,10 @@
 
 package org.springframework.boot.autoconfigure.web.embedded;
 
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import reactor.netty.http.server.HttpServer;
+
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.cloud.CloudPlatform;
 import org.springframework.boot.context.properties.PropertyMapper;
@@ -24,6 +28,7 @@ import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.unit.DataSize;
 
 /**
@@ -36,6 +41,10 @@ import org.springframework.util.unit.DataSize;
 public class NettyWebServerFactoryCustomizer
 		implements WebServerFactoryCustomizer<NettyReactiveWebServerFactory>, Ordered {
 
+	private static final boolean EPOLL_PRESENT = ClassUtils.isPresent(
+			"io.netty.channel.epoll.Epoll",
+			NettyWebServerFactoryCustomizer.class.getClassLoader());
+
 	private final Environment environment;
 
 	private final ServerProperties serverProperties;
@@ -55,20 +64,33 @@ public class NettyWebServerFactoryCustomizer
 	public void customize(NettyReactiveWebServerFactory factory) {
 		factory.setUseForwardHeaders(
 				getOrDeduceUseForwardHeaders(this.serverProperties, this.environment));
-		PropertyMapper propertyMapper = PropertyMapper.get();
-		propertyMapper.from(this.serverProperties::getMaxHttpHeaderSize).whenNonNull()
-				.asInt(DataSize::toBytes)
-				.to((maxHttpRequestHeaderSize) -> customizeMaxHttpHeaderSize(factory,
-						maxHttpRequestHeaderSize));
+		ServerProperties.Netty nettyProperties = this.serverProperties.getNetty();
+		if (isRequestDecoderConfigured(nettyProperties)) {
+			factory.addServerCustomizers(this::customizeRequestDecoder);
+		}
+		else {
+			PropertyMapper propertyMapper = PropertyMapper.get();
+			propertyMapper.from(this.serverProperties::getMaxHttpHeaderSize)
+					.whenNonNull().asInt(DataSize::toBytes)
+					.to((maxHttpRequestHeaderSize) -> customizeMaxHttpHeaderSize(
+							factory, maxHttpRequestHeaderSize));
+		}
+		if (Boolean.TRUE.equals(nettyProperties.getReusePort())
+				&& isEpollUsed(nettyProperties)) {
+			factory.addServerCustomizers(this::customizeReusePort);
+		}
 	}
 
-	private boolean getOrDeduceUseForwardHeaders(ServerProperties serverProperties,
-			Environment environment) {
-		if (serverProperties.isUseForwardHeaders() != null) {
-			return serverProperties.isUseForwardHeaders();
-		}
-		CloudPlatform platform = CloudPlatform.getActive(environment);
-		return platform != null && platform.isUsingForwardHeaders();
+	private boolean isEpollUsed(ServerProperties.Netty nettyProperties) {
+		return !Boolean.FALSE.equals(nettyProperties.getNativeTransport())
+				&& EPOLL_PRESENT && Epoll.isAvailable();
+	}
+
+	private boolean isRequestDecoderConfigured(ServerProperties.Netty nettyProperties) {
+		return nettyProperties.getInitialBufferSize() != null
+				|| nettyProperties.getMaxInitialLineLength() != null
+				|| nettyProperties.getMaxChunkSize() != null
+				|| nettyProperties.getValidateHeaders() != null;
 	}
 
 	private void customizeMaxHttpHeaderSize(NettyReactiveWebServerFactory factory,
@@ -78,4 +100,39 @@ public class NettyWebServerFactoryCustomizer
 						.maxHeaderSize(maxHttpHeaderSize)));
 	}
 
+	private HttpServer customizeRequestDecoder(HttpServer httpServer) {
+		return httpServer.httpRequestDecoder((httpRequestDecoderSpec) -> {
+			PropertyMapper propertyMapper = PropertyMapper.get()
+					.alwaysApplyingWhenNonNull();
+			ServerProperties.Netty nettyProperties = this.serverProperties.getNetty();
+			propertyMapper.from(this.serverProperties::getMaxHttpHeaderSize)
+					.asInt(DataSize::toBytes).to(httpRequestDecoderSpec::maxHeaderSize);
+			propertyMapper.from(nettyProperties::getInitialBufferSize)
+					.asInt(DataSize::toBytes)
+					.to(httpRequestDecoderSpec::initialBufferSize);
+			propertyMapper.from(nettyProperties::getMaxInitialLineLength)
+					.asInt(DataSize::toBytes)
+					.to(httpRequestDecoderSpec::maxInitialLineLength);
+			propertyMapper.from(nettyProperties::getMaxChunkSize).asInt(DataSize::toBytes)
+					.to(httpRequestDecoderSpec::maxChunkSize);
+			propertyMapper.from(nettyProperties::getValidateHeaders)
+					.to(httpRequestDecoderSpec::validateHeaders);
+			return httpRequestDecoderSpec;
+		});
+	}
+
+	private HttpServer customizeReusePort(HttpServer httpServer) {
+		return httpServer.tcpConfiguration((tcpServer) -> tcpServer
+				.selectorOption(EpollChannelOption.SO_REUSEPORT, true));
+	}
+
+	private boolean getOrDeduceUseForwardHeaders(ServerProperties serverProperties,
+			Environment environment) {
+		if (serverProperties.isUseForwardHeaders() != null) {
+			return serverProperties.isUseForwardHeaders();
+		}
+		CloudPlatform platform = CloudPlatform.getActive(environment);
+		return platform != null && platform.isUsingForwardHeaders();
+	}
+
 }
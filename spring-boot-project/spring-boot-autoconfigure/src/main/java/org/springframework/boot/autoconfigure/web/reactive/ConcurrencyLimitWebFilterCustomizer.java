@@ -0,0 +1,37 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.web.reactive;
+
+import org.springframework.boot.web.reactive.filter.ConcurrencyLimitWebFilter;
+
+/**
+ * Callback interface that can be used to customize the auto-configured
+ * {@link ConcurrencyLimitWebFilter}, for example to exclude further paths from the limit.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+@FunctionalInterface
+public interface ConcurrencyLimitWebFilterCustomizer {
+
+	/**
+	 * Customize the filter.
+	 * @param filter the filter to customize
+	 */
+	void customize(ConcurrencyLimitWebFilter filter);
+
+}
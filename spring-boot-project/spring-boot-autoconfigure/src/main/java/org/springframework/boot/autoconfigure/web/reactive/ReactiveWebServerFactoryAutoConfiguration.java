@@ -19,15 +19,20 @@ package org.springframework.boot.autoconfigure.web.reactive;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties.ConcurrencyLimit;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.reactive.filter.ConcurrencyLimitWebFilter;
 import org.springframework.boot.web.server.WebServerFactoryCustomizerBeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -62,6 +67,22 @@ public class ReactiveWebServerFactoryAutoConfiguration {
 		return new ReactiveWebServerFactoryCustomizer(serverProperties);
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "server.concurrency-limit", name = "max-requests")
+	public ConcurrencyLimitWebFilter concurrencyLimitWebFilter(
+			ServerProperties serverProperties,
+			ObjectProvider<ConcurrencyLimitWebFilterCustomizer> customizers) {
+		ConcurrencyLimit concurrencyLimit = serverProperties.getConcurrencyLimit();
+		ConcurrencyLimitWebFilter filter = new ConcurrencyLimitWebFilter(
+				concurrencyLimit.getMaxRequests());
+		if (concurrencyLimit.getExcludedPaths() != null) {
+			filter.setExcludedPaths(concurrencyLimit.getExcludedPaths());
+		}
+		customizers.orderedStream().forEach((customizer) -> customizer.customize(filter));
+		return filter;
+	}
+
 	/**
 	 * Registers a {@link WebServerFactoryCustomizerBeanPostProcessor}. Registered via
 	 * {@link ImportBeanDefinitionRegistrar} for early registration.
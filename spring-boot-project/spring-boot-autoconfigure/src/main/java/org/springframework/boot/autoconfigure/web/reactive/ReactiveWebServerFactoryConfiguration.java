@@ -21,6 +21,8 @@ import reactor.netty.http.server.HttpServer;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.reactor.netty.ReactorNettyConfigurations;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.web.embedded.jetty.JettyReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.tomcat.TomcatReactiveWebServerFactory;
@@ -28,6 +30,7 @@ import org.springframework.boot.web.embedded.undertow.UndertowReactiveWebServerF
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.client.reactive.JettyResourceFactory;
 import org.springframework.http.client.reactive.ReactorResourceFactory;
 
@@ -44,19 +47,22 @@ abstract class ReactiveWebServerFactoryConfiguration {
 	@Configuration
 	@ConditionalOnMissingBean(ReactiveWebServerFactory.class)
 	@ConditionalOnClass({ HttpServer.class })
+	@Import(ReactorNettyConfigurations.ReactorResourceFactoryConfiguration.class)
 	static class EmbeddedNetty {
 
-		@Bean
-		@ConditionalOnMissingBean
-		public ReactorResourceFactory reactorServerResourceFactory() {
-			return new ReactorResourceFactory();
-		}
-
 		@Bean
 		public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(
-				ReactorResourceFactory resourceFactory) {
+				ReactorResourceFactory resourceFactory,
+				ServerProperties serverProperties) {
 			NettyReactiveWebServerFactory serverFactory = new NettyReactiveWebServerFactory();
 			serverFactory.setResourceFactory(resourceFactory);
+			Boolean nativeTransport = serverProperties.getNetty().getNativeTransport();
+			if (nativeTransport != null) {
+				// The preference is applied with the loop resources that the server runs on
+				serverFactory.addServerCustomizers((httpServer) -> httpServer
+						.tcpConfiguration((tcpServer) -> tcpServer.runOn(
+								resourceFactory.getLoopResources(), nativeTransport)));
+			}
 			return serverFactory;
 		}
 
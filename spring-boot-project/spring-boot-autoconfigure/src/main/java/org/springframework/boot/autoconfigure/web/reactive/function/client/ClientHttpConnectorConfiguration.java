@@ -20,8 +20,10 @@ import java.util.function.Function;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.reactor.netty.ReactorNettyConfigurations;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.JettyClientHttpConnector;
 import org.springframework.http.client.reactive.JettyResourceFactory;
@@ -42,14 +44,9 @@ class ClientHttpConnectorConfiguration {
 	@Configuration
 	@ConditionalOnClass(reactor.netty.http.client.HttpClient.class)
 	@ConditionalOnMissingBean(ClientHttpConnector.class)
+	@Import(ReactorNettyConfigurations.ReactorResourceFactoryConfiguration.class)
 	public static class ReactorNetty {
 
-		@Bean
-		@ConditionalOnMissingBean
-		public ReactorResourceFactory reactorClientResourceFactory() {
-			return new ReactorResourceFactory();
-		}
-
 		@Bean
 		public ReactorClientHttpConnector reactorClientHttpConnector(
 				ReactorResourceFactory reactorResourceFactory) {
@@ -17,6 +17,7 @@
 package org.springframework.boot.autoconfigure.amqp;
 
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.net.ssl.SSLContext;
@@ -52,6 +53,7 @@ import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.source.InvalidConfigurationPropertyValueException;
 import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
@@ -331,6 +333,40 @@ public class RabbitAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void testRabbitTemplateMaxUnconfirmed() {
+		this.contextRunner.withUserConfiguration(TestConfiguration.class)
+				.withPropertyValues("spring.rabbitmq.publisher-confirms=true",
+						"spring.rabbitmq.template.max-unconfirmed=500",
+						"spring.rabbitmq.template.unconfirmed-timeout=2s")
+				.run((context) -> {
+					RabbitTemplate rabbitTemplate = context.getBean(RabbitTemplate.class);
+					assertThat(rabbitTemplate)
+							.isInstanceOf(UnconfirmedLimitRabbitTemplate.class)
+							.hasFieldOrPropertyWithValue("maxUnconfirmed", 500)
+							.hasFieldOrPropertyWithValue("timeout",
+									Duration.ofSeconds(2));
+				});
+	}
+
+	@Test
+	public void testRabbitTemplateMaxUnconfirmedWithoutPublisherConfirmsFails() {
+		this.contextRunner.withUserConfiguration(TestConfiguration.class)
+				.withPropertyValues("spring.rabbitmq.template.max-unconfirmed=500")
+				.run((context) -> {
+					assertThat(context).hasFailed();
+					assertThat(context).getFailure().hasRootCauseInstanceOf(
+							InvalidConfigurationPropertyValueException.class);
+				});
+	}
+
+	@Test
+	public void testRabbitTemplateUnconfirmedIsUnlimitedByDefault() {
+		this.contextRunner.withUserConfiguration(TestConfiguration.class)
+				.run((context) -> assertThat(context.getBean(RabbitTemplate.class))
+						.isExactlyInstanceOf(RabbitTemplate.class));
+	}
+
 	@Test
 	public void testRabbitTemplateMandatory() {
 		this.contextRunner.withUserConfiguration(TestConfiguration.class)
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.amqp;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.rabbitmq.client.Channel;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.PendingConfirm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link UnconfirmedLimitRabbitTemplate}.
+ *
+ * @author agent
+ */
+public class UnconfirmedLimitRabbitTemplateTests {
+
+	private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+
+	private final Channel channel = mock(Channel.class);
+
+	private final AtomicInteger unconfirmed = new AtomicInteger();
+
+	private final Message message = new Message(new byte[0], new MessageProperties());
+
+	@Before
+	public void setUp() {
+		Connection connection = mock(Connection.class);
+		given(this.connectionFactory.createConnection()).willReturn(connection);
+		given(connection.createChannel(anyBoolean())).willReturn(this.channel);
+		given(this.channel.isOpen()).willReturn(true);
+	}
+
+	@Test
+	public void sendWhenBelowLimitPublishesMessage() throws Exception {
+		this.unconfirmed.set(9);
+		createTemplate(Duration.ofMillis(50)).send("exchange", "key", this.message);
+		verifyPublished();
+	}
+
+	@Test
+	public void sendWhenAtLimitPublishesMessageOnceConfirmIsReceived() throws Exception {
+		this.unconfirmed.set(10);
+		UnconfirmedLimitRabbitTemplate template = createTemplate(Duration.ofSeconds(30));
+		CompletableFuture<Void> send = CompletableFuture
+				.runAsync(() -> template.send("exchange", "key", this.message));
+		Thread.sleep(100);
+		assertThat(send).isNotDone();
+		this.unconfirmed.set(9);
+		template.handleConfirm(new PendingConfirm(null, System.currentTimeMillis()),
+				true);
+		send.get(10, TimeUnit.SECONDS);
+		verifyPublished();
+	}
+
+	@Test
+	public void sendWhenLimitIsNotReleasedInTimeFails() throws Exception {
+		this.unconfirmed.set(10);
+		assertThatExceptionOfType(AmqpException.class)
+				.isThrownBy(() -> createTemplate(Duration.ofMillis(50)).send("exchange",
+						"key", this.message))
+				.withMessageContaining("fewer than 10 unconfirmed messages");
+		verify(this.connectionFactory, never()).createConnection();
+	}
+
+	@Test
+	public void sendAndReceiveWhenLimitIsNotReleasedInTimeFails() {
+		this.unconfirmed.set(10);
+		assertThatExceptionOfType(AmqpException.class)
+				.isThrownBy(() -> createTemplate(Duration.ofMillis(50))
+						.sendAndReceive("exchange", "key", this.message))
+				.withMessageContaining("fewer than 10 unconfirmed messages");
+		verify(this.connectionFactory, never()).createConnection();
+	}
+
+	private void verifyPublished() throws Exception {
+		verify(this.channel).basicPublish(eq("exchange"), eq("key"), anyBoolean(), any(),
+				any());
+	}
+
+	private UnconfirmedLimitRabbitTemplate createTemplate(Duration timeout) {
+		return new UnconfirmedLimitRabbitTemplate(this.connectionFactory, 10, timeout) {
+
+			@Override
+			public int getUnconfirmedCount() {
+				return UnconfirmedLimitRabbitTemplateTests.this.unconfirmed.get();
+			}
+
+		};
+	}
+
+}
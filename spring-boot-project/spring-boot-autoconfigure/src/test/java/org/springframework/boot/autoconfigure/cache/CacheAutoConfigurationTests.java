@@ -49,6 +49,7 @@ import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.cache.support.MockCachingProvider;
 import org.springframework.boot.autoconfigure.hazelcast.HazelcastAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
 import org.springframework.boot.testsupport.runner.classpath.ClassPathExclusions;
 import org.springframework.boot.testsupport.runner.classpath.ModifiedClassPathRunner;
@@ -71,6 +72,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -323,6 +325,19 @@ public class CacheAutoConfigurationTests extends AbstractCacheAutoConfigurationT
 						"allCacheManagerCustomizer", "redisCacheManagerCustomizer"));
 	}
 
+	@Test
+	public void redisCacheWithDecorators() {
+		this.contextRunner.withUserConfiguration(RedisWithCacheDecoratorConfiguration.class)
+				.withPropertyValues("spring.cache.type=redis",
+						"spring.cache.cacheNames=foo")
+				.run((context) -> {
+					RedisCacheManager cacheManager = getCacheManager(context,
+							RedisCacheManager.class);
+					assertThat(cacheManager.getCache("foo"))
+							.isInstanceOf(ConcurrentMapCache.class);
+				});
+	}
+
 	@Test
 	public void redisCacheExplicitWithCaches() {
 		this.contextRunner.withUserConfiguration(RedisConfiguration.class)
@@ -345,6 +360,62 @@ public class CacheAutoConfigurationTests extends AbstractCacheAutoConfigurationT
 				});
 	}
 
+	@Test
+	public void redisCacheWithNearCache() {
+		this.contextRunner.withUserConfiguration(RedisConfiguration.class)
+				.withPropertyValues("spring.cache.type=redis",
+						"spring.cache.cacheNames[0]=foo",
+						"spring.cache.cacheNames[1]=bar",
+						"spring.cache.redis.near.enabled=true",
+						"spring.cache.redis.near.spec=maximumSize=100,expireAfterWrite=60s",
+						"spring.cache.redis.near.specs.foo=maximumSize=10,expireAfterWrite=60s")
+				.run((context) -> {
+					RedisNearCacheManager cacheManager = getCacheManager(context,
+							RedisNearCacheManager.class);
+					assertThat(cacheManager.getRemoteCacheManager())
+							.isInstanceOf(RedisCacheManager.class);
+					assertThat(cacheManager.getCacheNames()).containsOnly("foo", "bar");
+					assertThat(getNearCacheMaximumSize(cacheManager, "foo"))
+							.isEqualTo(10);
+					assertThat(getNearCacheMaximumSize(cacheManager, "bar"))
+							.isEqualTo(100);
+					assertThat(context)
+							.hasSingleBean(RedisMessageListenerContainer.class);
+				});
+	}
+
+	@Test
+	public void redisCacheWithNearCacheWhenCaffeineIsMissingUsesRedisCacheManager() {
+		this.contextRunner.withUserConfiguration(RedisConfiguration.class)
+				.withClassLoader(new FilteredClassLoader(Caffeine.class))
+				.withPropertyValues("spring.cache.type=redis",
+						"spring.cache.redis.near.enabled=true")
+				.run((context) -> {
+					getCacheManager(context, RedisCacheManager.class);
+					assertThat(context)
+							.doesNotHaveBean(RedisMessageListenerContainer.class);
+				});
+	}
+
+	@Test
+	public void redisCacheWithNearCacheWhenSpecDoesNotExpireFails() {
+		this.contextRunner.withUserConfiguration(RedisConfiguration.class)
+				.withPropertyValues("spring.cache.type=redis",
+						"spring.cache.redis.near.enabled=true",
+						"spring.cache.redis.near.spec=maximumSize=100")
+				.run((context) -> assertThat(context).getFailure()
+						.hasRootCauseInstanceOf(IllegalArgumentException.class)
+						.hasStackTraceContaining("must set expireAfterWrite"));
+	}
+
+	private long getNearCacheMaximumSize(RedisNearCacheManager cacheManager,
+			String name) {
+		NearCache cache = (NearCache) cacheManager.getCache(name);
+		com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache = (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache
+				.getNearCache().getNativeCache();
+		return nativeCache.policy().eviction().get().getMaximum();
+	}
+
 	@Test
 	public void noOpCacheExplicit() {
 		this.contextRunner.withUserConfiguration(DefaultCacheConfiguration.class)
@@ -867,6 +938,17 @@ public class CacheAutoConfigurationTests extends AbstractCacheAutoConfigurationT
 
 	}
 
+	@Configuration
+	@Import(RedisConfiguration.class)
+	static class RedisWithCacheDecoratorConfiguration {
+
+		@Bean
+		public RedisCacheDecorator redisCacheDecorator() {
+			return (cache) -> new ConcurrentMapCache(cache.getName());
+		}
+
+	}
+
 	@Configuration
 	@Import(RedisConfiguration.class)
 	static class RedisWithCacheConfigurationConfiguration {
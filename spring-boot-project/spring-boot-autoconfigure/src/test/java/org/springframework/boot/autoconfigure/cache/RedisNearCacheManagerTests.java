@@ -0,0 +1,226 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.cache;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.boot.autoconfigure.cache.MultiLevelCache.Level;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link RedisNearCacheManager} and {@link NearCache}.
+ *
+ * @author agent
+ */
+public class RedisNearCacheManagerTests {
+
+	private static final byte[] CHANNEL = "invalidation".getBytes();
+
+	private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager(
+			"test");
+
+	private final RedisConnectionFactory connectionFactory = mock(
+			RedisConnectionFactory.class);
+
+	private final RedisConnection connection = mock(RedisConnection.class);
+
+	private RedisNearCacheManager cacheManager;
+
+	@Before
+	public void setUp() {
+		given(this.connectionFactory.getConnection()).willReturn(this.connection);
+		this.cacheManager = createCacheManager();
+	}
+
+	@Test
+	public void getCacheWhenRemoteCacheIsMissingReturnsNull() {
+		assertThat(this.cacheManager.getCache("other")).isNull();
+	}
+
+	@Test
+	public void getPopulatesNearCache() {
+		this.remoteCacheManager.getCache("test").put("key", "value");
+		NearCache cache = (NearCache) this.cacheManager.getCache("test");
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.get("other")).isNull();
+		assertThat(cache.getNearCache().get("key").get()).isEqualTo("value");
+	}
+
+	@Test
+	public void lookupsAreCountedPerLevel() {
+		this.remoteCacheManager.getCache("test").put("key", "value");
+		NearCache cache = (NearCache) this.cacheManager.getCache("test");
+		cache.get("key");
+		cache.get("key");
+		cache.get("other");
+		cache.get("loaded", () -> "value");
+		assertThat(cache.getHitCount(Level.NEAR)).isEqualTo(1);
+		assertThat(cache.getMissCount(Level.NEAR)).isEqualTo(3);
+		assertThat(cache.getPutCount(Level.NEAR)).isEqualTo(2);
+		assertThat(cache.getHitCount(Level.REMOTE)).isEqualTo(1);
+		assertThat(cache.getMissCount(Level.REMOTE)).isEqualTo(2);
+		assertThat(cache.getPutCount(Level.REMOTE)).isEqualTo(1);
+	}
+
+	@Test
+	public void getWithValueLoaderPopulatesBothCaches() {
+		NearCache cache = (NearCache) this.cacheManager.getCache("test");
+		assertThat(cache.get("key", () -> "value")).isEqualTo("value");
+		assertThat(cache.getNearCache().get("key").get()).isEqualTo("value");
+		assertThat(cache.getRemoteCache().get("key").get()).isEqualTo("value");
+	}
+
+	@Test
+	public void getWithValueLoaderOnNearMissUsesSingleRemoteLookup() {
+		AtomicInteger remoteGets = new AtomicInteger();
+		ConcurrentMapCache remote = new ConcurrentMapCache("test") {
+
+			@Override
+			public ValueWrapper get(Object key) {
+				remoteGets.incrementAndGet();
+				return super.get(key);
+			}
+
+		};
+		remote.put("key", "value");
+		NearCache cache = new NearCache(new ConcurrentMapCache("test"), remote, null);
+		assertThat(cache.get("key", () -> "other")).isEqualTo("value");
+		assertThat(remoteGets).hasValue(0);
+		assertThat(cache.getNearCache().get("key").get()).isEqualTo("value");
+	}
+
+	@Test
+	public void putWritesToBothCachesAndPublishesInvalidation() {
+		NearCache cache = (NearCache) this.cacheManager.getCache("test");
+		cache.put("key", "value");
+		assertThat(cache.getNearCache().get("key").get()).isEqualTo("value");
+		assertThat(cache.getRemoteCache().get("key").get()).isEqualTo("value");
+		verify(this.connection).publish(any(byte[].class), any(byte[].class));
+		verify(this.connection).close();
+	}
+
+	@Test
+	public void invalidationFromOtherInstanceEvictsNearEntry() {
+		RedisNearCacheManager other = createCacheManager();
+		NearCache cache = (NearCache) this.cacheManager.getCache("test");
+		cache.put("key", "value");
+		cache.put("another", "value");
+		other.getCache("test").evict("key");
+		this.cacheManager.onMessage(new DefaultMessage(CHANNEL, getLastPublished(3)),
+				null);
+		assertThat(cache.getNearCache().get("key")).isNull();
+		assertThat(cache.getNearCache().get("another")).isNotNull();
+	}
+
+	@Test
+	public void clearFromOtherInstanceClearsNearCache() {
+		RedisNearCacheManager other = createCacheManager();
+		NearCache cache = (NearCache) this.cacheManager.getCache("test");
+		cache.put("key", "value");
+		other.getCache("test").clear();
+		this.cacheManager.onMessage(new DefaultMessage(CHANNEL, getLastPublished(2)),
+				null);
+		assertThat(cache.getNearCache().get("key")).isNull();
+	}
+
+	@Test
+	public void ownInvalidationIsIgnored() {
+		NearCache cache = (NearCache) this.cacheManager.getCache("test");
+		cache.put("key", "value");
+		this.cacheManager.onMessage(new DefaultMessage(CHANNEL, getLastPublished(1)),
+				null);
+		assertThat(cache.getNearCache().get("key")).isNotNull();
+	}
+
+	@Test
+	public void nearCacheUsesSpecOfCache() {
+		Cache cache = ((NearCache) this.cacheManager.getCache("test")).getNearCache();
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+		com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache = (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache
+				.getNativeCache();
+		nativeCache.cleanUp();
+		assertThat(nativeCache.estimatedSize()).isEqualTo(2);
+	}
+
+	@Test
+	public void invalidationDuringRemoteReadIsNotLost() {
+		AtomicReference<NearCache> nearCache = new AtomicReference<>();
+		ConcurrentMapCache remote = new ConcurrentMapCache("test") {
+
+			@Override
+			public ValueWrapper get(Object key) {
+				ValueWrapper value = super.get(key);
+				nearCache.get().invalidate(key);
+				return value;
+			}
+
+		};
+		remote.put("key", "stale");
+		NearCache cache = new NearCache(new ConcurrentMapCache("test"), remote, null);
+		nearCache.set(cache);
+		assertThat(cache.get("key").get()).isEqualTo("stale");
+		assertThat(cache.getNearCache().get("key")).isNull();
+	}
+
+	@Test
+	public void specWithoutExpireAfterWriteIsRejected() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new RedisNearCacheManager(this.remoteCacheManager,
+						"maximumSize=100,expireAfterWrite=60s",
+						Collections.singletonMap("test", "maximumSize=2"),
+						this.connectionFactory, "invalidation",
+						getClass().getClassLoader()))
+				.withMessageContaining("'maximumSize=2' must set expireAfterWrite");
+	}
+
+	private RedisNearCacheManager createCacheManager() {
+		return new RedisNearCacheManager(this.remoteCacheManager,
+				"maximumSize=100,expireAfterWrite=60s",
+				Collections.singletonMap("test", "maximumSize=2, expireAfterWrite=60s"),
+				this.connectionFactory, "invalidation", getClass().getClassLoader());
+	}
+
+	private byte[] getLastPublished(int count) {
+		ArgumentCaptor<byte[]> message = ArgumentCaptor.forClass(byte[].class);
+		verify(this.connection, times(count)).publish(any(byte[].class),
+				message.capture());
+		return message.getValue();
+	}
+
+}
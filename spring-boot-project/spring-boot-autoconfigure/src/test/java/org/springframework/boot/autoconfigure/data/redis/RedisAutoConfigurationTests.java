@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import io.lettuce.core.resource.DefaultClientResources;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.junit.Test;
 
@@ -259,6 +260,43 @@ public class RedisAutoConfigurationTests {
 		);
 	}
 
+	@Test
+	public void testRedisConfigurationSharesNativeConnectionByDefault() {
+		this.contextRunner.run(
+				(context) -> assertThat(context.getBean(LettuceConnectionFactory.class)
+						.getShareNativeConnection()).isTrue());
+	}
+
+	@Test
+	public void testRedisConfigurationWithoutSharedNativeConnection() {
+		this.contextRunner
+				.withPropertyValues("spring.redis.lettuce.share-native-connection:false")
+				.run((context) -> assertThat(
+						context.getBean(LettuceConnectionFactory.class)
+								.getShareNativeConnection()).isFalse());
+	}
+
+	@Test
+	public void testRedisConfigurationWithThreadPoolSizes() {
+		this.contextRunner
+				.withPropertyValues("spring.redis.lettuce.io-thread-pool-size:5",
+						"spring.redis.lettuce.computation-thread-pool-size:7")
+				.run((context) -> {
+					DefaultClientResources clientResources = context
+							.getBean(DefaultClientResources.class);
+					assertThat(clientResources.ioThreadPoolSize()).isEqualTo(5);
+					assertThat(clientResources.computationThreadPoolSize()).isEqualTo(7);
+				});
+	}
+
+	@Test
+	public void testCustomizeClientResources() {
+		this.contextRunner.withUserConfiguration(CustomClientResourcesConfiguration.class)
+				.run((context) -> assertThat(
+						context.getBean(DefaultClientResources.class).ioThreadPoolSize())
+								.isEqualTo(4));
+	}
+
 	private LettucePoolingClientConfiguration getPoolingClientConfiguration(
 			LettuceConnectionFactory factory) {
 		return (LettucePoolingClientConfiguration) ReflectionTestUtils.getField(factory,
@@ -275,4 +313,14 @@ public class RedisAutoConfigurationTests {
 
 	}
 
+	@Configuration
+	static class CustomClientResourcesConfiguration {
+
+		@Bean
+		ClientResourcesBuilderCustomizer clientResourcesCustomizer() {
+			return (builder) -> builder.ioThreadPoolSize(4);
+		}
+
+	}
+
 }
@@ -33,20 +33,25 @@ import javax.sql.DataSource;
 
 import com.zaxxer.hikari.HikariDataSource;
 import org.apache.commons.dbcp2.BasicDataSource;
+import org.junit.Rule;
 import org.junit.Test;
 
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DatabaseDriver;
 import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.rule.OutputCapture;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.StringUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -60,6 +65,9 @@ import static org.mockito.Mockito.mock;
  */
 public class DataSourceAutoConfigurationTests {
 
+	@Rule
+	public OutputCapture output = new OutputCapture();
+
 	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
 			.withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
 			.withPropertyValues("spring.datasource.initialization-mode=never",
@@ -81,6 +89,45 @@ public class DataSourceAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void dataSourceIsNotWarmedUpByDefault() {
+		this.contextRunner.run((context) -> {
+			assertThat(context).doesNotHaveBean(DataSourceWarmer.class);
+			HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+			assertThat(dataSource.getHikariPoolMXBean()).isNull();
+		});
+	}
+
+	@Test
+	public void dataSourceIsWarmedUpWhenEnabled() {
+		this.contextRunner.withPropertyValues("spring.datasource.warm-up=true")
+				.run((context) -> {
+					HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+					assertThat(dataSource.getHikariPoolMXBean()).isNotNull();
+				});
+	}
+
+	@Test
+	public void hikariPoolIsFilledToMinimumIdleWhenWarmedUp() {
+		this.contextRunner
+				.withPropertyValues("spring.datasource.warm-up=true",
+						"spring.datasource.hikari.minimum-idle=3")
+				.run((context) -> {
+					HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+					assertThat(dataSource.getHikariPoolMXBean().getTotalConnections())
+							.isGreaterThanOrEqualTo(3);
+				});
+	}
+
+	@Test
+	public void lazyDataSourceIsNotWarmedUp() {
+		this.contextRunner.withUserConfiguration(LazyDataSourceConfiguration.class)
+				.withPropertyValues("spring.datasource.warm-up=true")
+				.run((context) -> assertThat(
+						context.getBeanFactory().containsSingleton("lazyDataSource"))
+								.isFalse());
+	}
+
 	@Test
 	public void testBadUrl() {
 		this.contextRunner
@@ -224,6 +271,94 @@ public class DataSourceAutoConfigurationTests {
 								.isTrue());
 	}
 
+	@Test
+	public void batchRewriteIsNotEnabledByDefault() {
+		this.contextRunner.withUserConfiguration(PostgresDataSourceConfiguration.class)
+				.run((context) -> assertThat(
+						context.getBean(HikariDataSource.class).getDataSourceProperties())
+								.doesNotContainKey("reWriteBatchedInserts"));
+	}
+
+	@Test
+	public void batchRewriteCanBeEnabled() {
+		this.contextRunner.withUserConfiguration(PostgresDataSourceConfiguration.class)
+				.withPropertyValues("spring.datasource.rewrite-batched-statements=true")
+				.run((context) -> assertThat(
+						context.getBean(HikariDataSource.class).getDataSourceProperties())
+								.containsEntry("reWriteBatchedInserts", "true"));
+	}
+
+	@Test
+	public void batchRewriteDoesNotOverrideExplicitDriverProperty() {
+		this.contextRunner.withUserConfiguration(PostgresDataSourceConfiguration.class)
+				.withPropertyValues("spring.datasource.rewrite-batched-statements=true",
+						"test.datasource.data-source-properties.reWriteBatchedInserts=false")
+				.run((context) -> assertThat(
+						context.getBean(HikariDataSource.class).getDataSourceProperties())
+								.containsEntry("reWriteBatchedInserts", "false"));
+	}
+
+	@Test
+	public void batchRewriteCanBeEnabledForDbcp2() {
+		this.contextRunner.withUserConfiguration(Dbcp2DataSourceConfiguration.class)
+				.withPropertyValues("spring.datasource.rewrite-batched-statements=true")
+				.run((context) -> assertThat(
+						getConnectionProperties(context.getBean(BasicDataSource.class)))
+								.containsEntry("rewriteBatchedStatements", "true"));
+	}
+
+	@Test
+	public void batchRewriteCanBeEnabledWithSeveralDataSources() {
+		this.contextRunner
+				.withUserConfiguration(PostgresDataSourceConfiguration.class,
+						Dbcp2DataSourceConfiguration.class)
+				.withPropertyValues("spring.datasource.rewrite-batched-statements=true")
+				.run((context) -> {
+					assertThat(context.getBean(HikariDataSource.class)
+							.getDataSourceProperties())
+									.containsEntry("reWriteBatchedInserts", "true");
+					assertThat(getConnectionProperties(
+							context.getBean(BasicDataSource.class)))
+									.containsEntry("rewriteBatchedStatements", "true");
+				});
+	}
+
+	@Test
+	public void batchRewriteDoesNotOverrideExplicitDbcp2ConnectionProperty() {
+		this.contextRunner.withUserConfiguration(Dbcp2DataSourceConfiguration.class)
+				.withPropertyValues("spring.datasource.rewrite-batched-statements=true",
+						"test.datasource.connection-properties=rewriteBatchedStatements=false")
+				.run((context) -> assertThat(
+						getConnectionProperties(context.getBean(BasicDataSource.class)))
+								.containsEntry("rewriteBatchedStatements", "false"));
+	}
+
+	@Test
+	public void batchRewriteLogsWarningForUnsupportedDataSource() {
+		this.contextRunner.withUserConfiguration(SimpleDataSourceConfiguration.class)
+				.withPropertyValues("spring.datasource.rewrite-batched-statements=true")
+				.run((context) -> assertThat(this.output.toString()).contains(
+						"Batch statement rewriting is not supported for DataSource "
+								+ "'simpleDataSource' of type "
+								+ SimpleDriverDataSource.class.getName()));
+	}
+
+	@Test
+	public void batchRewriteIsIgnoredForUnsupportedDriver() {
+		this.contextRunner
+				.withPropertyValues("spring.datasource.rewrite-batched-statements=true")
+				.run((context) -> {
+					HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+					assertThat(dataSource.getDataSourceProperties()).isEmpty();
+					JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+					jdbcTemplate.execute("CREATE TABLE BATCH (ID INTEGER)");
+					jdbcTemplate.batchUpdate("INSERT INTO BATCH VALUES (?)",
+							Arrays.asList(new Object[] { 1 }, new Object[] { 2 }));
+					assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH",
+							Integer.class)).isEqualTo(2);
+				});
+	}
+
 	private <T extends DataSource> void assertDataSource(Class<T> expectedType,
 			List<String> hiddenPackages, Consumer<T> consumer) {
 		FilteredClassLoader classLoader = new FilteredClassLoader(
@@ -235,6 +370,11 @@ public class DataSourceAutoConfigurationTests {
 		});
 	}
 
+	private Properties getConnectionProperties(BasicDataSource dataSource) {
+		return (Properties) ReflectionTestUtils.getField(dataSource,
+				"connectionProperties");
+	}
+
 	@Configuration
 	static class TestDataSourceConfiguration {
 
@@ -267,6 +407,53 @@ public class DataSourceAutoConfigurationTests {
 
 	}
 
+	@Configuration
+	static class LazyDataSourceConfiguration {
+
+		@Bean
+		@Lazy
+		public DataSource lazyDataSource() {
+			return new SimpleDriverDataSource();
+		}
+
+	}
+
+	@Configuration
+	static class Dbcp2DataSourceConfiguration {
+
+		@Bean
+		@ConfigurationProperties("test.datasource")
+		public BasicDataSource mysqlDataSource() {
+			BasicDataSource dataSource = new BasicDataSource();
+			dataSource.setUrl("jdbc:mysql://localhost/test");
+			return dataSource;
+		}
+
+	}
+
+	@Configuration
+	static class SimpleDataSourceConfiguration {
+
+		@Bean
+		public SimpleDriverDataSource simpleDataSource() {
+			return new SimpleDriverDataSource();
+		}
+
+	}
+
+	@Configuration
+	static class PostgresDataSourceConfiguration {
+
+		@Bean
+		@ConfigurationProperties("test.datasource")
+		public HikariDataSource postgresDataSource() {
+			HikariDataSource dataSource = new HikariDataSource();
+			dataSource.setJdbcUrl("jdbc:postgresql://localhost/test");
+			return dataSource;
+		}
+
+	}
+
 	// see testExplicitDriverClassClearsUsername
 	public static class DatabaseTestDriver implements Driver {
 
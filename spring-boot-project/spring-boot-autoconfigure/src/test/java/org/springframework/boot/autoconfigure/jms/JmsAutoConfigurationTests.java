@@ -177,6 +177,28 @@ public class JmsAutoConfigurationTests {
 		assertThat(container.getMaxConcurrentConsumers()).isEqualTo(10);
 	}
 
+	@Test
+	public void testJmsListenerContainerFactoryWithScalingSettings() {
+		this.contextRunner.withUserConfiguration(EnableJmsConfiguration.class)
+				.withPropertyValues("spring.jms.listener.session-transacted=false",
+						"spring.jms.listener.acknowledge-mode=dups_ok",
+						"spring.jms.listener.receive-timeout=2s",
+						"spring.jms.listener.max-messages-per-task=50",
+						"spring.jms.listener.cache-level=session")
+				.run((context) -> {
+					DefaultMessageListenerContainer container = getContainer(context,
+							"jmsListenerContainerFactory");
+					assertThat(container.isSessionTransacted()).isFalse();
+					assertThat(container.getSessionAcknowledgeMode())
+							.isEqualTo(Session.DUPS_OK_ACKNOWLEDGE);
+					assertThat(container).hasFieldOrPropertyWithValue("receiveTimeout",
+							2000L);
+					assertThat(container.getMaxMessagesPerTask()).isEqualTo(50);
+					assertThat(container.getCacheLevel())
+							.isEqualTo(DefaultMessageListenerContainer.CACHE_SESSION);
+				});
+	}
+
 	@Test
 	public void testDefaultContainerFactoryWithJtaTransactionManager() {
 		this.contextRunner.withUserConfiguration(TestConfiguration7.class,
@@ -162,6 +162,35 @@ public class KafkaAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void consumerProfileProvidesDefaults() {
+		this.contextRunner.withPropertyValues("spring.kafka.consumer.profile=throughput",
+				"spring.kafka.consumer.max-poll-records=42").run((context) -> {
+					Map<String, Object> configs = context
+							.getBean(DefaultKafkaConsumerFactory.class)
+							.getConfigurationProperties();
+					assertThat(configs.get(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG))
+							.isEqualTo(500);
+					assertThat(configs.get(ConsumerConfig.FETCH_MIN_BYTES_CONFIG))
+							.isEqualTo(65536);
+					assertThat(configs.get(ConsumerConfig.MAX_POLL_RECORDS_CONFIG))
+							.isEqualTo(42);
+				});
+	}
+
+	@Test
+	public void consumerWithoutProfileHasNoFetchDefaults() {
+		this.contextRunner.run((context) -> {
+			Map<String, Object> configs = context
+					.getBean(DefaultKafkaConsumerFactory.class)
+					.getConfigurationProperties();
+			assertThat(configs).doesNotContainKeys(
+					ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG,
+					ConsumerConfig.FETCH_MIN_BYTES_CONFIG,
+					ConsumerConfig.MAX_POLL_RECORDS_CONFIG);
+		});
+	}
+
 	@Test
 	public void producerProperties() {
 		this.contextRunner.withPropertyValues("spring.kafka.clientId=cid",
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure.reactor.netty;
+
+import org.junit.Test;
+import reactor.netty.http.HttpResources;
+
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReactorNettyConfigurations}.
+ *
+ * @author agent
+ */
+public class ReactorNettyConfigurationsTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(
+					ReactorNettyConfigurations.ReactorResourceFactoryConfiguration.class);
+
+	@Test
+	public void resourceFactoryUsesGlobalResourcesByDefault() {
+		this.contextRunner.run((context) -> {
+			ReactorResourceFactory resourceFactory = context
+					.getBean(ReactorResourceFactory.class);
+			assertThat(resourceFactory.isUseGlobalResources()).isTrue();
+			assertThat(resourceFactory.getConnectionProvider())
+					.isInstanceOf(HttpResources.class);
+		});
+	}
+
+	@Test
+	public void resourceFactoryUsesDedicatedResourcesWhenConfigured() {
+		this.contextRunner.withPropertyValues("spring.reactor.netty.io-worker-count=2",
+				"spring.reactor.netty.pool.max-connections=50",
+				"spring.reactor.netty.pool.acquire-timeout=5s").run((context) -> {
+					ReactorResourceFactory resourceFactory = context
+							.getBean(ReactorResourceFactory.class);
+					assertThat(resourceFactory.isUseGlobalResources()).isFalse();
+					assertThat(resourceFactory.getConnectionProvider())
+							.isNotInstanceOf(HttpResources.class);
+					assertThat(resourceFactory.getLoopResources())
+							.isNotInstanceOf(HttpResources.class);
+				});
+	}
+
+	@Test
+	public void resourceFactoryUsesDedicatedLoopResourcesWithoutPoolProperties() {
+		this.contextRunner.withPropertyValues("spring.reactor.netty.io-worker-count=2")
+				.run((context) -> {
+					ReactorResourceFactory resourceFactory = context
+							.getBean(ReactorResourceFactory.class);
+					assertThat(resourceFactory.isUseGlobalResources()).isFalse();
+					assertThat(resourceFactory.getLoopResources())
+							.isNotInstanceOf(HttpResources.class);
+					assertThat(context.getBean(ReactorNettyProperties.class).getPool()
+							.isConfigured()).isFalse();
+				});
+	}
+
+	@Test
+	public void poolIsConfiguredWhenAnyPoolPropertyIsSet() {
+		this.contextRunner
+				.withPropertyValues("spring.reactor.netty.pool.acquire-timeout=5s")
+				.run((context) -> assertThat(context.getBean(ReactorNettyProperties.class)
+						.getPool().isConfigured()).isTrue());
+	}
+
+}
@@ -20,10 +20,12 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 
 import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.task.TaskExecutorBuilder;
 import org.springframework.boot.task.TaskExecutorCustomizer;
@@ -118,6 +120,71 @@ public class TaskExecutionAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void taskExecutorWithVirtualThreadsMode() {
+		Assume.assumeTrue("Virtual threads are not supported",
+				VirtualThreads.isSupported());
+		this.contextRunner
+				.withPropertyValues("spring.task.execution.mode=virtual-threads",
+						"spring.task.execution.thread-name-prefix=virtual-test-")
+				.withUserConfiguration(AsyncConfiguration.class, TestBean.class)
+				.run((context) -> {
+					assertThat(context).getBean("applicationTaskExecutor")
+							.isInstanceOf(ThreadPoolTaskExecutor.class);
+					TestBean bean = context.getBean(TestBean.class);
+					String text = bean.echo("something").get();
+					assertThat(text).contains("virtual-test-");
+				});
+	}
+
+	@Test
+	public void taskExecutorWithVirtualThreadsModeWhenNotSupported() {
+		Assume.assumeFalse("Virtual threads are supported", VirtualThreads.isSupported());
+		this.contextRunner
+				.withPropertyValues("spring.task.execution.mode=virtual-threads")
+				.run((context) -> assertThat(context).getFailure()
+						.isInstanceOf(BeanCreationException.class)
+						.hasStackTraceContaining(
+								"Virtual threads are not supported by this JVM"));
+	}
+
+	@Test
+	public void taskExecutorWithRelaxedThreadPoolMode() {
+		this.contextRunner.withPropertyValues("spring.task.execution.mode=THREAD_POOL")
+				.run((context) -> assertThat(context).getBean("applicationTaskExecutor")
+						.isInstanceOf(ThreadPoolTaskExecutor.class));
+	}
+
+	@Test
+	public void taskExecutorWithRelaxedVirtualThreadsMode() {
+		Assume.assumeTrue("Virtual threads are not supported",
+				VirtualThreads.isSupported());
+		this.contextRunner
+				.withPropertyValues("spring.task.execution.mode=VIRTUAL_THREADS")
+				.run((context) -> assertThat(context).getBean("applicationTaskExecutor")
+						.isInstanceOf(ThreadPoolTaskExecutor.class));
+	}
+
+	@Test
+	public void taskExecutorWithVirtualThreadsModeAppliesDecoratorAndCustomizers() {
+		Assume.assumeTrue("Virtual threads are not supported",
+				VirtualThreads.isSupported());
+		this.contextRunner
+				.withPropertyValues("spring.task.execution.mode=virtual-threads")
+				.withUserConfiguration(TaskDecoratorConfig.class,
+						TaskExecutorCustomizerConfig.class)
+				.run((context) -> {
+					ThreadPoolTaskExecutor executor = context.getBean(
+							"applicationTaskExecutor", ThreadPoolTaskExecutor.class);
+					assertThat(ReflectionTestUtils.getField(executor, "taskDecorator"))
+							.isSameAs(context.getBean(TaskDecorator.class));
+					verify(context.getBean(TaskExecutorCustomizer.class))
+							.customize(executor);
+					assertThat(executor.getCorePoolSize()).isEqualTo(0);
+					assertThat(executor.getMaxPoolSize()).isEqualTo(Integer.MAX_VALUE);
+				});
+	}
+
 	@Test
 	public void taskExecutorWhenHasCustomTaskExecutorShouldBackOff() {
 		this.contextRunner.withUserConfiguration(CustomTaskExecutorConfig.class)
@@ -19,11 +19,14 @@ package org.springframework.boot.autoconfigure.web.client;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.junit.After;
 import org.junit.Test;
 
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.boot.web.client.PooledClientHttpRequestFactorySupplier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
@@ -32,6 +35,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -112,8 +116,61 @@ public class RestTemplateAutoConfigurationTests {
 		load(DirtyRestTemplateConfig.class);
 	}
 
+	@Test
+	public void restTemplateWhenPoolIsConfiguredShouldUsePooledHttpClient() {
+		load(new String[] { "spring.http.client.pool.max-connections=100",
+				"spring.http.client.pool.max-connections-per-route=20",
+				"spring.http.client.pool.max-idle-time=30s" }, RestTemplateConfig.class);
+		RestTemplate restTemplate = this.context.getBean(RestTemplate.class);
+		assertThat(restTemplate.getRequestFactory())
+				.isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+		PoolingHttpClientConnectionManager connectionManager = (PoolingHttpClientConnectionManager) ReflectionTestUtils
+				.getField(((HttpComponentsClientHttpRequestFactory) restTemplate
+						.getRequestFactory()).getHttpClient(), "connManager");
+		assertThat(connectionManager.getMaxTotal()).isEqualTo(100);
+		assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(20);
+	}
+
+	@Test
+	public void restTemplatesWhenPoolIsConfiguredShouldSharePooledHttpClient() {
+		load(new String[] { "spring.http.client.pool.max-connections=100" },
+				RestTemplateConfig.class);
+		RestTemplateBuilder builder = this.context.getBean(RestTemplateBuilder.class);
+		HttpComponentsClientHttpRequestFactory first = (HttpComponentsClientHttpRequestFactory) builder
+				.build().getRequestFactory();
+		HttpComponentsClientHttpRequestFactory second = (HttpComponentsClientHttpRequestFactory) builder
+				.build().getRequestFactory();
+		assertThat(first.getHttpClient()).isSameAs(second.getHttpClient());
+	}
+
+	@Test
+	public void pooledHttpClientShouldBeClosedWhenContextIsClosed() {
+		load(new String[] { "spring.http.client.pool.max-connections=100" },
+				RestTemplateConfig.class);
+		RestTemplate restTemplate = this.context.getBean(RestTemplate.class);
+		Object connectionManager = ReflectionTestUtils
+				.getField(((HttpComponentsClientHttpRequestFactory) restTemplate
+						.getRequestFactory()).getHttpClient(), "connManager");
+		this.context.close();
+		assertThat(ReflectionTestUtils.getField(connectionManager, "isShutDown"))
+				.hasToString("true");
+	}
+
+	@Test
+	public void restTemplateBuilderWhenPoolIsNotConfiguredShouldNotCreatePooledSupplier() {
+		load(RestTemplateConfig.class);
+		assertThat(
+				this.context.getBeansOfType(PooledClientHttpRequestFactorySupplier.class))
+						.isEmpty();
+	}
+
 	public void load(Class<?>... config) {
+		load(new String[0], config);
+	}
+
+	private void load(String[] environment, Class<?>... config) {
 		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		TestPropertyValues.of(environment).applyTo(ctx);
 		ctx.register(config);
 		ctx.register(RestTemplateAutoConfiguration.class);
 		ctx.refresh();
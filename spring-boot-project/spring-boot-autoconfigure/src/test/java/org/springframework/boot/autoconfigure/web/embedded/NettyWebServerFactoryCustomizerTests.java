@@ -16,15 +16,32 @@
 
 package org.springframework.boot.autoconfigure.web.embedded;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
 
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
 import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
 import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.unit.DataSize;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -72,4 +89,58 @@ public class NettyWebServerFactoryCustomizerTests {
 		verify(factory).setUseForwardHeaders(true);
 	}
 
+	@Test
+	public void setMaxInitialLineLength() throws Exception {
+		this.serverProperties.getNetty().setMaxInitialLineLength(DataSize.ofBytes(64));
+		NettyReactiveWebServerFactory factory = mock(NettyReactiveWebServerFactory.class);
+		this.customizer.customize(factory);
+		ArgumentCaptor<NettyServerCustomizer> customizerCaptor = ArgumentCaptor
+				.forClass(NettyServerCustomizer.class);
+		verify(factory).addServerCustomizers(customizerCaptor.capture());
+		HttpServer httpServer = customizerCaptor.getValue()
+				.apply(HttpServer.create().host("127.0.0.1").port(0).handle(
+						(request, response) -> response.sendString(Mono.just("Hello"))));
+		DisposableServer server = httpServer.bindNow();
+		try {
+			assertThat(getStatusLine(server.port(), 32)).contains("200");
+			assertThat(getStatusLine(server.port(), 128)).doesNotContain("200");
+		}
+		finally {
+			server.disposeNow();
+		}
+	}
+
+	@Test
+	public void onlyMaxHttpHeaderSizeIsCustomizedByDefault() {
+		NettyReactiveWebServerFactory factory = mock(NettyReactiveWebServerFactory.class);
+		this.customizer.customize(factory);
+		verify(factory, times(1)).addServerCustomizers(any());
+	}
+
+	@Test
+	public void reusePortIsIgnoredWithoutNativeTransport() {
+		this.serverProperties.getNetty().setReusePort(true);
+		this.serverProperties.getNetty().setNativeTransport(false);
+		NettyReactiveWebServerFactory factory = mock(NettyReactiveWebServerFactory.class);
+		this.customizer.customize(factory);
+		verify(factory, times(1)).addServerCustomizers(any());
+	}
+
+	private String getStatusLine(int port, int pathLength) throws IOException {
+		try (Socket socket = new Socket("127.0.0.1", port)) {
+			socket.setSoTimeout(5000);
+			char[] path = new char[pathLength];
+			Arrays.fill(path, 'a');
+			OutputStream outputStream = socket.getOutputStream();
+			outputStream.write(("GET /" + new String(path)
+					+ " HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n")
+							.getBytes(StandardCharsets.US_ASCII));
+			outputStream.flush();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(
+					socket.getInputStream(), StandardCharsets.US_ASCII));
+			String statusLine = reader.readLine();
+			return (statusLine != null) ? statusLine : "";
+		}
+	}
+
 }
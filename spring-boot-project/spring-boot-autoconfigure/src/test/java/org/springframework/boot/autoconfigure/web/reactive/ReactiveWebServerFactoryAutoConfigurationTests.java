@@ -23,6 +23,7 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
 import org.springframework.boot.web.embedded.tomcat.TomcatReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebServerApplicationContext;
+import org.springframework.boot.web.reactive.filter.ConcurrencyLimitWebFilter;
 import org.springframework.boot.web.reactive.server.ConfigurableReactiveWebServerFactory;
 import org.springframework.boot.web.reactive.server.ReactiveWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
@@ -87,6 +88,37 @@ public class ReactiveWebServerFactoryAutoConfigurationTests {
 								.isEqualTo(9000));
 	}
 
+	@Test
+	public void concurrencyLimitWebFilterIsNotConfiguredByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MockWebServerConfiguration.class,
+						HttpHandlerConfiguration.class)
+				.run((context) -> assertThat(context)
+						.doesNotHaveBean(ConcurrencyLimitWebFilter.class));
+	}
+
+	@Test
+	public void concurrencyLimitWebFilterIsConfiguredWhenMaxRequestsIsSet() {
+		this.contextRunner
+				.withUserConfiguration(MockWebServerConfiguration.class,
+						HttpHandlerConfiguration.class)
+				.withPropertyValues("server.concurrency-limit.max-requests=50")
+				.run((context) -> assertThat(context)
+						.hasSingleBean(ConcurrencyLimitWebFilter.class));
+	}
+
+	@Test
+	public void concurrencyLimitWebFilterIsCustomized() {
+		this.contextRunner
+				.withUserConfiguration(MockWebServerConfiguration.class,
+						HttpHandlerConfiguration.class,
+						ConcurrencyLimitWebFilterCustomizerConfiguration.class)
+				.withPropertyValues("server.concurrency-limit.max-requests=50")
+				.run((context) -> Mockito
+						.verify(context.getBean(ConcurrencyLimitWebFilterCustomizer.class))
+						.customize(context.getBean(ConcurrencyLimitWebFilter.class)));
+	}
+
 	@Test
 	public void defaultWebServerIsTomcat() {
 		// Tomcat should be chosen over Netty if the Tomcat library is present.
@@ -127,6 +159,16 @@ public class ReactiveWebServerFactoryAutoConfigurationTests {
 
 	}
 
+	@Configuration
+	protected static class ConcurrencyLimitWebFilterCustomizerConfiguration {
+
+		@Bean
+		public ConcurrencyLimitWebFilterCustomizer concurrencyLimitWebFilterCustomizer() {
+			return Mockito.mock(ConcurrencyLimitWebFilterCustomizer.class);
+		}
+
+	}
+
 	@Configuration
 	public static class MockWebServerConfiguration {
 
@@ -33,6 +33,7 @@ import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.boot.web.servlet.filter.ConcurrencyLimitFilter;
 import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
 import org.springframework.boot.web.servlet.server.ServletWebServerFactory;
 import org.springframework.context.ApplicationContext;
@@ -43,6 +44,7 @@ import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.FrameworkServlet;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -138,6 +140,29 @@ public class ServletWebServerFactoryAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void concurrencyLimitFilterIsNotConfiguredByDefault() {
+		this.contextRunner.run((context) -> assertThat(context)
+				.doesNotHaveBean(ConcurrencyLimitFilter.class));
+	}
+
+	@Test
+	public void concurrencyLimitFilterIsConfiguredWhenMaxRequestsIsSet() {
+		this.contextRunner.withPropertyValues("server.concurrency-limit.max-requests=50")
+				.run((context) -> assertThat(context)
+						.hasSingleBean(ConcurrencyLimitFilter.class));
+	}
+
+	@Test
+	public void concurrencyLimitFilterIsCustomized() {
+		this.contextRunner
+				.withUserConfiguration(ConcurrencyLimitFilterCustomizerConfiguration.class)
+				.withPropertyValues("server.concurrency-limit.max-requests=50")
+				.run((context) -> verify(
+						context.getBean(ConcurrencyLimitFilterCustomizer.class))
+								.customize(context.getBean(ConcurrencyLimitFilter.class)));
+	}
+
 	private ContextConsumer<AssertableWebApplicationContext> verifyContext() {
 		return this::verifyContext;
 	}
@@ -222,6 +247,16 @@ public class ServletWebServerFactoryAutoConfigurationTests {
 
 	}
 
+	@Configuration
+	public static class ConcurrencyLimitFilterCustomizerConfiguration {
+
+		@Bean
+		public ConcurrencyLimitFilterCustomizer concurrencyLimitFilterCustomizer() {
+			return mock(ConcurrencyLimitFilterCustomizer.class);
+		}
+
+	}
+
 	@Component
 	public static class EnsureWebServerHasNoServletContext implements BeanPostProcessor {
 
@@ -62,6 +62,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.Validator;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
@@ -109,6 +110,9 @@ import org.springframework.web.servlet.view.ContentNegotiatingViewResolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * Tests for {@link WebMvcAutoConfiguration}.
@@ -303,6 +307,19 @@ public class WebMvcAutoConfigurationTests {
 				});
 	}
 
+	@Test
+	public void resourceHandlerChainServesCompressedVariant() {
+		this.contextRunner.withPropertyValues(
+				"spring.resources.static-locations:classpath:/compressed-resources/",
+				"spring.resources.chain.enabled:true",
+				"spring.resources.chain.compressed:true")
+				.run((context) -> MockMvcBuilders.webAppContextSetup(context).build()
+						.perform(get("/style.css").header(HttpHeaders.ACCEPT_ENCODING,
+								"gzip"))
+						.andExpect(status().isOk())
+						.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip")));
+	}
+
 	@Test
 	public void noLocaleResolver() {
 		this.contextRunner.run(
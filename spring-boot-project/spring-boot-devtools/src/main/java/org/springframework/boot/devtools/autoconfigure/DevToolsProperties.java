@@ -89,6 +89,14 @@ public class DevToolsProperties {
 		 */
 		private Duration quietPeriod = Duration.ofMillis(400);
 
+		/**
+		 * Whether to use the file system's change notifications to detect the classpath
+		 * folders that have changed, rather than checking every folder on each poll.
+		 * Recommended on platforms with native change notifications, such as Linux and
+		 * Windows.
+		 */
+		private boolean useWatchService = false;
+
 		/**
 		 * Name of a specific file that, when changed, triggers the restart check. If not
 		 * specified, any classpath file change triggers the restart.
@@ -157,6 +165,14 @@ public class DevToolsProperties {
 			this.quietPeriod = quietPeriod;
 		}
 
+		public boolean isUseWatchService() {
+			return this.useWatchService;
+		}
+
+		public void setUseWatchService(boolean useWatchService) {
+			this.useWatchService = useWatchService;
+		}
+
 		public String getTriggerFile() {
 			return this.triggerFile;
 		}
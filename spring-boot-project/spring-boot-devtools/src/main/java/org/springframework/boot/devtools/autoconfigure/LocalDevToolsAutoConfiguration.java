@@ -26,11 +26,13 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.devtools.autoconfigure.DevToolsProperties.Restart;
 import org.springframework.boot.devtools.classpath.ClassPathChangedEvent;
+import org.springframework.boot.devtools.classpath.ClassPathFileDigests;
 import org.springframework.boot.devtools.classpath.ClassPathFileSystemWatcher;
 import org.springframework.boot.devtools.classpath.ClassPathRestartStrategy;
 import org.springframework.boot.devtools.classpath.PatternClassPathRestartStrategy;
 import org.springframework.boot.devtools.filewatch.FileSystemWatcher;
 import org.springframework.boot.devtools.filewatch.FileSystemWatcherFactory;
+import org.springframework.boot.devtools.filewatch.WatchServiceFileSystemWatcherFactory;
 import org.springframework.boot.devtools.livereload.LiveReloadServer;
 import org.springframework.boot.devtools.restart.ConditionalOnInitializedRestarter;
 import org.springframework.boot.devtools.restart.RestartScope;
@@ -122,9 +124,17 @@ public class LocalDevToolsAutoConfiguration {
 			ClassPathFileSystemWatcher watcher = new ClassPathFileSystemWatcher(
 					fileSystemWatcherFactory(), classPathRestartStrategy(), urls);
 			watcher.setStopWatcherOnRestart(true);
+			watcher.setFileDigests(classPathFileDigests());
 			return watcher;
 		}
 
+		@Bean
+		@RestartScope
+		@ConditionalOnMissingBean
+		public ClassPathFileDigests classPathFileDigests() {
+			return new ClassPathFileDigests();
+		}
+
 		@Bean
 		@ConditionalOnMissingBean
 		public ClassPathRestartStrategy classPathRestartStrategy() {
@@ -139,7 +149,15 @@ public class LocalDevToolsAutoConfiguration {
 
 		@Bean
 		public FileSystemWatcherFactory fileSystemWatcherFactory() {
-			return this::newFileSystemWatcher;
+			Restart restartProperties = this.properties.getRestart();
+			FileSystemWatcherFactory factory = restartProperties.isUseWatchService()
+					? new WatchServiceFileSystemWatcherFactory(true,
+							restartProperties.getPollInterval(),
+							restartProperties.getQuietPeriod())
+					: () -> new FileSystemWatcher(true,
+							restartProperties.getPollInterval(),
+							restartProperties.getQuietPeriod());
+			return () -> configureFileSystemWatcher(factory.getFileSystemWatcher());
 		}
 
 		@Bean
@@ -148,11 +166,8 @@ public class LocalDevToolsAutoConfiguration {
 			return new ConditionEvaluationDeltaLoggingListener();
 		}
 
-		private FileSystemWatcher newFileSystemWatcher() {
+		private FileSystemWatcher configureFileSystemWatcher(FileSystemWatcher watcher) {
 			Restart restartProperties = this.properties.getRestart();
-			FileSystemWatcher watcher = new FileSystemWatcher(true,
-					restartProperties.getPollInterval(),
-					restartProperties.getQuietPeriod());
 			String triggerFile = restartProperties.getTriggerFile();
 			if (StringUtils.hasLength(triggerFile)) {
 				watcher.setTriggerFilter(new TriggerFileFilter(triggerFile));
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.devtools.classpath;
 
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.springframework.boot.devtools.filewatch.ChangedFile;
@@ -41,6 +42,8 @@ class ClassPathFileChangeListener implements FileChangeListener {
 
 	private final FileSystemWatcher fileSystemWatcherToStop;
 
+	private final ClassPathFileDigests fileDigests;
+
 	/**
 	 * Create a new {@link ClassPathFileChangeListener} instance.
 	 * @param eventPublisher the event publisher used send events
@@ -51,19 +54,58 @@ class ClassPathFileChangeListener implements FileChangeListener {
 	ClassPathFileChangeListener(ApplicationEventPublisher eventPublisher,
 			ClassPathRestartStrategy restartStrategy,
 			FileSystemWatcher fileSystemWatcherToStop) {
+		this(eventPublisher, restartStrategy, fileSystemWatcherToStop, null);
+	}
+
+	/**
+	 * Create a new {@link ClassPathFileChangeListener} instance.
+	 * @param eventPublisher the event publisher used send events
+	 * @param restartStrategy the restart strategy to use
+	 * @param fileSystemWatcherToStop the file system watcher to stop on a restart (or
+	 * {@code null})
+	 * @param fileDigests the file digests used to ignore changes that leave the content
+	 * of class files unchanged (or {@code null})
+	 */
+	ClassPathFileChangeListener(ApplicationEventPublisher eventPublisher,
+			ClassPathRestartStrategy restartStrategy,
+			FileSystemWatcher fileSystemWatcherToStop, ClassPathFileDigests fileDigests) {
 		Assert.notNull(eventPublisher, "EventPublisher must not be null");
 		Assert.notNull(restartStrategy, "RestartStrategy must not be null");
 		this.eventPublisher = eventPublisher;
 		this.restartStrategy = restartStrategy;
 		this.fileSystemWatcherToStop = fileSystemWatcherToStop;
+		this.fileDigests = fileDigests;
 	}
 
 	@Override
 	public void onChange(Set<ChangedFiles> changeSet) {
+		if (this.fileDigests != null) {
+			changeSet = getContentChanges(changeSet);
+			if (changeSet.isEmpty()) {
+				return;
+			}
+		}
 		boolean restart = isRestartRequired(changeSet);
 		publishEvent(new ClassPathChangedEvent(this, changeSet, restart));
 	}
 
+	private Set<ChangedFiles> getContentChanges(Set<ChangedFiles> changeSet) {
+		Set<ChangedFiles> contentChanges = new LinkedHashSet<>();
+		for (ChangedFiles changedFiles : changeSet) {
+			Set<ChangedFile> files = new LinkedHashSet<>();
+			for (ChangedFile changedFile : changedFiles) {
+				if (this.fileDigests.update(changedFile)) {
+					files.add(changedFile);
+				}
+			}
+			if (!files.isEmpty()) {
+				contentChanges
+						.add(new ChangedFiles(changedFiles.getSourceFolder(), files));
+			}
+		}
+		return contentChanges;
+	}
+
 	private void publishEvent(ClassPathChangedEvent event) {
 		this.eventPublisher.publishEvent(event);
 		if (event.isRestartRequired() && this.fileSystemWatcherToStop != null) {
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.classpath;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.boot.devtools.filewatch.ChangedFile;
+import org.springframework.boot.devtools.filewatch.ChangedFile.Type;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Keeps track of digests of the content of the class files that have changed so that
+ * changes that leave a class file byte-for-byte identical, as happens when unchanged
+ * sources are recompiled, can be ignored. Digests are known for the class files of the
+ * {@link #addFolder(File) added folders}, which are recorded in the background, and for
+ * files that have been reported as changed. The first change to any other file is never
+ * ignored. Instances are typically
+ * {@link org.springframework.boot.devtools.restart.RestartScope restart scoped} so that
+ * digests survive restarts.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class ClassPathFileDigests {
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+
+	private static final Log logger = LogFactory.getLog(ClassPathFileDigests.class);
+
+	private final Map<File, byte[]> digests = new ConcurrentHashMap<>();
+
+	private final Set<File> folders = ConcurrentHashMap.newKeySet();
+
+	private final List<CompletableFuture<Void>> pending = new CopyOnWriteArrayList<>();
+
+	private final Executor executor;
+
+	public ClassPathFileDigests() {
+		this((task) -> {
+			Thread thread = new Thread(task, "File Digests");
+			thread.setDaemon(true);
+			thread.start();
+		});
+	}
+
+	ClassPathFileDigests(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Record the digests of the class files in the given folder, unless it has already
+	 * been added. Digests are computed in the background and those that are already
+	 * known are kept.
+	 * @param folder the folder to add
+	 */
+	public void addFolder(File folder) {
+		if (!folder.isDirectory() || !this.folders.add(folder)) {
+			return;
+		}
+		List<ClassFile> classFiles = findClassFiles(folder);
+		this.pending.add(CompletableFuture
+				.runAsync(() -> recordDigests(classFiles), this.executor));
+	}
+
+	private List<ClassFile> findClassFiles(File folder) {
+		List<ClassFile> classFiles = new ArrayList<>();
+		try {
+			Files.walkFileTree(folder.toPath(), new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult visitFile(Path path,
+						BasicFileAttributes attributes) {
+					File file = path.toFile();
+					if (file.getName().endsWith(CLASS_FILE_SUFFIX)) {
+						classFiles.add(new ClassFile(file));
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+		}
+		catch (IOException ex) {
+			logger.debug("Unable to find class files in " + folder, ex);
+		}
+		return classFiles;
+	}
+
+	private void recordDigests(List<ClassFile> classFiles) {
+		for (ClassFile classFile : classFiles) {
+			byte[] digest = getDigest(classFile.file);
+			// Content written since the folder was added must not become the baseline
+			if (digest != null && classFile.isUnchanged()) {
+				this.digests.putIfAbsent(classFile.file, digest);
+			}
+		}
+	}
+
+	/**
+	 * Update the digest of the given changed file and return whether its content has
+	 * actually changed. Files other than class files are always considered to have
+	 * changed. Waits for the digests of the added folders to have been recorded.
+	 * @param changedFile the changed file
+	 * @return {@code true} if the content of the file has changed or if it is not known
+	 * whether it has changed
+	 */
+	public boolean update(ChangedFile changedFile) {
+		File file = changedFile.getFile();
+		if (!file.getName().endsWith(CLASS_FILE_SUFFIX)) {
+			return true;
+		}
+		awaitRecordedDigests();
+		if (changedFile.getType() == Type.DELETE) {
+			this.digests.remove(file);
+			return true;
+		}
+		byte[] digest = getDigest(file);
+		if (digest == null) {
+			this.digests.remove(file);
+			return true;
+		}
+		byte[] previous = this.digests.put(file, digest);
+		return previous == null || !Arrays.equals(previous, digest);
+	}
+
+	private void awaitRecordedDigests() {
+		for (CompletableFuture<Void> recording : this.pending) {
+			recording.join();
+			this.pending.remove(recording);
+		}
+	}
+
+	private byte[] getDigest(File file) {
+		try (InputStream inputStream = new FileInputStream(file)) {
+			return DigestUtils.md5Digest(inputStream);
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * A class file along with the attributes that it had when its folder was added.
+	 */
+	private static final class ClassFile {
+
+		private final File file;
+
+		private final long lastModified;
+
+		private final long length;
+
+		ClassFile(File file) {
+			this.file = file;
+			this.lastModified = file.lastModified();
+			this.length = file.length();
+		}
+
+		boolean isUnchanged() {
+			return this.file.lastModified() == this.lastModified
+					&& this.file.length() == this.length;
+		}
+
+	}
+
+}
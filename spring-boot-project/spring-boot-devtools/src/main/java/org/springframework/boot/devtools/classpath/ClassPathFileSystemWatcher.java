@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,8 +40,12 @@ public class ClassPathFileSystemWatcher
 
 	private final FileSystemWatcher fileSystemWatcher;
 
+	private final ClassPathFolders folders;
+
 	private ClassPathRestartStrategy restartStrategy;
 
+	private ClassPathFileDigests fileDigests;
+
 	private ApplicationContext applicationContext;
 
 	private boolean stopWatcherOnRestart;
@@ -60,7 +64,8 @@ public class ClassPathFileSystemWatcher
 		Assert.notNull(urls, "Urls must not be null");
 		this.fileSystemWatcher = fileSystemWatcherFactory.getFileSystemWatcher();
 		this.restartStrategy = restartStrategy;
-		this.fileSystemWatcher.addSourceFolders(new ClassPathFolders(urls));
+		this.folders = new ClassPathFolders(urls);
+		this.fileSystemWatcher.addSourceFolders(this.folders);
 	}
 
 	/**
@@ -71,6 +76,16 @@ public class ClassPathFileSystemWatcher
 		this.stopWatcherOnRestart = stopWatcherOnRestart;
 	}
 
+	/**
+	 * Set the {@link ClassPathFileDigests} used to ignore changes that leave the content
+	 * of class files unchanged.
+	 * @param fileDigests the file digests or {@code null}
+	 * @since 2.2.0
+	 */
+	public void setFileDigests(ClassPathFileDigests fileDigests) {
+		this.fileDigests = fileDigests;
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext)
 			throws BeansException {
@@ -79,13 +94,17 @@ public class ClassPathFileSystemWatcher
 
 	@Override
 	public void afterPropertiesSet() throws Exception {
+		if (this.fileDigests != null) {
+			this.folders.forEach(this.fileDigests::addFolder);
+		}
 		if (this.restartStrategy != null) {
 			FileSystemWatcher watcherToStop = null;
 			if (this.stopWatcherOnRestart) {
 				watcherToStop = this.fileSystemWatcher;
 			}
-			this.fileSystemWatcher.addListener(new ClassPathFileChangeListener(
-					this.applicationContext, this.restartStrategy, watcherToStop));
+			this.fileSystemWatcher
+					.addListener(new ClassPathFileChangeListener(this.applicationContext,
+							this.restartStrategy, watcherToStop, this.fileDigests));
 		}
 		this.fileSystemWatcher.start();
 	}
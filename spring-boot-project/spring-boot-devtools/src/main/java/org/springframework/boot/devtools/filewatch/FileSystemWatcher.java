@@ -18,6 +18,7 @@ package org.springframework.boot.devtools.filewatch;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -30,6 +31,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.util.Assert;
 
 /**
@@ -42,6 +46,8 @@ import org.springframework.util.Assert;
  */
 public class FileSystemWatcher {
 
+	private static final Log logger = LogFactory.getLog(FileSystemWatcher.class);
+
 	private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(1000);
 
 	private static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(400);
@@ -54,6 +60,8 @@ public class FileSystemWatcher {
 
 	private final long quietPeriod;
 
+	private final boolean useWatchService;
+
 	private final AtomicInteger remainingScans = new AtomicInteger(-1);
 
 	private final Map<File, FolderSnapshot> folders = new HashMap<>();
@@ -80,6 +88,22 @@ public class FileSystemWatcher {
 	 */
 	public FileSystemWatcher(boolean daemon, Duration pollInterval,
 			Duration quietPeriod) {
+		this(daemon, pollInterval, quietPeriod, false);
+	}
+
+	/**
+	 * Create a new {@link FileSystemWatcher} instance.
+	 * @param daemon if a daemon thread used to monitor changes
+	 * @param pollInterval the amount of time to wait between checking for changes
+	 * @param quietPeriod the amount of time required after a change has been detected to
+	 * ensure that updates have completed
+	 * @param useWatchService if the file system's change notifications should be used to
+	 * detect the folders that have changed, rather than checking every folder on each
+	 * poll
+	 * @see WatchServiceFileSystemWatcherFactory
+	 */
+	FileSystemWatcher(boolean daemon, Duration pollInterval, Duration quietPeriod,
+			boolean useWatchService) {
 		Assert.notNull(pollInterval, "PollInterval must not be null");
 		Assert.notNull(quietPeriod, "QuietPeriod must not be null");
 		Assert.isTrue(pollInterval.toMillis() > 0, "PollInterval must be positive");
@@ -89,6 +113,7 @@ public class FileSystemWatcher {
 		this.daemon = daemon;
 		this.pollInterval = pollInterval.toMillis();
 		this.quietPeriod = quietPeriod.toMillis();
+		this.useWatchService = useWatchService;
 	}
 
 	/**
@@ -159,7 +184,8 @@ public class FileSystemWatcher {
 				localFolders.putAll(this.folders);
 				this.watchThread = new Thread(new Watcher(this.remainingScans,
 						new ArrayList<>(this.listeners), this.triggerFilter,
-						this.pollInterval, this.quietPeriod, localFolders));
+						this.pollInterval, this.quietPeriod, localFolders,
+						createFolderWatchService(localFolders.keySet())));
 				this.watchThread.setName("File Watcher");
 				this.watchThread.setDaemon(this.daemon);
 				this.watchThread.start();
@@ -167,6 +193,20 @@ public class FileSystemWatcher {
 		}
 	}
 
+	private FolderWatchService createFolderWatchService(Collection<File> folders) {
+		if (!this.useWatchService) {
+			return null;
+		}
+		try {
+			return new FolderWatchService(folders);
+		}
+		catch (IOException ex) {
+			logger.warn("Unable to use a WatchService to detect file changes. "
+					+ "Falling back to polling.", ex);
+			return null;
+		}
+	}
+
 	private void saveInitialSnapshots() {
 		for (File folder : this.folders.keySet()) {
 			this.folders.put(folder, new FolderSnapshot(folder));
@@ -220,19 +260,31 @@ public class FileSystemWatcher {
 
 		private Map<File, FolderSnapshot> folders;
 
+		private final FolderWatchService watchService;
+
 		private Watcher(AtomicInteger remainingScans, List<FileChangeListener> listeners,
 				FileFilter triggerFilter, long pollInterval, long quietPeriod,
-				Map<File, FolderSnapshot> folders) {
+				Map<File, FolderSnapshot> folders, FolderWatchService watchService) {
 			this.remainingScans = remainingScans;
 			this.listeners = listeners;
 			this.triggerFilter = triggerFilter;
 			this.pollInterval = pollInterval;
 			this.quietPeriod = quietPeriod;
 			this.folders = folders;
+			this.watchService = watchService;
 		}
 
 		@Override
 		public void run() {
+			try {
+				watch();
+			}
+			finally {
+				closeWatchService();
+			}
+		}
+
+		private void watch() {
 			int remainingScans = this.remainingScans.get();
 			while (remainingScans > 0 || remainingScans == -1) {
 				try {
@@ -248,14 +300,30 @@ public class FileSystemWatcher {
 			}
 		}
 
+		private void closeWatchService() {
+			if (this.watchService != null) {
+				try {
+					this.watchService.close();
+				}
+				catch (IOException ex) {
+					// Ignore
+				}
+			}
+		}
+
 		private void scan() throws InterruptedException {
-			Thread.sleep(this.pollInterval - this.quietPeriod);
+			Set<File> changedFolders = waitForChangedFolders(
+					this.pollInterval - this.quietPeriod);
+			if (changedFolders.isEmpty()) {
+				return;
+			}
 			Map<File, FolderSnapshot> previous;
 			Map<File, FolderSnapshot> current = this.folders;
 			do {
 				previous = current;
-				current = getCurrentSnapshots();
+				current = getCurrentSnapshots(changedFolders);
 				Thread.sleep(this.quietPeriod);
+				changedFolders.addAll(waitForChangedFolders(0));
 			}
 			while (isDifferent(previous, current));
 			if (isDifferent(this.folders, current)) {
@@ -278,10 +346,23 @@ public class FileSystemWatcher {
 			return false;
 		}
 
-		private Map<File, FolderSnapshot> getCurrentSnapshots() {
+		private Set<File> waitForChangedFolders(long timeout)
+				throws InterruptedException {
+			if (this.watchService != null) {
+				return this.watchService.poll(timeout);
+			}
+			if (timeout > 0) {
+				Thread.sleep(timeout);
+			}
+			return new LinkedHashSet<>(this.folders.keySet());
+		}
+
+		private Map<File, FolderSnapshot> getCurrentSnapshots(Set<File> changedFolders) {
 			Map<File, FolderSnapshot> snapshots = new LinkedHashMap<>();
-			for (File folder : this.folders.keySet()) {
-				snapshots.put(folder, new FolderSnapshot(folder));
+			for (Map.Entry<File, FolderSnapshot> entry : this.folders.entrySet()) {
+				File folder = entry.getKey();
+				snapshots.put(folder, changedFolders.contains(folder)
+						? new FolderSnapshot(folder) : entry.getValue());
 			}
 			return snapshots;
 		}
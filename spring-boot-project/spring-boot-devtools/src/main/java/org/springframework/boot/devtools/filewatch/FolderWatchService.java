@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.filewatch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Detects which of a set of source folders contain changes using a {@link WatchService}
+ * rather than by repeatedly taking snapshots. Each source folder is registered
+ * recursively, with sub-folders that are created later being registered as they appear.
+ * Source folders that cannot be registered, for example because they do not exist yet or
+ * because the limit of watched folders of the file system has been reached, are always
+ * reported as changed so that they continue to be checked by taking snapshots.
+ *
+ * @author agent
+ */
+class FolderWatchService implements Closeable {
+
+	private static final Log logger = LogFactory.getLog(FolderWatchService.class);
+
+	private final WatchService watchService;
+
+	private final Map<WatchKey, File> sourceFolders = new HashMap<>();
+
+	private final Set<File> unregisteredFolders = new LinkedHashSet<>();
+
+	private final Set<File> failedFolders = new HashSet<>();
+
+	FolderWatchService(Collection<File> folders) throws IOException {
+		this.watchService = FileSystems.getDefault().newWatchService();
+		for (File folder : folders) {
+			if (!register(folder, folder.toPath())) {
+				this.unregisteredFolders.add(folder);
+			}
+		}
+	}
+
+	private boolean register(File sourceFolder, Path path) {
+		if (!Files.isDirectory(path)) {
+			return false;
+		}
+		try {
+			Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir,
+						BasicFileAttributes attributes) throws IOException {
+					WatchKey key = dir.register(FolderWatchService.this.watchService,
+							StandardWatchEventKinds.ENTRY_CREATE,
+							StandardWatchEventKinds.ENTRY_DELETE,
+							StandardWatchEventKinds.ENTRY_MODIFY);
+					FolderWatchService.this.sourceFolders.put(key, sourceFolder);
+					return FileVisitResult.CONTINUE;
+				}
+
+			});
+			this.failedFolders.remove(sourceFolder);
+			return true;
+		}
+		catch (IOException ex) {
+			if (this.failedFolders.add(sourceFolder)) {
+				logger.warn("Unable to watch '" + path + "' for changes, falling back "
+						+ "to polling '" + sourceFolder + "' (" + ex.getMessage() + ")");
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Wait for up to the given timeout for changes and return the source folders that may
+	 * have changed.
+	 * @param timeout the maximum time to wait, in milliseconds, or {@code 0} to return
+	 * immediately
+	 * @return the source folders that may have changed
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	Set<File> poll(long timeout) throws InterruptedException {
+		Set<File> changed = new LinkedHashSet<>();
+		registerUnregisteredFolders(changed);
+		WatchKey key = (timeout > 0)
+				? this.watchService.poll(timeout, TimeUnit.MILLISECONDS)
+				: this.watchService.poll();
+		while (key != null) {
+			processEvents(key, changed);
+			key = this.watchService.poll();
+		}
+		return changed;
+	}
+
+	private void registerUnregisteredFolders(Set<File> changed) {
+		changed.addAll(this.unregisteredFolders);
+		this.unregisteredFolders.removeIf((folder) -> register(folder, folder.toPath()));
+	}
+
+	private void processEvents(WatchKey key, Set<File> changed) {
+		File sourceFolder = this.sourceFolders.get(key);
+		if (sourceFolder == null) {
+			key.cancel();
+			return;
+		}
+		changed.add(sourceFolder);
+		Path dir = (Path) key.watchable();
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+				Path created = dir.resolve((Path) event.context());
+				if (Files.isDirectory(created) && !register(sourceFolder, created)) {
+					this.unregisteredFolders.add(sourceFolder);
+				}
+			}
+		}
+		if (!key.reset()) {
+			this.sourceFolders.remove(key);
+			if (key.watchable().equals(sourceFolder.toPath())) {
+				this.unregisteredFolders.add(sourceFolder);
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.watchService.close();
+	}
+
+}
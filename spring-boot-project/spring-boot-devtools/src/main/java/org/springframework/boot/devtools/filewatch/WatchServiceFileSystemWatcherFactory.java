@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.filewatch;
+
+import java.nio.file.WatchService;
+import java.time.Duration;
+
+/**
+ * {@link FileSystemWatcherFactory} that creates {@link FileSystemWatcher} instances that
+ * use the file system's change notifications, through a {@link WatchService}, to detect
+ * the folders that have changed rather than checking every folder on each poll. Folders
+ * that cannot be watched are still checked on each poll.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class WatchServiceFileSystemWatcherFactory implements FileSystemWatcherFactory {
+
+	private final boolean daemon;
+
+	private final Duration pollInterval;
+
+	private final Duration quietPeriod;
+
+	/**
+	 * Create a new {@link WatchServiceFileSystemWatcherFactory} instance.
+	 * @param daemon if a daemon thread used to monitor changes
+	 * @param pollInterval the amount of time to wait between checking for changes
+	 * @param quietPeriod the amount of time required after a change has been detected to
+	 * ensure that updates have completed
+	 */
+	public WatchServiceFileSystemWatcherFactory(boolean daemon, Duration pollInterval,
+			Duration quietPeriod) {
+		this.daemon = daemon;
+		this.pollInterval = pollInterval;
+		this.quietPeriod = quietPeriod;
+	}
+
+	@Override
+	public FileSystemWatcher getFileSystemWatcher() {
+		return new FileSystemWatcher(this.daemon, this.pollInterval, this.quietPeriod,
+				true);
+	}
+
+}
@@ -27,6 +27,7 @@ import java.net.URL;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -49,7 +50,10 @@ import org.springframework.util.Assert;
 import org.springframework.util.FileCopyUtils;
 
 /**
- * Listens and pushes any classpath updates to a remote endpoint.
+ * Listens and pushes any classpath updates to a remote endpoint. Updates are compressed
+ * once the remote endpoint has advertised that it accepts compressed uploads using an
+ * {@code Accept-Encoding} response header, so older servers continue to receive
+ * uncompressed updates.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -71,10 +75,14 @@ public class ClassPathChangeUploader
 
 	private static final Log logger = LogFactory.getLog(ClassPathChangeUploader.class);
 
+	private static final String GZIP = "gzip";
+
 	private final URI uri;
 
 	private final ClientHttpRequestFactory requestFactory;
 
+	private volatile boolean compressionAccepted;
+
 	public ClassPathChangeUploader(String url, ClientHttpRequestFactory requestFactory) {
 		Assert.hasLength(url, "URL must not be empty");
 		Assert.notNull(requestFactory, "RequestFactory must not be null");
@@ -102,16 +110,28 @@ public class ClassPathChangeUploader
 	private void performUpload(ClassLoaderFiles classLoaderFiles, byte[] bytes)
 			throws IOException {
 		try {
+			boolean compressionRejected = false;
 			while (true) {
 				try {
+					boolean compress = this.compressionAccepted && !compressionRejected;
+					byte[] body = compress ? compress(bytes) : bytes;
 					ClientHttpRequest request = this.requestFactory
 							.createRequest(this.uri, HttpMethod.POST);
 					HttpHeaders headers = request.getHeaders();
 					headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-					headers.setContentLength(bytes.length);
-					FileCopyUtils.copy(bytes, request.getBody());
+					if (compress) {
+						headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+					}
+					headers.setContentLength(body.length);
+					FileCopyUtils.copy(body, request.getBody());
 					ClientHttpResponse response = request.execute();
 					HttpStatus statusCode = response.getStatusCode();
+					this.compressionAccepted = isCompressionAccepted(response);
+					if (compress && statusCode == HttpStatus.UNSUPPORTED_MEDIA_TYPE) {
+						// Retry once without compression, whatever the server advertises
+						compressionRejected = true;
+						continue;
+					}
 					Assert.state(statusCode == HttpStatus.OK, () -> "Unexpected "
 							+ statusCode + " response uploading class files");
 					logUpload(classLoaderFiles);
@@ -130,6 +150,16 @@ public class ClassPathChangeUploader
 		}
 	}
 
+	private boolean isCompressionAccepted(ClientHttpResponse response) {
+		for (String acceptEncoding : response.getHeaders()
+				.getValuesAsList(HttpHeaders.ACCEPT_ENCODING)) {
+			if (GZIP.equalsIgnoreCase(acceptEncoding)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private void logUpload(ClassLoaderFiles classLoaderFiles) {
 		int size = classLoaderFiles.size();
 		logger.info("Uploaded " + size + " class "
@@ -144,6 +174,14 @@ public class ClassPathChangeUploader
 		return outputStream.toByteArray();
 	}
 
+	private byte[] compress(byte[] bytes) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(bytes);
+		}
+		return outputStream.toByteArray();
+	}
+
 	private ClassLoaderFiles getClassLoaderFiles(ClassPathChangedEvent event)
 			throws IOException {
 		ClassLoaderFiles files = new ClassLoaderFiles();
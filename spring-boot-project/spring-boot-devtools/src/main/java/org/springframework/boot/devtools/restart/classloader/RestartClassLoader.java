@@ -41,6 +41,10 @@ import org.springframework.util.Assert;
  */
 public class RestartClassLoader extends URLClassLoader implements SmartClassLoader {
 
+	static {
+		ClassLoader.registerAsParallelCapable();
+	}
+
 	private final Log logger;
 
 	private final ClassLoaderFileRepository updatedFiles;
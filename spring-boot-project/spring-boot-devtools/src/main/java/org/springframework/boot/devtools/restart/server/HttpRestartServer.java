@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2017 the original author or authors.
+ * Copyright 2012-2018 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,15 @@
 package org.springframework.boot.devtools.restart.server;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
@@ -30,7 +33,8 @@ import org.springframework.util.Assert;
 
 /**
  * A HTTP server that can be used to upload updated {@link ClassLoaderFiles} and trigger
- * restarts.
+ * restarts. Uploads may be gzip compressed, which is advertised to clients using an
+ * {@code Accept-Encoding} response header.
  *
  * @author Phillip Webb
  * @since 1.3.0
@@ -40,6 +44,8 @@ public class HttpRestartServer {
 
 	private static final Log logger = LogFactory.getLog(HttpRestartServer.class);
 
+	private static final String GZIP = "gzip";
+
 	private final RestartServer server;
 
 	/**
@@ -69,19 +75,38 @@ public class HttpRestartServer {
 	 */
 	public void handle(ServerHttpRequest request, ServerHttpResponse response)
 			throws IOException {
+		response.setStatusCode(updateAndRestart(request));
+		response.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+		response.close();
+	}
+
+	private HttpStatus updateAndRestart(ServerHttpRequest request) {
+		String contentEncoding = request.getHeaders()
+				.getFirst(HttpHeaders.CONTENT_ENCODING);
+		if (contentEncoding != null && !GZIP.equalsIgnoreCase(contentEncoding)) {
+			return HttpStatus.UNSUPPORTED_MEDIA_TYPE;
+		}
 		try {
 			Assert.state(request.getHeaders().getContentLength() > 0, "No content");
-			ObjectInputStream objectInputStream = new ObjectInputStream(
-					request.getBody());
+			ObjectInputStream objectInputStream = new ObjectInputStream(getBody(request));
 			ClassLoaderFiles files = (ClassLoaderFiles) objectInputStream.readObject();
 			objectInputStream.close();
 			this.server.updateAndRestart(files);
-			response.setStatusCode(HttpStatus.OK);
+			return HttpStatus.OK;
 		}
 		catch (Exception ex) {
 			logger.warn("Unable to handler restart server HTTP request", ex);
-			response.setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+			return HttpStatus.INTERNAL_SERVER_ERROR;
+		}
+	}
+
+	private InputStream getBody(ServerHttpRequest request) throws IOException {
+		String contentEncoding = request.getHeaders()
+				.getFirst(HttpHeaders.CONTENT_ENCODING);
+		if (GZIP.equalsIgnoreCase(contentEncoding)) {
+			return new GZIPInputStream(request.getBody());
 		}
+		return request.getBody();
 	}
 
 }
@@ -217,6 +217,22 @@ public class LocalDevToolsAutoConfigurationTests {
 		assertThat(filter).isInstanceOf(TriggerFileFilter.class);
 	}
 
+	@Test
+	public void restartWithWatchService() {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("spring.devtools.restart.use-watch-service", true);
+		properties.put("spring.devtools.restart.trigger-file", "somefile.txt");
+		this.context = initializeAndRun(Config.class, properties);
+		ClassPathFileSystemWatcher classPathWatcher = this.context
+				.getBean(ClassPathFileSystemWatcher.class);
+		Object watcher = ReflectionTestUtils.getField(classPathWatcher,
+				"fileSystemWatcher");
+		assertThat(ReflectionTestUtils.getField(watcher, "useWatchService"))
+				.isEqualTo(true);
+		assertThat(ReflectionTestUtils.getField(watcher, "triggerFilter"))
+				.isInstanceOf(TriggerFileFilter.class);
+	}
+
 	@Test
 	public void watchingAdditionalPaths() {
 		Map<String, Object> properties = new HashMap<>();
@@ -17,12 +17,15 @@
 package org.springframework.boot.devtools.classpath;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -33,11 +36,13 @@ import org.springframework.boot.devtools.filewatch.ChangedFiles;
 import org.springframework.boot.devtools.filewatch.FileSystemWatcher;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -47,6 +52,9 @@ import static org.mockito.Mockito.verify;
  */
 public class ClassPathFileChangeListenerTests {
 
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
@@ -92,6 +100,51 @@ public class ClassPathFileChangeListenerTests {
 		verify(this.fileSystemWatcher).stop();
 	}
 
+	@Test
+	public void doesNotSendEventWhenClassFileContentIsUnchanged() throws IOException {
+		ClassPathFileChangeListener listener = new ClassPathFileChangeListener(
+				this.eventPublisher, this.restartStrategy, this.fileSystemWatcher,
+				new ClassPathFileDigests());
+		File folder = this.temp.newFolder();
+		File file = new File(folder, "Example.class");
+		FileCopyUtils.copy("one".getBytes(), file);
+		Set<ChangedFiles> changeSet = createModifiedChangeSet(folder, file);
+		listener.onChange(changeSet);
+		listener.onChange(changeSet);
+		verify(this.eventPublisher, times(1)).publishEvent(this.eventCaptor.capture());
+		FileCopyUtils.copy("two".getBytes(), file);
+		listener.onChange(changeSet);
+		verify(this.eventPublisher, times(2)).publishEvent(this.eventCaptor.capture());
+		assertThat(((ClassPathChangedEvent) this.eventCaptor.getValue()).getChangeSet())
+				.isEqualTo(changeSet);
+	}
+
+	@Test
+	public void sendsEventWithOnlyChangedClassFiles() throws IOException {
+		ClassPathFileChangeListener listener = new ClassPathFileChangeListener(
+				this.eventPublisher, this.restartStrategy, this.fileSystemWatcher,
+				new ClassPathFileDigests());
+		File folder = this.temp.newFolder();
+		File unchanged = new File(folder, "Unchanged.class");
+		File changed = new File(folder, "Changed.class");
+		FileCopyUtils.copy("one".getBytes(), unchanged);
+		FileCopyUtils.copy("one".getBytes(), changed);
+		listener.onChange(createModifiedChangeSet(folder, unchanged, changed));
+		FileCopyUtils.copy("two".getBytes(), changed);
+		listener.onChange(createModifiedChangeSet(folder, unchanged, changed));
+		verify(this.eventPublisher, times(2)).publishEvent(this.eventCaptor.capture());
+		assertThat(((ClassPathChangedEvent) this.eventCaptor.getValue()).getChangeSet())
+				.isEqualTo(createModifiedChangeSet(folder, changed));
+	}
+
+	private Set<ChangedFiles> createModifiedChangeSet(File folder, File... files) {
+		Set<ChangedFile> changedFiles = new LinkedHashSet<>();
+		for (File file : files) {
+			changedFiles.add(new ChangedFile(folder, file, ChangedFile.Type.MODIFY));
+		}
+		return Collections.singleton(new ChangedFiles(folder, changedFiles));
+	}
+
 	private void testSendsEvent(boolean restart) {
 		ClassPathFileChangeListener listener = new ClassPathFileChangeListener(
 				this.eventPublisher, this.restartStrategy, this.fileSystemWatcher);
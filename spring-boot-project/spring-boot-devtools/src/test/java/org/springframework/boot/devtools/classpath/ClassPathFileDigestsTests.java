@@ -0,0 +1,147 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.classpath;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.boot.devtools.filewatch.ChangedFile;
+import org.springframework.boot.devtools.filewatch.ChangedFile.Type;
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ClassPathFileDigests}.
+ *
+ * @author agent
+ */
+public class ClassPathFileDigestsTests {
+
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
+	private final ClassPathFileDigests digests = new ClassPathFileDigests(Runnable::run);
+
+	private File folder;
+
+	@Before
+	public void setup() throws IOException {
+		this.folder = this.temp.newFolder();
+	}
+
+	@Test
+	public void firstChangeIsAlwaysAChange() throws IOException {
+		File file = write("Example.class", "one");
+		assertThat(this.digests.update(change(file, Type.MODIFY))).isTrue();
+	}
+
+	@Test
+	public void identicalContentIsNotAChange() throws IOException {
+		File file = write("Example.class", "one");
+		this.digests.update(change(file, Type.ADD));
+		write("Example.class", "one");
+		assertThat(this.digests.update(change(file, Type.MODIFY))).isFalse();
+	}
+
+	@Test
+	public void identicalContentOfFileInAddedFolderIsNotAChange() throws IOException {
+		File file = write("Example.class", "one");
+		this.digests.addFolder(this.folder);
+		write("Example.class", "one");
+		assertThat(this.digests.update(change(file, Type.MODIFY))).isFalse();
+	}
+
+	@Test
+	public void differentContentOfFileInAddedFolderIsAChange() throws IOException {
+		File file = write("Example.class", "one");
+		this.digests.addFolder(this.folder);
+		write("Example.class", "two");
+		assertThat(this.digests.update(change(file, Type.MODIFY))).isTrue();
+	}
+
+	@Test
+	public void digestsOfAddedFolderAreRecordedInTheBackground() throws IOException {
+		ClassPathFileDigests digests = new ClassPathFileDigests();
+		File file = write("Example.class", "one");
+		digests.addFolder(this.folder);
+		assertThat(digests.update(change(file, Type.MODIFY))).isFalse();
+	}
+
+	@Test
+	public void contentWrittenAfterFolderIsAddedIsNotRecorded() throws IOException {
+		List<Runnable> tasks = new ArrayList<>();
+		ClassPathFileDigests digests = new ClassPathFileDigests(tasks::add);
+		File file = write("Example.class", "one");
+		digests.addFolder(this.folder);
+		write("Example.class", "three");
+		tasks.forEach(Runnable::run);
+		assertThat(digests.update(change(file, Type.MODIFY))).isTrue();
+	}
+
+	@Test
+	public void addingFolderKeepsKnownDigests() throws IOException {
+		File file = write("Example.class", "one");
+		this.digests.update(change(file, Type.ADD));
+		write("Example.class", "two");
+		this.digests.addFolder(this.folder);
+		assertThat(this.digests.update(change(file, Type.MODIFY))).isTrue();
+	}
+
+	@Test
+	public void differentContentIsAChange() throws IOException {
+		File file = write("Example.class", "one");
+		this.digests.update(change(file, Type.ADD));
+		write("Example.class", "two");
+		assertThat(this.digests.update(change(file, Type.MODIFY))).isTrue();
+	}
+
+	@Test
+	public void deleteIsAChangeAndForgetsDigest() throws IOException {
+		File file = write("Example.class", "one");
+		this.digests.update(change(file, Type.ADD));
+		file.delete();
+		assertThat(this.digests.update(change(file, Type.DELETE))).isTrue();
+		write("Example.class", "one");
+		assertThat(this.digests.update(change(file, Type.ADD))).isTrue();
+	}
+
+	@Test
+	public void nonClassFileIsAlwaysAChange() throws IOException {
+		File file = write("application.properties", "one");
+		this.digests.update(change(file, Type.ADD));
+		assertThat(this.digests.update(change(file, Type.MODIFY))).isTrue();
+	}
+
+	private File write(String name, String content) throws IOException {
+		File file = new File(this.folder, name);
+		FileCopyUtils.copy(content.getBytes(), file);
+		return file;
+	}
+
+	private ChangedFile change(File file, Type type) {
+		return new ChangedFile(this.folder, file, type);
+	}
+
+}
@@ -28,6 +28,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import org.springframework.boot.devtools.filewatch.ChangedFile;
+import org.springframework.boot.devtools.filewatch.ChangedFile.Type;
 import org.springframework.boot.devtools.filewatch.FileSystemWatcher;
 import org.springframework.boot.devtools.filewatch.FileSystemWatcherFactory;
 import org.springframework.context.ApplicationListener;
@@ -91,6 +93,22 @@ public class ClassPathFileSystemWatcherTests {
 		context.close();
 	}
 
+	@Test
+	public void fileDigestsAreRecordedForClassPathFoldersOnStartup() throws Exception {
+		File folder = this.temp.newFolder();
+		File classFile = new File(folder, "Example.class");
+		FileCopyUtils.copy("file".getBytes(), classFile);
+		ClassPathFileDigests fileDigests = new ClassPathFileDigests(Runnable::run);
+		ClassPathFileSystemWatcher watcher = new ClassPathFileSystemWatcher(
+				new MockFileSystemWatcherFactory(mock(FileSystemWatcher.class)), null,
+				new URL[] { folder.toURI().toURL() });
+		watcher.setFileDigests(fileDigests);
+		watcher.afterPropertiesSet();
+		FileCopyUtils.copy("file".getBytes(), classFile);
+		assertThat(fileDigests.update(new ChangedFile(folder, classFile, Type.MODIFY)))
+				.isFalse();
+	}
+
 	@Configuration
 	public static class Config {
 
@@ -277,9 +277,67 @@ public class FileSystemWatcherTests {
 		assertThat(actual).isEqualTo(expected);
 	}
 
+	@Test
+	public void addFileWithWatchService() throws Exception {
+		setupWatcher(20, 10, true);
+		File folder = startWithNewFolder();
+		File file = touch(new File(folder, "test.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		ChangedFile expected = new ChangedFile(folder, file, Type.ADD);
+		assertThat(changedFiles.getFiles()).contains(expected);
+	}
+
+	@Test
+	public void addFileToNewNestedFolderWithWatchService() throws Exception {
+		setupWatcher(20, 10, true);
+		File folder = startWithNewFolder();
+		File file = touch(new File(new File(folder, "sub"), "text.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		ChangedFile expected = new ChangedFile(folder, file, Type.ADD);
+		assertThat(changedFiles.getFiles()).contains(expected);
+	}
+
+	@Test
+	public void createSourceFolderAndAddFileWithWatchService() throws IOException {
+		setupWatcher(20, 10, true);
+		File folder = new File(this.temp.getRoot(), "does/not/exist");
+		this.watcher.addSourceFolder(folder);
+		this.watcher.start();
+		folder.mkdirs();
+		File file = touch(new File(folder, "text.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		ChangedFile expected = new ChangedFile(folder, file, Type.ADD);
+		assertThat(changedFiles.getFiles()).contains(expected);
+	}
+
+	@Test
+	public void onlyChangedSourceIsReportedWithWatchService() throws Exception {
+		setupWatcher(20, 10, true);
+		File folder1 = this.temp.newFolder();
+		File folder2 = this.temp.newFolder();
+		touch(new File(folder2, "existing.txt"));
+		this.watcher.addSourceFolder(folder1);
+		this.watcher.addSourceFolder(folder2);
+		this.watcher.start();
+		File file = touch(new File(folder1, "test.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		assertThat(changedFiles.getSourceFolder()).isEqualTo(folder1);
+		assertThat(changedFiles.getFiles())
+				.containsOnly(new ChangedFile(folder1, file, Type.ADD));
+	}
+
 	private void setupWatcher(long pollingInterval, long quietPeriod) {
+		setupWatcher(pollingInterval, quietPeriod, false);
+	}
+
+	private void setupWatcher(long pollingInterval, long quietPeriod,
+			boolean useWatchService) {
 		this.watcher = new FileSystemWatcher(false, Duration.ofMillis(pollingInterval),
-				Duration.ofMillis(quietPeriod));
+				Duration.ofMillis(quietPeriod), useWatchService);
 		this.watcher.addListener(
 				(changeSet) -> FileSystemWatcherTests.this.changes.add(changeSet));
 	}
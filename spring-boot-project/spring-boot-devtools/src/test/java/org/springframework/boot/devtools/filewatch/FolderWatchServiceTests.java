@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.filewatch;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FolderWatchService}.
+ *
+ * @author agent
+ */
+public class FolderWatchServiceTests {
+
+	@Rule
+	public TemporaryFolder temp = new TemporaryFolder();
+
+	private FolderWatchService watchService;
+
+	@After
+	public void close() throws IOException {
+		if (this.watchService != null) {
+			this.watchService.close();
+		}
+	}
+
+	@Test
+	public void unchangedFoldersAreNotReported() throws Exception {
+		File folder1 = this.temp.newFolder();
+		File folder2 = this.temp.newFolder();
+		touch(new File(folder1, "existing.txt"));
+		this.watchService = new FolderWatchService(Arrays.asList(folder1, folder2));
+		assertThat(this.watchService.poll(0)).isEmpty();
+		assertThat(this.watchService.poll(50)).isEmpty();
+	}
+
+	@Test
+	public void onlyChangedFolderIsReported() throws Exception {
+		File folder1 = this.temp.newFolder();
+		File folder2 = this.temp.newFolder();
+		this.watchService = new FolderWatchService(Arrays.asList(folder1, folder2));
+		touch(new File(folder2, "test.txt"));
+		assertThat(this.watchService.poll(5000)).containsExactly(folder2);
+		assertThat(this.watchService.poll(50)).isEmpty();
+	}
+
+	@Test
+	public void changeInNestedFolderCreatedLaterIsReported() throws Exception {
+		File folder = this.temp.newFolder();
+		this.watchService = new FolderWatchService(Arrays.asList(folder));
+		File nested = new File(folder, "sub");
+		nested.mkdirs();
+		assertThat(this.watchService.poll(5000)).containsExactly(folder);
+		touch(new File(nested, "test.txt"));
+		assertThat(this.watchService.poll(5000)).containsExactly(folder);
+	}
+
+	@Test
+	public void folderThatDoesNotExistIsReportedUntilItCanBeWatched() throws Exception {
+		File folder = new File(this.temp.getRoot(), "does/not/exist");
+		this.watchService = new FolderWatchService(Arrays.asList(folder));
+		assertThat(this.watchService.poll(0)).containsExactly(folder);
+		folder.mkdirs();
+		assertThat(this.watchService.poll(0)).containsExactly(folder);
+		assertThat(this.watchService.poll(50)).isEmpty();
+	}
+
+	private File touch(File file) throws IOException {
+		file.getParentFile().mkdirs();
+		FileOutputStream fileOutputStream = new FileOutputStream(file);
+		fileOutputStream.close();
+		return file;
+	}
+
+}
@@ -19,12 +19,14 @@ package org.springframework.boot.devtools.remote.client;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.net.ConnectException;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -42,10 +44,12 @@ import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles.So
 import org.springframework.boot.devtools.test.MockClientHttpRequestFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link ClassPathChangeUploader}.
@@ -107,7 +111,56 @@ public class ClassPathChangeUploaderTests {
 		this.uploader.onApplicationEvent(event);
 		assertThat(this.requestFactory.getExecutedRequests()).hasSize(1);
 		MockClientHttpRequest request = this.requestFactory.getExecutedRequests().get(0);
-		verifyUploadRequest(sourceFolder, request);
+		verifyUploadRequest(sourceFolder, request, false);
+	}
+
+	@Test
+	public void compressesClassLoaderFilesOnceServerAcceptsCompression()
+			throws Exception {
+		File sourceFolder = this.temp.newFolder();
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceFolder);
+		this.requestFactory.willRespond(acceptingCompression(HttpStatus.OK));
+		this.requestFactory.willRespond(HttpStatus.OK);
+		this.uploader.onApplicationEvent(event);
+		this.uploader.onApplicationEvent(event);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(2);
+		verifyUploadRequest(sourceFolder,
+				this.requestFactory.getExecutedRequests().get(0), false);
+		verifyUploadRequest(sourceFolder,
+				this.requestFactory.getExecutedRequests().get(1), true);
+	}
+
+	@Test
+	public void retriesWithoutCompressionWhenCompressionIsRejected() throws Exception {
+		File sourceFolder = this.temp.newFolder();
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceFolder);
+		this.requestFactory.willRespond(acceptingCompression(HttpStatus.OK));
+		this.requestFactory.willRespond(HttpStatus.UNSUPPORTED_MEDIA_TYPE, HttpStatus.OK);
+		this.uploader.onApplicationEvent(event);
+		this.uploader.onApplicationEvent(event);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(3);
+		verifyUploadRequest(sourceFolder,
+				this.requestFactory.getExecutedRequests().get(1), true);
+		verifyUploadRequest(sourceFolder,
+				this.requestFactory.getExecutedRequests().get(2), false);
+	}
+
+	@Test
+	public void retriesWithoutCompressionOnlyOnce() throws Exception {
+		File sourceFolder = this.temp.newFolder();
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceFolder);
+		this.requestFactory.willRespond(acceptingCompression(HttpStatus.OK));
+		this.requestFactory.willRespond(
+				acceptingCompression(HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+				acceptingCompression(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+		this.uploader.onApplicationEvent(event);
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.uploader.onApplicationEvent(event));
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(3);
+		verifyUploadRequest(sourceFolder,
+				this.requestFactory.getExecutedRequests().get(1), true);
+		verifyUploadRequest(sourceFolder,
+				this.requestFactory.getExecutedRequests().get(2), false);
 	}
 
 	@Test
@@ -119,12 +172,21 @@ public class ClassPathChangeUploaderTests {
 		this.uploader.onApplicationEvent(event);
 		assertThat(this.requestFactory.getExecutedRequests()).hasSize(2);
 		verifyUploadRequest(sourceFolder,
-				this.requestFactory.getExecutedRequests().get(1));
+				this.requestFactory.getExecutedRequests().get(1), false);
 	}
 
-	private void verifyUploadRequest(File sourceFolder, MockClientHttpRequest request)
-			throws IOException, ClassNotFoundException {
-		ClassLoaderFiles classLoaderFiles = deserialize(request.getBodyAsBytes());
+	private MockClientHttpResponse acceptingCompression(HttpStatus status) {
+		MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], status);
+		response.getHeaders().set("Accept-Encoding", "gzip");
+		return response;
+	}
+
+	private void verifyUploadRequest(File sourceFolder, MockClientHttpRequest request,
+			boolean compressed) throws IOException, ClassNotFoundException {
+		assertThat(request.getHeaders().getFirst("Content-Encoding"))
+				.isEqualTo(compressed ? "gzip" : null);
+		ClassLoaderFiles classLoaderFiles = deserialize(request.getBodyAsBytes(),
+				compressed);
 		Collection<SourceFolder> sourceFolders = classLoaderFiles.getSourceFolders();
 		assertThat(sourceFolders.size()).isEqualTo(1);
 		SourceFolder classSourceFolder = sourceFolders.iterator().next();
@@ -163,10 +225,11 @@ public class ClassPathChangeUploaderTests {
 		return file;
 	}
 
-	private ClassLoaderFiles deserialize(byte[] bytes)
+	private ClassLoaderFiles deserialize(byte[] bytes, boolean compressed)
 			throws IOException, ClassNotFoundException {
+		InputStream inputStream = new ByteArrayInputStream(bytes);
 		ObjectInputStream objectInputStream = new ObjectInputStream(
-				new ByteArrayInputStream(bytes));
+				compressed ? new GZIPInputStream(inputStream) : inputStream);
 		return (ClassLoaderFiles) objectInputStream.readObject();
 	}
 
@@ -26,6 +26,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 
@@ -35,6 +40,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StreamUtils;
 
@@ -205,6 +211,51 @@ public class RestartClassLoaderTests {
 		assertThat(loaded.getClassLoader()).isEqualTo(this.reloadClassLoader);
 	}
 
+	@Test
+	public void loadClassesInParallel() throws Exception {
+		String name = PACKAGE_PATH + "/SampleParent.class";
+		byte[] bytes = FileCopyUtils
+				.copyToByteArray(getClass().getResourceAsStream("SampleParent.class"));
+		this.updatedFiles.addFile(name, new ClassLoaderFile(Kind.ADDED, bytes));
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CountDownLatch latch = new CountDownLatch(1);
+			Future<Class<?>> sample = executor
+					.submit(() -> loadClassAfter(latch, PACKAGE + ".Sample"));
+			Future<Class<?>> sampleParent = executor
+					.submit(() -> loadClassAfter(latch, PACKAGE + ".SampleParent"));
+			latch.countDown();
+			assertThat(sample.get(10, TimeUnit.SECONDS).getClassLoader())
+					.isEqualTo(this.reloadClassLoader);
+			assertThat(sampleParent.get(10, TimeUnit.SECONDS).getClassLoader())
+					.isEqualTo(this.reloadClassLoader);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void classLoadingLockIsPerClass() {
+		Object sampleLock = getClassLoadingLock(PACKAGE + ".Sample");
+		Object sampleParentLock = getClassLoadingLock(PACKAGE + ".SampleParent");
+		assertThat(sampleLock).isNotSameAs(this.reloadClassLoader)
+				.isNotSameAs(sampleParentLock)
+				.isSameAs(getClassLoadingLock(PACKAGE + ".Sample"));
+		assertThat(sampleParentLock).isNotSameAs(this.reloadClassLoader);
+	}
+
+	private Class<?> loadClassAfter(CountDownLatch latch, String name) throws Exception {
+		latch.await();
+		return this.reloadClassLoader.loadClass(name);
+	}
+
+	private Object getClassLoadingLock(String name) {
+		// ClassLoader.getClassLoadingLock is protected and is not overridden
+		return ReflectionTestUtils.invokeMethod(this.reloadClassLoader,
+				"getClassLoadingLock", name);
+	}
+
 	private String readString(InputStream in) throws IOException {
 		return new String(FileCopyUtils.copyToByteArray(in));
 	}
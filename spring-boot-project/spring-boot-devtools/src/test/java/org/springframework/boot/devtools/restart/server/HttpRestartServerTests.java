@@ -19,6 +19,8 @@ package org.springframework.boot.devtools.restart.server;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -90,6 +92,45 @@ public class HttpRestartServerTests {
 		assertThat(response.getStatus()).isEqualTo(200);
 	}
 
+	@Test
+	public void sendCompressedClassLoaderFiles() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		files.addFile("name", new ClassLoaderFile(Kind.ADDED, new byte[0]));
+		byte[] bytes = serialize(files, true);
+		request.addHeader("Content-Encoding", "gzip");
+		request.setContent(bytes);
+		this.server.handle(new ServletServerHttpRequest(request),
+				new ServletServerHttpResponse(response));
+		verify(this.delegate).updateAndRestart(this.filesCaptor.capture());
+		assertThat(this.filesCaptor.getValue().getFile("name")).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	public void advertisesCompression() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.setContent(serialize(new ClassLoaderFiles()));
+		this.server.handle(new ServletServerHttpRequest(request),
+				new ServletServerHttpResponse(response));
+		assertThat(response.getHeader("Accept-Encoding")).isEqualTo("gzip");
+	}
+
+	@Test
+	public void sendUnsupportedContentEncoding() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.addHeader("Content-Encoding", "br");
+		request.setContent(serialize(new ClassLoaderFiles()));
+		this.server.handle(new ServletServerHttpRequest(request),
+				new ServletServerHttpResponse(response));
+		verifyZeroInteractions(this.delegate);
+		assertThat(response.getStatus()).isEqualTo(415);
+		assertThat(response.getHeader("Accept-Encoding")).isEqualTo("gzip");
+	}
+
 	@Test
 	public void sendNoContent() throws Exception {
 		MockHttpServletRequest request = new MockHttpServletRequest();
@@ -113,8 +154,13 @@ public class HttpRestartServerTests {
 	}
 
 	private byte[] serialize(Object object) throws IOException {
+		return serialize(object, false);
+	}
+
+	private byte[] serialize(Object object, boolean compress) throws IOException {
 		ByteArrayOutputStream bos = new ByteArrayOutputStream();
-		ObjectOutputStream oos = new ObjectOutputStream(bos);
+		OutputStream outputStream = compress ? new GZIPOutputStream(bos) : bos;
+		ObjectOutputStream oos = new ObjectOutputStream(outputStream);
 		oos.writeObject(object);
 		oos.close();
 		return bos.toByteArray();
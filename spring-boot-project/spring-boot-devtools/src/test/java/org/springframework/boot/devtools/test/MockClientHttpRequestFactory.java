@@ -73,6 +73,12 @@ public class MockClientHttpRequestFactory implements ClientHttpRequestFactory {
 		}
 	}
 
+	public void willRespond(ClientHttpResponse... response) {
+		for (ClientHttpResponse httpResponse : response) {
+			this.responses.add(httpResponse);
+		}
+	}
+
 	public void willRespondAfterDelay(int delay, HttpStatus status) {
 		this.responses.add(new Response(delay, null, status));
 	}
@@ -94,6 +100,9 @@ public class MockClientHttpRequestFactory implements ClientHttpRequestFactory {
 			if (response instanceof IOException) {
 				throw (IOException) response;
 			}
+			if (response instanceof ClientHttpResponse) {
+				return (ClientHttpResponse) response;
+			}
 			if (response == null) {
 				response = new Response(0, null, HttpStatus.GONE);
 			}
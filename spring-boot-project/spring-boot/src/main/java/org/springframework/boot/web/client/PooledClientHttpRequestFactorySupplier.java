@@ -0,0 +1,180 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * A supplier for {@link ClientHttpRequestFactory} that configures the connection pool of
+ * Apache HttpClient, when available. Unless configured otherwise, Apache HttpClient only
+ * allows a small number of concurrent connections to each route. When Apache HttpClient
+ * is not available, the request factory is detected as described in
+ * {@link ClientHttpRequestFactorySupplier} and the pool settings are ignored.
+ * <p>
+ * The pooled Apache HttpClient is created the first time that a request factory is
+ * requested and is then shared by every request factory that the supplier returns. It
+ * should be {@link #close() closed} once it is no longer needed to release its pooled
+ * connections and the thread that evicts idle connections.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class PooledClientHttpRequestFactorySupplier
+		implements Supplier<ClientHttpRequestFactory>, Closeable {
+
+	private static final boolean HTTP_CLIENT_PRESENT = ClassUtils.isPresent(
+			"org.apache.http.client.HttpClient",
+			PooledClientHttpRequestFactorySupplier.class.getClassLoader());
+
+	private final int maxConnections;
+
+	private final int maxConnectionsPerRoute;
+
+	private final Duration maxIdleTime;
+
+	private final Object monitor = new Object();
+
+	private Closeable httpClient;
+
+	private boolean closed;
+
+	/**
+	 * Create a new {@link PooledClientHttpRequestFactorySupplier} that uses the default
+	 * settings of the connection pool.
+	 */
+	public PooledClientHttpRequestFactorySupplier() {
+		this(-1, -1, null);
+	}
+
+	private PooledClientHttpRequestFactorySupplier(int maxConnections,
+			int maxConnectionsPerRoute, Duration maxIdleTime) {
+		this.maxConnections = maxConnections;
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	/**
+	 * Return a new supplier that limits the total number of pooled connections.
+	 * @param maxConnections the maximum number of connections, or {@code -1} to use the
+	 * default
+	 * @return a new supplier instance
+	 */
+	public PooledClientHttpRequestFactorySupplier maxConnections(int maxConnections) {
+		return new PooledClientHttpRequestFactorySupplier(maxConnections,
+				this.maxConnectionsPerRoute, this.maxIdleTime);
+	}
+
+	/**
+	 * Return a new supplier that limits the number of pooled connections to each route.
+	 * @param maxConnectionsPerRoute the maximum number of connections per route, or
+	 * {@code -1} to use the default
+	 * @return a new supplier instance
+	 */
+	public PooledClientHttpRequestFactorySupplier maxConnectionsPerRoute(
+			int maxConnectionsPerRoute) {
+		return new PooledClientHttpRequestFactorySupplier(this.maxConnections,
+				maxConnectionsPerRoute, this.maxIdleTime);
+	}
+
+	/**
+	 * Return a new supplier that evicts connections that have been idle in the pool for
+	 * longer than the given time.
+	 * @param maxIdleTime the maximum idle time, or {@code null} to keep idle connections
+	 * @return a new supplier instance
+	 */
+	public PooledClientHttpRequestFactorySupplier maxIdleTime(Duration maxIdleTime) {
+		return new PooledClientHttpRequestFactorySupplier(this.maxConnections,
+				this.maxConnectionsPerRoute, maxIdleTime);
+	}
+
+	@Override
+	public ClientHttpRequestFactory get() {
+		if (HTTP_CLIENT_PRESENT) {
+			return HttpComponentsPoolConfigurer.createRequestFactory(getHttpClient());
+		}
+		return new ClientHttpRequestFactorySupplier().get();
+	}
+
+	private Closeable getHttpClient() {
+		synchronized (this.monitor) {
+			Assert.state(!this.closed, "Request factory supplier has been closed");
+			if (this.httpClient == null) {
+				this.httpClient = HttpComponentsPoolConfigurer.createHttpClient(this);
+			}
+			return this.httpClient;
+		}
+	}
+
+	/**
+	 * Close the pooled HTTP client that is shared by the request factories returned by
+	 * this supplier, if it has been created.
+	 * @throws IOException if the HTTP client cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		Closeable httpClient;
+		synchronized (this.monitor) {
+			this.closed = true;
+			httpClient = this.httpClient;
+			this.httpClient = null;
+		}
+		if (httpClient != null) {
+			httpClient.close();
+		}
+	}
+
+	/**
+	 * Creates a pooled Apache HttpClient and the request factories that share it. Kept
+	 * separate to avoid a hard dependency on Apache HttpClient.
+	 */
+	private static class HttpComponentsPoolConfigurer {
+
+		static ClientHttpRequestFactory createRequestFactory(Closeable httpClient) {
+			return new HttpComponentsClientHttpRequestFactory((HttpClient) httpClient);
+		}
+
+		static Closeable createHttpClient(
+				PooledClientHttpRequestFactorySupplier supplier) {
+			HttpClientBuilder builder = HttpClientBuilder.create().useSystemProperties();
+			if (supplier.maxConnections > 0) {
+				builder.setMaxConnTotal(supplier.maxConnections);
+			}
+			if (supplier.maxConnectionsPerRoute > 0) {
+				builder.setMaxConnPerRoute(supplier.maxConnectionsPerRoute);
+			}
+			if (supplier.maxIdleTime != null) {
+				builder.evictIdleConnections(supplier.maxIdleTime.toMillis(),
+						TimeUnit.MILLISECONDS);
+			}
+			return builder.build();
+		}
+
+	}
+
+}
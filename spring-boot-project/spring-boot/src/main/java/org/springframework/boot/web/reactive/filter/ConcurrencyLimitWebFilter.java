@@ -0,0 +1,147 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.reactive.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * {@link WebFilter} that limits the number of requests that are processed concurrently.
+ * Requests that arrive once the limit has been reached are rejected immediately with a
+ * {@literal 503 Service Unavailable} response rather than being queued. Requests whose
+ * path matches one of the {@link #setExcludedPaths(Collection) excluded paths} are never
+ * rejected and do not count towards the limit.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class ConcurrencyLimitWebFilter implements OrderedWebFilter {
+
+	/**
+	 * The default order is high to ensure that rejected requests do as little work as
+	 * possible. It is lower than that of the filter that records metrics, so that
+	 * rejected requests are still recorded.
+	 */
+	public static final int DEFAULT_ORDER = Ordered.HIGHEST_PRECEDENCE + 2;
+
+	private static final PathMatcher pathMatcher = new AntPathMatcher();
+
+	private final Semaphore permits;
+
+	private final LongAdder rejectedRequests = new LongAdder();
+
+	private final List<String> excludedPaths = new ArrayList<>();
+
+	private int order = DEFAULT_ORDER;
+
+	/**
+	 * Create a new {@link ConcurrencyLimitWebFilter} instance.
+	 * @param maxConcurrentRequests the maximum number of requests that may be processed
+	 * concurrently
+	 */
+	public ConcurrencyLimitWebFilter(int maxConcurrentRequests) {
+		Assert.isTrue(maxConcurrentRequests > 0,
+				"MaxConcurrentRequests must be greater than 0");
+		this.permits = new Semaphore(maxConcurrentRequests);
+	}
+
+	/**
+	 * Set the Ant-style patterns of the paths of requests that should never be rejected.
+	 * @param excludedPaths the excluded paths
+	 */
+	public void setExcludedPaths(Collection<String> excludedPaths) {
+		Assert.notNull(excludedPaths, "ExcludedPaths must not be null");
+		this.excludedPaths.clear();
+		this.excludedPaths.addAll(excludedPaths);
+	}
+
+	/**
+	 * Add Ant-style patterns of the paths of requests that should never be rejected.
+	 * @param excludedPaths the excluded paths to add
+	 */
+	public void addExcludedPaths(String... excludedPaths) {
+		Assert.notNull(excludedPaths, "ExcludedPaths must not be null");
+		this.excludedPaths.addAll(Arrays.asList(excludedPaths));
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Set the order for this filter.
+	 * @param order the order to set
+	 */
+	public void setOrder(int order) {
+		this.order = order;
+	}
+
+	/**
+	 * Return the number of requests that have been rejected because the limit had been
+	 * reached.
+	 * @return the number of rejected requests
+	 */
+	public long getRejectedRequestCount() {
+		return this.rejectedRequests.sum();
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		if (isExcluded(exchange)) {
+			return chain.filter(exchange);
+		}
+		return Mono.defer(() -> {
+			if (!this.permits.tryAcquire()) {
+				this.rejectedRequests.increment();
+				exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+				return exchange.getResponse().setComplete();
+			}
+			return Mono.defer(() -> chain.filter(exchange))
+					.doFinally((signal) -> this.permits.release());
+		});
+	}
+
+	private boolean isExcluded(ServerWebExchange exchange) {
+		if (this.excludedPaths.isEmpty()) {
+			return false;
+		}
+		String path = exchange.getRequest().getPath().pathWithinApplication().value();
+		for (String excludedPath : this.excludedPaths) {
+			if (pathMatcher.match(excludedPath, path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.servlet.filter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * {@link OncePerRequestFilter} that limits the number of requests that are processed
+ * concurrently. Requests that arrive once the limit has been reached are rejected
+ * immediately with a {@literal 503 Service Unavailable} response rather than being
+ * queued. Requests whose path matches one of the {@link #setExcludedPaths(Collection)
+ * excluded paths} are never rejected and do not count towards the limit.
+ *
+ * @author agent
+ * @since 2.2.0
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter
+		implements OrderedFilter {
+
+	/**
+	 * The default order is high to ensure that rejected requests do as little work as
+	 * possible. It is lower than that of the {@link OrderedCharacterEncodingFilter} and
+	 * of the filters that record metrics and render error pages, so that rejected
+	 * requests are still encoded, recorded and rendered consistently.
+	 */
+	public static final int DEFAULT_ORDER = Ordered.HIGHEST_PRECEDENCE + 2;
+
+	private static final PathMatcher pathMatcher = new AntPathMatcher();
+
+	private static final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+	private final Semaphore permits;
+
+	private final LongAdder rejectedRequests = new LongAdder();
+
+	private final List<String> excludedPaths = new ArrayList<>();
+
+	private int order = DEFAULT_ORDER;
+
+	/**
+	 * Create a new {@link ConcurrencyLimitFilter} instance.
+	 * @param maxConcurrentRequests the maximum number of requests that may be processed
+	 * concurrently
+	 */
+	public ConcurrencyLimitFilter(int maxConcurrentRequests) {
+		Assert.isTrue(maxConcurrentRequests > 0,
+				"MaxConcurrentRequests must be greater than 0");
+		this.permits = new Semaphore(maxConcurrentRequests);
+	}
+
+	/**
+	 * Set the Ant-style patterns of the paths of requests that should never be rejected.
+	 * @param excludedPaths the excluded paths
+	 */
+	public void setExcludedPaths(Collection<String> excludedPaths) {
+		Assert.notNull(excludedPaths, "ExcludedPaths must not be null");
+		this.excludedPaths.clear();
+		this.excludedPaths.addAll(excludedPaths);
+	}
+
+	/**
+	 * Add Ant-style patterns of the paths of requests that should never be rejected.
+	 * @param excludedPaths the excluded paths to add
+	 */
+	public void addExcludedPaths(String... excludedPaths) {
+		Assert.notNull(excludedPaths, "ExcludedPaths must not be null");
+		this.excludedPaths.addAll(Arrays.asList(excludedPaths));
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Set the order for this filter.
+	 * @param order the order to set
+	 */
+	public void setOrder(int order) {
+		this.order = order;
+	}
+
+	/**
+	 * Return the number of requests that have been rejected because the limit had been
+	 * reached.
+	 * @return the number of rejected requests
+	 */
+	public long getRejectedRequestCount() {
+		return this.rejectedRequests.sum();
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (this.excludedPaths.isEmpty()) {
+			return false;
+		}
+		String path = urlPathHelper.getPathWithinApplication(request);
+		for (String excludedPath : this.excludedPaths) {
+			if (pathMatcher.match(excludedPath, path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request,
+			HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if (!this.permits.tryAcquire()) {
+			this.rejectedRequests.increment();
+			response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+			return;
+		}
+		boolean release = true;
+		try {
+			filterChain.doFilter(request, response);
+			if (request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new ReleasingAsyncListener());
+				release = false;
+			}
+		}
+		finally {
+			if (release) {
+				this.permits.release();
+			}
+		}
+	}
+
+	/**
+	 * {@link AsyncListener} that releases the permit of an asynchronous request once it
+	 * has completed.
+	 */
+	private class ReleasingAsyncListener implements AsyncListener {
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			ConcurrencyLimitFilter.this.permits.release();
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.client;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.Test;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PooledClientHttpRequestFactorySupplier}.
+ *
+ * @author agent
+ */
+public class PooledClientHttpRequestFactorySupplierTests {
+
+	@Test
+	public void getWithDefaultSettingsShouldUseDefaultPool() {
+		PoolingHttpClientConnectionManager connectionManager = getConnectionManager(
+				new PooledClientHttpRequestFactorySupplier().get());
+		assertThat(connectionManager.getMaxTotal()).isEqualTo(10);
+		assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(5);
+	}
+
+	@Test
+	public void getShouldConfigurePool() {
+		PooledClientHttpRequestFactorySupplier supplier = new PooledClientHttpRequestFactorySupplier()
+				.maxConnections(200).maxConnectionsPerRoute(50)
+				.maxIdleTime(Duration.ofSeconds(30));
+		PoolingHttpClientConnectionManager connectionManager = getConnectionManager(
+				supplier.get());
+		assertThat(connectionManager.getMaxTotal()).isEqualTo(200);
+		assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(50);
+	}
+
+	@Test
+	public void settingsShouldNotMutateOriginalSupplier() {
+		PooledClientHttpRequestFactorySupplier supplier = new PooledClientHttpRequestFactorySupplier();
+		supplier.maxConnectionsPerRoute(50);
+		assertThat(getConnectionManager(supplier.get()).getDefaultMaxPerRoute())
+				.isEqualTo(5);
+	}
+
+	@Test
+	public void getShouldReturnRequestFactoriesThatShareHttpClient() {
+		PooledClientHttpRequestFactorySupplier supplier = new PooledClientHttpRequestFactorySupplier();
+		HttpComponentsClientHttpRequestFactory first = (HttpComponentsClientHttpRequestFactory) supplier
+				.get();
+		HttpComponentsClientHttpRequestFactory second = (HttpComponentsClientHttpRequestFactory) supplier
+				.get();
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.getHttpClient()).isSameAs(second.getHttpClient());
+	}
+
+	@Test
+	public void closeShouldShutDownConnectionPool() throws IOException {
+		PooledClientHttpRequestFactorySupplier supplier = new PooledClientHttpRequestFactorySupplier();
+		PoolingHttpClientConnectionManager connectionManager = getConnectionManager(
+				supplier.get());
+		supplier.close();
+		assertThat(ReflectionTestUtils.getField(connectionManager, "isShutDown"))
+				.hasToString("true");
+		assertThatIllegalStateException().isThrownBy(supplier::get)
+				.withMessageContaining("closed");
+	}
+
+	private PoolingHttpClientConnectionManager getConnectionManager(
+			ClientHttpRequestFactory requestFactory) {
+		assertThat(requestFactory)
+				.isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+		HttpClient httpClient = ((HttpComponentsClientHttpRequestFactory) requestFactory)
+				.getHttpClient();
+		return (PoolingHttpClientConnectionManager) ReflectionTestUtils
+				.getField(httpClient, "connManager");
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.reactive.filter;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ConcurrencyLimitWebFilter}.
+ *
+ * @author agent
+ */
+public class ConcurrencyLimitWebFilterTests {
+
+	private final ConcurrencyLimitWebFilter filter = new ConcurrencyLimitWebFilter(1);
+
+	@Test
+	public void requestBeyondLimitIsRejected() {
+		MonoProcessor<Void> inFlight = MonoProcessor.create();
+		this.filter.filter(exchange("/test"), (exchange) -> inFlight).subscribe();
+		MockServerWebExchange rejected = exchange("/test");
+		this.filter.filter(rejected, (exchange) -> Mono.empty()).block();
+		assertThat(rejected.getResponse().getStatusCode())
+				.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(this.filter.getRejectedRequestCount()).isEqualTo(1);
+		inFlight.onComplete();
+		MockServerWebExchange accepted = exchange("/test");
+		this.filter.filter(accepted, (exchange) -> Mono.empty()).block();
+		assertThat(accepted.getResponse().getStatusCode()).isNull();
+	}
+
+	@Test
+	public void permitIsReleasedWhenChainThrowsSynchronously() {
+		Mono<Void> failed = this.filter.filter(exchange("/test"), (exchange) -> {
+			throw new IllegalStateException("Failure");
+		});
+		assertThatIllegalStateException().isThrownBy(failed::block);
+		MockServerWebExchange accepted = exchange("/test");
+		this.filter.filter(accepted, (exchange) -> Mono.empty()).block();
+		assertThat(accepted.getResponse().getStatusCode()).isNull();
+	}
+
+	@Test
+	public void permitIsNotAcquiredUntilSubscription() {
+		this.filter.filter(exchange("/test"), (exchange) -> MonoProcessor.create());
+		MockServerWebExchange accepted = exchange("/test");
+		this.filter.filter(accepted, (exchange) -> Mono.empty()).block();
+		assertThat(accepted.getResponse().getStatusCode()).isNull();
+	}
+
+	@Test
+	public void requestToExcludedPathIsNotRejected() {
+		this.filter.setExcludedPaths(Collections.singletonList("/actuator/**"));
+		MonoProcessor<Void> inFlight = MonoProcessor.create();
+		this.filter.filter(exchange("/test"), (exchange) -> inFlight).subscribe();
+		MockServerWebExchange excluded = exchange("/actuator/health");
+		this.filter.filter(excluded, (exchange) -> Mono.empty()).block();
+		assertThat(excluded.getResponse().getStatusCode()).isNull();
+	}
+
+	@Test
+	public void requestToAddedExcludedPathIsNotRejected() {
+		this.filter.setExcludedPaths(Collections.singletonList("/health"));
+		this.filter.addExcludedPaths("/actuator/**");
+		MonoProcessor<Void> inFlight = MonoProcessor.create();
+		this.filter.filter(exchange("/test"), (exchange) -> inFlight).subscribe();
+		MockServerWebExchange excluded = exchange("/actuator/health");
+		this.filter.filter(excluded, (exchange) -> Mono.empty()).block();
+		assertThat(excluded.getResponse().getStatusCode()).isNull();
+	}
+
+	private MockServerWebExchange exchange(String path) {
+		return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.web.servlet.filter;
+
+import java.util.Collections;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+
+import org.junit.Test;
+
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConcurrencyLimitFilter}.
+ *
+ * @author agent
+ */
+public class ConcurrencyLimitFilterTests {
+
+	private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1);
+
+	@Test
+	public void requestWithinLimitIsProcessed() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/test"), response,
+				new MockFilterChain());
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	public void requestBeyondLimitIsRejected() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain chain = (request, nestedResponse) -> this.filter.doFilter(
+				new MockHttpServletRequest("GET", "/other"), response,
+				new MockFilterChain());
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/test"),
+				new MockHttpServletResponse(), chain);
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(this.filter.getRejectedRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void permitIsReleasedOnceRequestHasBeenProcessed() throws Exception {
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/test"),
+				new MockHttpServletResponse(), new MockFilterChain());
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/test"), response,
+				new MockFilterChain());
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	public void permitIsReleasedOnceAsyncRequestHasCompleted() throws Exception {
+		MockHttpServletRequest request = startAsyncRequest();
+		assertThat(processRequest().getStatus()).isEqualTo(503);
+		request.getAsyncContext().complete();
+		assertThat(processRequest().getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	public void permitIsReleasedOnceAsyncRequestHasTimedOut() throws Exception {
+		MockHttpServletRequest request = startAsyncRequest();
+		assertThat(processRequest().getStatus()).isEqualTo(503);
+		MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+		// The container completes the request once its timeout has been handled
+		asyncContext.complete();
+		assertThat(processRequest().getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	public void requestToExcludedPathIsNotRejected() throws Exception {
+		this.filter.setExcludedPaths(Collections.singletonList("/actuator/**"));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain chain = (request, nestedResponse) -> this.filter.doFilter(
+				new MockHttpServletRequest("GET", "/actuator/health"), response,
+				new MockFilterChain());
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/test"),
+				new MockHttpServletResponse(), chain);
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	public void requestToAddedExcludedPathIsNotRejected() throws Exception {
+		this.filter.setExcludedPaths(Collections.singletonList("/health"));
+		this.filter.addExcludedPaths("/actuator/**");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain chain = (request, nestedResponse) -> this.filter.doFilter(
+				new MockHttpServletRequest("GET", "/actuator/health"), response,
+				new MockFilterChain());
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/test"),
+				new MockHttpServletResponse(), chain);
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	private MockHttpServletRequest startAsyncRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/async");
+		request.setAsyncSupported(true);
+		this.filter.doFilter(request, new MockHttpServletResponse(),
+				(asyncRequest, asyncResponse) -> asyncRequest.startAsync());
+		assertThat(request.isAsyncStarted()).isTrue();
+		return request;
+	}
+
+	private MockHttpServletResponse processRequest() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/test"), response,
+				new MockFilterChain());
+		return response;
+	}
+
+}